@@ -0,0 +1,238 @@
+/*
+ * index of OBJECT and ARRAY in JSON text
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Boundaries of all OBJECT and ARRAY in the retained JSON text.
+ *
+ * <p>The whole text is validated first,
+ * including the scale of NUMBER as the eager parser,
+ * and the start and end of each OBJECT and ARRAY are recorded
+ * in order of appearance.
+ * Then OBJECT and ARRAY Values are created without children,
+ * which are parsed from the retained text only when accessed.
+ *
+ * @see Json#parseJsonLazy(CharSequence)
+ */
+final class CompositionIndex {
+
+    private static final int DEF_COMPOSITIONS = 64;
+    private static final int DEF_NESTS = 32;
+
+
+    private final char[] text;
+
+    // start index of '{' or '['
+    private int[] starts = new int[DEF_COMPOSITIONS];
+    // end index next to '}' or ']'
+    private int[] ends = new int[DEF_COMPOSITIONS];
+    private int count = 0;
+
+    // PAIR names shared by all OBJECTs
+    private final NameTable names = new NameTable();
+
+
+    /**
+     * Constructor.
+     *
+     * @param text JSON text
+     */
+    private CompositionIndex(char[] text) {
+        super();
+        this.text = text;
+        return;
+    }
+
+
+    /**
+     * Validate JSON text and create root Value whose children are parsed lazily.
+     *
+     * <p>Chars in the range must not be changed after parsing.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     * @return JSON root Value. (OBJECT or ARRAY)
+     *     null when the end of the text is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    static JsComposition<?> parseLazy(char[] text, int start, int end)
+            throws JsParseException, NumberFormatException {
+        JsonSource source = new JsonSource(text, start, end);
+        JsonTokenReader reader = new JsonTokenReader(source);
+        CompositionIndex index = new CompositionIndex(text);
+
+        int[] nest = new int[DEF_NESTS];
+        int depth = 0;
+
+        try {
+            JsonToken token;
+            while ((token = reader.nextToken()) != null) {
+                if (token.isStart()) {
+                    if (depth >= nest.length) {
+                        nest = Arrays.copyOf(nest, depth * 2);
+                    }
+                    nest[depth++] = index.addStart(source.getBufferPosition() - 1);
+                } else if (token.isEnd()) {
+                    index.ends[nest[--depth]] = source.getBufferPosition();
+                } else if (token == JsonToken.NUMBER) {
+                    source.getNumberLexer().checkScale();
+                }
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+
+        if (index.count <= 0) return null;
+        JsComposition<?> result = index.newComposition(0);
+
+        return result;
+    }
+
+    /**
+     * Record the start of OBJECT or ARRAY.
+     *
+     * @param start start index
+     * @return id of OBJECT or ARRAY
+     */
+    private int addStart(int start) {
+        if (this.count >= this.starts.length) {
+            int newLength = this.count * 2;
+            this.starts = Arrays.copyOf(this.starts, newLength);
+            this.ends = Arrays.copyOf(this.ends, newLength);
+        }
+        int result = this.count++;
+        this.starts[result] = start;
+        return result;
+    }
+
+    /**
+     * Create OBJECT or ARRAY Value whose children are parsed lazily.
+     *
+     * @param id id of OBJECT or ARRAY
+     * @return OBJECT or ARRAY Value
+     */
+    private JsComposition<?> newComposition(int id) {
+        JsComposition<?> result;
+        if (this.text[this.starts[id]] == '{') {
+            result = new JsObject(this, id);
+        } else {
+            result = new JsArray(this, id);
+        }
+        return result;
+    }
+
+    /**
+     * Create source of children of OBJECT or ARRAY.
+     *
+     * @param id id of OBJECT or ARRAY
+     * @return source next to the open bracket
+     */
+    private JsonSource childSource(int id) {
+        JsonSource result =
+                new JsonSource(this.text, this.starts[id] + 1, this.ends[id]);
+        result.setNameTable(this.names);
+        return result;
+    }
+
+    /**
+     * Parse child Value.
+     *
+     * <p>OBJECT and ARRAY are skipped and created without children.
+     *
+     * @param source source
+     * @return Value
+     * @throws IOException never
+     * @throws JsParseException never
+     */
+    private JsValue parseChild(JsonSource source)
+            throws IOException, JsParseException {
+        source.skipWhiteSpace();
+
+        char head = source.peekOrDie();
+        if (head != '{' && head != '[') {
+            return Json.parseValue(source);
+        }
+
+        int start = source.getBufferPosition();
+        int id = Arrays.binarySearch(this.starts, 0, this.count, start);
+        assert id > 0;
+        source.setBufferPosition(this.ends[id]);
+
+        JsValue result = newComposition(id);
+
+        return result;
+    }
+
+    /**
+     * Put PAIRs into OBJECT.
+     *
+     * @param object OBJECT Value
+     * @param id id of OBJECT
+     */
+    void fillObject(JsObject object, int id) {
+        JsonSource source = childSource(id);
+
+        try {
+            for (;;) {
+                source.skipWhiteSpace();
+                char chData = source.readOrDie();
+                if (chData == '}') break;
+                if (chData == ',') {
+                    source.skipWhiteSpace();
+                    chData = source.readOrDie();
+                }
+                assert chData == '"';
+
+                String name = JsString.parseNameText(source);
+                source.skipWhiteSpace();
+                chData = source.readOrDie();
+                assert chData == ':';
+
+                JsValue value = parseChild(source);
+                object.putValue(name, value);
+            }
+        } catch (IOException | JsParseException e) {
+            throw new AssertionError(e);
+        }
+
+        return;
+    }
+
+    /**
+     * Add child Values into ARRAY.
+     *
+     * @param array ARRAY Value
+     * @param id id of ARRAY
+     */
+    void fillArray(JsArray array, int id) {
+        JsonSource source = childSource(id);
+
+        try {
+            for (;;) {
+                source.skipWhiteSpace();
+                char chData = source.peekOrDie();
+                if (chData == ']') break;
+                if (chData == ',') source.read();
+
+                JsValue value = parseChild(source);
+                array.add(value);
+            }
+        } catch (IOException | JsParseException e) {
+            throw new AssertionError(e);
+        }
+
+        return;
+    }
+
+}
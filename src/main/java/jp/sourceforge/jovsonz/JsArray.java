@@ -31,15 +31,21 @@
 public class JsArray
         implements JsComposition<JsValue> {
 
-    private static final String ERRMSG_NOARRAYCOMMA =
+    /** ERROR MESSAGE: missing comma. */
+    static final String ERRMSG_NOARRAYCOMMA =
             "missing comma in ARRAY";
-    private static final String ERRMSG_NOELEM =
+    /** ERROR MESSAGE: missing element. */
+    static final String ERRMSG_NOELEM =
             "missing element in ARRAY";
 
 
     private final List<JsValue> valueList = new LinkedList<>();
     private boolean changed = false;
 
+    // children not parsed yet if not null
+    private CompositionIndex lazyIndex = null;
+    private int lazyId = 0;
+
 
     /**
      * Constructor.
@@ -49,55 +55,60 @@ public JsArray() {
         return;
     }
 
+    /**
+     * Constructor.
+     *
+     * <p>Child Values are parsed from the index when accessed.
+     *
+     * @param index index of JSON text
+     * @param id id of this ARRAY in the index
+     */
+    JsArray(CompositionIndex index, int id) {
+        this();
+        this.lazyIndex = index;
+        this.lazyId = id;
+        return;
+    }
+
 
     /**
      * Try parsing ARRAY Value from JSON source.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
-     * <p>In addition, the parsing process may proceed recursively to child Values.
+     * <p>Nested child Values are parsed without recursive calls.
      *
      * @param source input source
      * @return ARRAY typed Value. null if another possible type.
      * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
+     * @throws JsParseException invalid token, EOF or too deep nesting
      * @throws NullPointerException argument is null
+     * @see TreeParser
      */
     static JsArray parseArray(JsonSource source)
             throws IOException, JsParseException {
-        char charHead = source.readOrDie();
-        if (charHead != '[') {
-            source.unread(charHead);
-            return null;
-        }
-
-        JsArray result = new JsArray();
+        char charHead = source.peekOrDie();
+        if (charHead != '[') return null;
 
-        for (;;) {
-            source.skipWhiteSpace();
-            char chData = source.readOrDie();
-            if (chData == ']') break;
+        JsArray result =
+                (JsArray) source.getTreeParser().parseValue(source);
 
-            if (result.isEmpty()) {
-                source.unread(chData);
-            } else {
-                if (chData != ',') {
-                    throw new JsParseException(ERRMSG_NOARRAYCOMMA,
-                                               source.getLineNumber() );
-                }
-            }
+        return result;
+    }
 
-            JsValue value = Json.parseValue(source);
-            if (value == null) {
-                throw new JsParseException(ERRMSG_NOELEM,
-                                           source.getLineNumber() );
-            }
+    /**
+     * Parse child Values not parsed yet.
+     */
+    private void materialize() {
+        CompositionIndex index = this.lazyIndex;
+        if (index == null) return;
 
-            result.add(value);
-        }
+        this.lazyIndex = null;
+        index.fillArray(this, this.lazyId);
+        this.changed = false;
 
-        return result;
+        return;
     }
 
     /**
@@ -124,6 +135,7 @@ public JsTypes getJsTypes() {
     @Override
     public boolean hasChanged() {
         if (this.changed) return true;
+        if (this.lazyIndex != null) return false;
 
         for (JsValue value : this.valueList) {
             if ( !(value instanceof JsComposition) ) continue;
@@ -140,6 +152,7 @@ public boolean hasChanged() {
     @Override
     public void setUnchanged() {
         this.changed = false;
+        if (this.lazyIndex != null) return;
 
         for (JsValue value : this.valueList) {
             if ( !(value instanceof JsComposition) ) continue;
@@ -161,6 +174,7 @@ public void setUnchanged() {
      */
     @Override
     public void traverse(ValueVisitor visitor) throws JsVisitException {
+        materialize();
         visitor.visitValue(this);
 
         for (JsValue value : this.valueList) {
@@ -181,6 +195,7 @@ public void traverse(ValueVisitor visitor) throws JsVisitException {
      */
     @Override
     public int size() {
+        materialize();
         return this.valueList.size();
     }
 
@@ -191,6 +206,7 @@ public int size() {
      */
     @Override
     public boolean isEmpty() {
+        materialize();
         return this.valueList.isEmpty();
     }
 
@@ -199,6 +215,7 @@ public boolean isEmpty() {
      */
     @Override
     public void clear() {
+        materialize();
         if (!this.valueList.isEmpty()) this.changed = true;
         this.valueList.clear();
         return;
@@ -214,6 +231,7 @@ public void clear() {
      */
     public void add(JsValue value) {
         Objects.requireNonNull(value);
+        materialize();
         this.valueList.add(value);
         this.changed = true;
         return;
@@ -227,6 +245,7 @@ public void add(JsValue value) {
      * @throws IndexOutOfBoundsException if the index is out of range
      */
     public JsValue get(int index) {
+        materialize();
         return this.valueList.get(index);
     }
 
@@ -247,6 +266,7 @@ public JsValue get(int index) {
     // TODO Is it really necessary?
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
     public boolean remove(JsValue value) {
+        materialize();
         boolean removed = false;
 
         Iterator<JsValue> it = this.valueList.iterator();
@@ -271,6 +291,7 @@ public boolean remove(JsValue value) {
      * @throws IndexOutOfBoundsException if the index is out of range
      */
     public JsValue remove(int index) {
+        materialize();
         JsValue removed = this.valueList.remove(index);
         this.changed = true;
         return removed;
@@ -286,6 +307,7 @@ public JsValue remove(int index) {
      */
     @Override
     public Iterator<JsValue> iterator() {
+        materialize();
         return UnmodIterator.unmodIterator(this.valueList);
     }
 
@@ -300,6 +322,7 @@ public Iterator<JsValue> iterator() {
      */
     @Override
     public int hashCode() {
+        materialize();
         return this.valueList.hashCode();
     }
 
@@ -320,6 +343,8 @@ public boolean equals(Object obj) {
 
         if ( !(obj instanceof JsArray) ) return false;
         JsArray array = (JsArray) obj;
+        materialize();
+        array.materialize();
 
         return this.valueList.equals(array.valueList);
     }
@@ -333,6 +358,8 @@ public boolean equals(Object obj) {
     public String toString() {
         StringBuilder text = new StringBuilder();
 
+        materialize();
+
         text.append('[');
         boolean hasElem = false;
         for (JsValue value : this.valueList) {
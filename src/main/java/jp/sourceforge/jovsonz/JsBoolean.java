@@ -53,8 +53,8 @@ private JsBoolean() {
     /**
      * Try parsing BOOLEAN Value from JSON source.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
      * @param source input source
      * @return BOOLEAN typed Value. null if another possible type.
@@ -67,9 +67,10 @@ static JsBoolean parseBoolean(JsonSource source)
         JsBoolean result = null;
         boolean hasError = false;
 
-        char charHead = source.readOrDie();
+        char charHead = source.peekOrDie();
         switch (charHead) {
         case 't':
+            source.read();
             if (source.matchOrDie("rue")) {
                 result = JsBoolean.TRUE;
             } else {
@@ -77,6 +78,7 @@ static JsBoolean parseBoolean(JsonSource source)
             }
             break;
         case 'f':
+            source.read();
             if (source.matchOrDie("alse")) {
                 result = JsBoolean.FALSE;
             } else {
@@ -84,13 +86,12 @@ static JsBoolean parseBoolean(JsonSource source)
             }
             break;
         default:
-            source.unread(charHead);
             break;
         }
 
         if (hasError) {
-            throw new JsParseException(JsParseException.ERRMSG_INVALIDTOKEN,
-                                       source.getLineNumber() );
+            char next = (char) source.peek();
+            throw source.newParseException(JsParseException.ERRMSG_INVALIDTOKEN, next);
         }
 
         return result;
@@ -46,8 +46,8 @@ private JsNull() {
     /**
      * Try parsing NULL value from JSON source.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
      * @param source input source
      * @return NULL typed value. null if another possible type.
@@ -57,16 +57,13 @@ private JsNull() {
      */
     static JsNull parseNull(JsonSource source)
             throws IOException, JsParseException {
-        char charHead = source.readOrDie();
-
-        if (charHead != 'n') {
-            source.unread(charHead);
-            return null;
-        }
+        char charHead = source.peekOrDie();
+        if (charHead != 'n') return null;
+        source.read();
 
         if ( !source.matchOrDie("ull") ) {
-            throw new JsParseException(JsParseException.ERRMSG_INVALIDTOKEN,
-                                       source.getLineNumber() );
+            char next = (char) source.peek();
+            throw source.newParseException(JsParseException.ERRMSG_INVALIDTOKEN, next);
         }
 
         return JsNull.NULL;
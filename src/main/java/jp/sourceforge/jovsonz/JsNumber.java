@@ -22,6 +22,11 @@
  * <p>{@link java.math.BigDecimal} as the base of the implementation.
  * * Not IEEE754 floating point number.
  *
+ * <p>Internally, the value is held as long unscaled value and scale,
+ * or as double value given to the constructor,
+ * and converted to {@link java.math.BigDecimal} only when needed.
+ * The behavior is the same as holding {@link java.math.BigDecimal}.
+ *
  * <p>{@code (1)} and {@code (1.0)} are distinguished by scale parameter.
  *
  * <p>example of notation
@@ -40,15 +45,50 @@
     private static final MathContext DEF_MC =
             new MathContext(0, RoundingMode.UNNECESSARY);
 
-    private static final String ERRMSG_INVFRAC =
-            "invalid fractional number";
-    private static final String ERRMSG_NONUMBER =
-            "no number";
-    private static final String ERRMSG_EXTRAZERO =
-            "extra zero found";
-
-
-    private final BigDecimal decimal;
+    private static final int MAX_FAST_PRECISION = 15;
+
+    private static final String ERRMSG_NOTFINITE = "Infinite or NaN";
+
+    private static final long DECIMAL_BASE = 10L;
+    private static final int HASH_MULT = 31;
+    private static final int HALF_BITS = 32;
+    private static final long LOWER_MASK = 0xffff_ffffL;
+    private static final int MIN_ADJUSTED = -6;
+    // doubles below this are converted exactly without decimal text
+    private static final double TWO_POW53 = 0x1p53;
+    private static final long[] POW10 = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L,
+    };
+
+
+    // true if unscaled value and scale
+    private final boolean isCompact;
+    // true if double value
+    private final boolean isDouble;
+    // unscaled value, or raw bits of double value
+    private final long bits;
+    private final int compactScale;
+
+    // null if not converted yet
+    private BigDecimal decimal;
 
 
     /**
@@ -57,7 +97,7 @@
      * @param val initial integer value
      */
     public JsNumber(long val) {
-        this(BigDecimal.valueOf(val));
+        this(val, 0);
         return;
     }
 
@@ -74,7 +114,18 @@ public JsNumber(long val) {
      * @see java.math.BigDecimal#valueOf(double)
      */
     public JsNumber(double val) {
-        this(BigDecimal.valueOf(val));
+        super();
+
+        if (Double.isNaN(val) || Double.isInfinite(val)) {
+            throw new NumberFormatException(ERRMSG_NOTFINITE);
+        }
+
+        this.isCompact = false;
+        this.isDouble = true;
+        this.bits = Double.doubleToRawLongBits(val);
+        this.compactScale = 0;
+        this.decimal = null;
+
         return;
     }
 
@@ -113,10 +164,40 @@ public JsNumber(CharSequence val) {
      */
     public JsNumber(BigDecimal val) {
         super();
+        this.isCompact = false;
+        this.isDouble = false;
+        this.bits = 0L;
+        this.compactScale = 0;
         this.decimal = Objects.requireNonNull(val);
         return;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param unscaled unscaled value
+     * @param scale scale
+     * @see java.math.BigDecimal#valueOf(long, int)
+     */
+    JsNumber(long unscaled, int scale) {
+        super();
+
+        // Long.MIN_VALUE is not compact in BigDecimal#hashCode()
+        if (unscaled == Long.MIN_VALUE) {
+            this.isCompact = false;
+            this.decimal = BigDecimal.valueOf(unscaled, scale);
+        } else {
+            this.isCompact = true;
+            this.decimal = null;
+        }
+
+        this.isDouble = false;
+        this.bits = unscaled;
+        this.compactScale = scale;
+
+        return;
+    }
+
 
     /**
      * Determine if any character is Unicode Basic-Latin number or not.
@@ -133,168 +214,93 @@ public static boolean isLatinDigit(char ch) {
     }
 
     /**
-     * Read a sequence of digits with leading sign from input source.
+     * Try parsing NUMBER Value from JSON source.
      *
-     * <p>The leading sign '+' is skipped.
-     * Can specify whether or not to allow digits following '0' at the beginning.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
      * @param source input source
-     * @param app output target
-     * @param allowZeroTrail true if allow digits following '0' at the beginning.
-     * @return Same as output argument
+     * @return NUMBER typed Value. null if another possible type.
      * @throws IOException I/O error
      * @throws JsParseException invalid token or EOF
+     * @throws NullPointerException argument is null
      */
-    private static Appendable appendDigitText(JsonSource source,
-                                               Appendable app,
-                                               boolean allowZeroTrail)
+    static JsNumber parseNumber(JsonSource source)
             throws IOException, JsParseException {
-        char head = source.readOrDie();
-        if (head == '-') {
-            app.append('-');
-        } else if (head != '+') {
-            source.unread(head);
+        char charHead = source.peekOrDie();
+        if ( charHead != '-' && !JsNumber.isLatinDigit(charHead) ) {
+            return null;
         }
 
-        boolean hasAppended = false;
-        boolean zeroStarted = false;    // leading 0
-        for (;;) {
-            if ( !source.hasMore() && hasAppended ) break;
-
-            char readedCh = source.readOrDie();
-
-            if ( !isLatinDigit(readedCh) ) {
-                if ( !hasAppended ) {
-                    throw new JsParseException(ERRMSG_NONUMBER,
-                                               source.getLineNumber() );
-                }
-                source.unread(readedCh);
-                break;
-            }
+        NumberLexer lexer = source.getNumberLexer();
+        lexer.lex(source, null);
 
-            if (hasAppended) {
-                if (zeroStarted && !allowZeroTrail) {
-                    throw new JsParseException(ERRMSG_EXTRAZERO,
-                                               source.getLineNumber() );
-                }
-            } else {                       // 1st char
-                if (readedCh == '0') {
-                    zeroStarted = true;
-                }
-            }
-
-            app.append(readedCh);
-            hasAppended = true;
-        }
+        JsNumber result = lexer.toNumber();
 
-        return app;
+        return result;
     }
 
     /**
-     * Read a sequence of fraction digits with leading dot'.' from input source.
+     * Return long value of unscaled value and scale.
      *
-     * <p>If no fraction digits, do nothing and return.
+     * <p>Same as {@link java.math.BigDecimal#longValue()}.
+     * Fraction is truncated and only low-order 64 bits are returned.
      *
-     * @param source input source
-     * @param app output target
-     * @return Same as output argument
-     * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
+     * @param unscaled unscaled value
+     * @param scale scale
+     * @return long value
      */
-    private static Appendable appendFractionPart(JsonSource source,
-                                                  Appendable app )
-            throws IOException, JsParseException {
-        if ( !source.hasMore() ) return app;
-
-        char chData;
-
-        chData = source.readOrDie();
-        if (chData != '.') {
-            source.unread(chData);
-            return app;
-        }
-
-        app.append('.');
-
-        boolean hasAppended = false;
-        for (;;) {
-            if ( !source.hasMore() && hasAppended ) break;
-
-            chData = source.readOrDie();
-
-            if ( !isLatinDigit(chData) ) {
-                if ( !hasAppended ) {
-                    throw new JsParseException(ERRMSG_INVFRAC,
-                                               source.getLineNumber());
-                }
-                source.unread(chData);
-                break;
-            }
-
-            app.append(chData);
-            hasAppended = true;
-        }
-
-        return app;
-    }
+    private static long compactLongValue(long unscaled, int scale) {
+        if (scale >= POW10.length) return 0L;
+        if (scale >= 0) return unscaled / POW10[scale];
 
-    /**
-     * Read a sequence of exponential digits with leading 'e' or 'E' from input source.
-     *
-     * <p>If no exponential digits, do nothing and return.
-     *
-     * @param source input source
-     * @param app output target
-     * @return Same as output argument
-     * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
-     */
-    private static Appendable appendExpPart(JsonSource source,
-                                            Appendable app )
-            throws IOException, JsParseException {
-        if ( !source.hasMore() ) return app;
+        // 10^64 is a multiple of 2^64
+        if (scale <= -Long.SIZE) return 0L;
 
-        char chData = source.readOrDie();
-        if (chData != 'e' && chData != 'E') {
-            source.unread(chData);
-            return app;
+        long result = unscaled;
+        for (int ct = scale; ct < 0; ct++) {
+            result *= DECIMAL_BASE;
         }
 
-        app.append('E');
-
-        appendDigitText(source, app, true);
-
-        return app;
+        return result;
     }
 
     /**
-     * Try parsing NUMBER Value from JSON source.
+     * Return plain notation of unscaled value and scale.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>Same as {@link java.math.BigDecimal#toString()}
+     * if exponential notation is not needed.
      *
-     * @param source input source
-     * @return NUMBER typed Value. null if another possible type.
-     * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
-     * @throws NullPointerException argument is null
+     * @param unscaled unscaled value
+     * @param scale scale
+     * @return notation. null if exponential notation is needed.
      */
-    static JsNumber parseNumber(JsonSource source)
-            throws IOException, JsParseException {
-        char charHead = source.readOrDie();
-        source.unread(charHead);
-        if ( charHead != '-' && !JsNumber.isLatinDigit(charHead) ) {
-            return null;
+    private static String compactToString(long unscaled, int scale) {
+        if (scale == 0) return Long.toString(unscaled);
+        if (scale < 0) return null;
+
+        String digits = Long.toString(Math.abs(unscaled));
+        int digitsLength = digits.length();
+        int adjusted = digitsLength - 1 - scale;
+        if (adjusted < MIN_ADJUSTED) return null;
+
+        StringBuilder text = new StringBuilder();
+        if (unscaled < 0) text.append('-');
+
+        int intLength = digitsLength - scale;
+        if (intLength > 0) {
+            text.append(digits, 0, intLength);
+            text.append('.');
+            text.append(digits, intLength, digitsLength);
+        } else {
+            text.append("0.");
+            for (int ct = intLength; ct < 0; ct++) {
+                text.append('0');
+            }
+            text.append(digits);
         }
 
-        StringBuilder numText = new StringBuilder();
-
-        appendDigitText(    source, numText, false);
-        appendFractionPart( source, numText );
-        appendExpPart(      source, numText );
-
-        JsNumber result = new JsNumber(numText);
-
+        String result = text.toString();
         return result;
     }
 
@@ -337,7 +343,17 @@ public void traverse(ValueVisitor visitor)
      */
     @Override
     public int hashCode() {
-        return this.decimal.hashCode();
+        if ( !this.isCompact ) return decimalValue().hashCode();
+
+        long unscaled = this.bits;
+        long absVal = Math.abs(unscaled);
+        int temp = (int) ((int) (absVal >>> HALF_BITS) * HASH_MULT
+                          + (absVal & LOWER_MASK) );
+        if (unscaled < 0) temp = -temp;
+
+        int result = HASH_MULT * temp + this.compactScale;
+
+        return result;
     }
 
     /**
@@ -358,7 +374,14 @@ public boolean equals(Object obj) {
         if (this == obj) return true;
         if ( !(obj instanceof JsNumber) ) return false;
         JsNumber number = (JsNumber) obj;
-        return this.decimal.equals(number.decimal);
+
+        if (this.isCompact && number.isCompact) {
+            boolean result = this.bits == number.bits
+                          && this.compactScale == number.compactScale;
+            return result;
+        }
+
+        return decimalValue().equals(number.decimalValue());
     }
 
     /**
@@ -378,7 +401,13 @@ public boolean equals(Object obj) {
     @Override
     public int compareTo(JsNumber value) {
         if (this == value) return 0;
-        return this.decimal.compareTo(value.decimal);
+
+        if (   this.isCompact && value.isCompact
+            && this.compactScale == value.compactScale ) {
+            return Long.compare(this.bits, value.bits);
+        }
+
+        return decimalValue().compareTo(value.decimalValue());
     }
 
     /**
@@ -392,7 +421,7 @@ public int compareTo(JsNumber value) {
      * @see java.math.BigDecimal#intValue()
      */
     public int intValue() {
-        return this.decimal.intValue();
+        return (int) longValue();
     }
 
     /**
@@ -406,7 +435,16 @@ public int intValue() {
      * @see java.math.BigDecimal#longValue()
      */
     public long longValue() {
-        return this.decimal.longValue();
+        if (this.isCompact) {
+            return compactLongValue(this.bits, this.compactScale);
+        }
+
+        if (this.isDouble) {
+            double dVal = Double.longBitsToDouble(this.bits);
+            if (-TWO_POW53 < dVal && dVal < TWO_POW53) return (long) dVal;
+        }
+
+        return decimalValue().longValue();
     }
 
     /**
@@ -420,7 +458,10 @@ public long longValue() {
      * @see java.math.BigDecimal#floatValue()
      */
     public float floatValue() {
-        return this.decimal.floatValue();
+        if (this.isCompact && this.compactScale == 0) {
+            return (float) this.bits;
+        }
+        return decimalValue().floatValue();
     }
 
     /**
@@ -428,13 +469,29 @@ public float floatValue() {
      *
      * <p>Potential loss of information.
      *
+     * <p>Values with no more than 15 digits and small scale
+     * are converted without text conversion.
+     *
      * @return double value
      *
      * @see java.lang.Number#doubleValue()
      * @see java.math.BigDecimal#doubleValue()
      */
     public double doubleValue() {
-        return this.decimal.doubleValue();
+        if (this.isDouble) return Double.longBitsToDouble(this.bits);
+
+        if (this.isCompact) {
+            double result = NumberLexer.fastDouble(this.bits, this.compactScale);
+            if ( !Double.isNaN(result) ) return result;
+        }
+
+        BigDecimal dec = decimalValue();
+        if (dec.precision() <= MAX_FAST_PRECISION) {
+            long unscaled = dec.unscaledValue().longValue();
+            double result = NumberLexer.fastDouble(unscaled, dec.scale());
+            if ( !Double.isNaN(result) ) return result;
+        }
+        return dec.doubleValue();
     }
 
     /**
@@ -443,7 +500,17 @@ public double doubleValue() {
      * @return BigDecimal value
      */
     public BigDecimal decimalValue() {
-        return this.decimal;
+        BigDecimal result = this.decimal;
+        if (result != null) return result;
+
+        if (this.isDouble) {
+            result = BigDecimal.valueOf(Double.longBitsToDouble(this.bits));
+        } else {
+            result = BigDecimal.valueOf(this.bits, this.compactScale);
+        }
+        this.decimal = result;
+
+        return result;
     }
 
     /**
@@ -462,7 +529,8 @@ public BigDecimal decimalValue() {
      * @see java.math.BigDecimal#scale()
      */
     public int scale() {
-        return this.decimal.scale();
+        if (this.isCompact) return this.compactScale;
+        return decimalValue().scale();
     }
 
     /**
@@ -474,7 +542,11 @@ public int scale() {
      */
     @Override
     public String toString() {
-        return this.decimal.toString();
+        if (this.isCompact) {
+            String result = compactToString(this.bits, this.compactScale);
+            if (result != null) return result;
+        }
+        return decimalValue().toString();
     }
 
 }
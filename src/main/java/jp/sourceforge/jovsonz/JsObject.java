@@ -36,13 +36,17 @@
 public class JsObject
         implements JsComposition<JsPair> {
 
-    private static final String ERRMSG_NOOBJECTCOMMA =
+    /** ERROR MESSAGE: missing comma. */
+    static final String ERRMSG_NOOBJECTCOMMA =
             "missing comma in OBJECT";
-    private static final String ERRMSG_NOHASHNAME =
+    /** ERROR MESSAGE: no PAIR name. */
+    static final String ERRMSG_NOHASHNAME =
             "no hash name in OBJECT";
-    private static final String ERRMSG_NOHASHSEP =
+    /** ERROR MESSAGE: missing PAIR separator. */
+    static final String ERRMSG_NOHASHSEP =
             "missing hash separator(:) in OBJECT";
-    private static final String ERRMSG_NOHASHVAL =
+    /** ERROR MESSAGE: no PAIR value. */
+    static final String ERRMSG_NOHASHVAL =
             "no hash value in OBJECT";
 
     private final Map<String, JsPair> pairMap =
@@ -51,6 +55,10 @@
 
     private boolean changed = false;
 
+    // children not parsed yet if not null
+    private CompositionIndex lazyIndex = null;
+    private int lazyId = 0;
+
 
     /**
      * Constructor.
@@ -60,72 +68,63 @@ public JsObject() {
         return;
     }
 
+    /**
+     * Constructor.
+     *
+     * <p>PAIRs are parsed from the index when accessed.
+     *
+     * @param index index of JSON text
+     * @param id id of this OBJECT in the index
+     */
+    JsObject(CompositionIndex index, int id) {
+        this();
+        this.lazyIndex = index;
+        this.lazyId = id;
+        return;
+    }
+
 
     /**
      * Try parsing OBJECT Value from JSON source.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
-     * <p>In addition, the parsing process may proceed recursively to PAIRs.
+     * <p>Nested PAIRs are parsed without recursive calls.
      *
      * @param source input source
      * @return OBJECT typed Value. null if another possible type.
      * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
+     * @throws JsParseException invalid token, EOF or too deep nesting
      * @throws NullPointerException argument is null
+     * @see TreeParser
      */
     static JsObject parseObject(JsonSource source)
             throws IOException, JsParseException {
-        char charHead = source.readOrDie();
-        if (charHead != '{') {
-            source.unread(charHead);
-            return null;
-        }
+        char charHead = source.peekOrDie();
+        if (charHead != '{') return null;
 
-        JsObject result = new JsObject();
-
-        for (;;) {
-            source.skipWhiteSpace();
-            char chData = source.readOrDie();
-            if (chData == '}') break;
-
-            if (result.isEmpty()) {
-                source.unread(chData);
-            } else {
-                if (chData != ',') {
-                    throw new JsParseException(ERRMSG_NOOBJECTCOMMA,
-                                               source.getLineNumber() );
-                }
-                source.skipWhiteSpace();
-            }
-
-            JsString name = JsString.parseString(source);
-            if (name == null) {
-                throw new JsParseException(ERRMSG_NOHASHNAME,
-                                           source.getLineNumber() );
-            }
-
-            source.skipWhiteSpace();
-            chData = source.readOrDie();
-            if (chData != ':') {
-                throw new JsParseException(ERRMSG_NOHASHSEP,
-                                           source.getLineNumber() );
-            }
-
-            JsValue value = Json.parseValue(source);
-            if (value == null) {
-                throw new JsParseException(ERRMSG_NOHASHVAL,
-                                           source.getLineNumber() );
-            }
-
-            result.putValue(name.toRawString(), value);
-        }
+        JsObject result =
+                (JsObject) source.getTreeParser().parseValue(source);
 
         return result;
     }
 
 
+    /**
+     * Parse PAIRs not parsed yet.
+     */
+    private void materialize() {
+        CompositionIndex index = this.lazyIndex;
+        if (index == null) return;
+
+        this.lazyIndex = null;
+        index.fillObject(this, this.lazyId);
+        this.changed = false;
+
+        return;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -150,6 +149,7 @@ public JsTypes getJsTypes() {
     @Override
     public boolean hasChanged() {
         if (this.changed) return true;
+        if (this.lazyIndex != null) return false;
 
         for (JsPair pair : this) {
             JsValue value = pair.getValue();
@@ -167,6 +167,7 @@ public boolean hasChanged() {
     @Override
     public void setUnchanged() {
         this.changed = false;
+        if (this.lazyIndex != null) return;
 
         for (JsPair pair : this) {
             JsValue value = pair.getValue();
@@ -212,6 +213,7 @@ public void traverse(ValueVisitor visitor) throws JsVisitException {
      */
     @Override
     public int size() {
+        materialize();
         return this.pairMap.size();
     }
 
@@ -222,6 +224,7 @@ public int size() {
      */
     @Override
     public boolean isEmpty() {
+        materialize();
         return this.pairMap.isEmpty();
     }
 
@@ -230,6 +233,7 @@ public boolean isEmpty() {
      */
     @Override
     public void clear() {
+        materialize();
         if (!this.pairMap.isEmpty()) this.changed = true;
         this.pairMap.clear();
         return;
@@ -246,6 +250,7 @@ public void clear() {
     public JsValue putValue(String name, JsValue value) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(value);
+        materialize();
 
         JsValue oldValue = null;
         JsPair oldPair = this.pairMap.get(name);
@@ -269,6 +274,7 @@ public JsValue putValue(String name, JsValue value) {
      * @return associated Value, or null if this OBJECT contains no mapping for the name
      */
     public JsValue getValue(String name) {
+        materialize();
         JsPair pair = this.pairMap.get(name);
         if (pair == null) return null;
         JsValue value = pair.getValue();
@@ -284,6 +290,7 @@ public JsValue getValue(String name) {
      * @param pair PAIR
      */
     public void putPair(JsPair pair) {
+        materialize();
         this.pairMap.put(pair.getName(), pair);
         return;
     }
@@ -310,6 +317,7 @@ public JsPair getPair(String name) {
      *     or null if there was no mapping for name.
      */
     public JsPair remove(String name) {
+        materialize();
         JsPair oldPair = this.pairMap.remove(name);
         if (oldPair != null) this.changed = true;
 
@@ -322,6 +330,7 @@ public JsPair remove(String name) {
      * @return set of names
      */
     public Set<String> nameSet() {
+        materialize();
         return this.pairMap.keySet();
     }
 
@@ -335,6 +344,7 @@ public Set<String> nameSet() {
      * @return list of PAIRs
      */
     public List<JsPair> getPairList() {
+        materialize();
         List<JsPair> result = new ArrayList<>(this.pairMap.size());
 
         for (JsPair pair : this) {
@@ -355,6 +365,7 @@ public List<JsPair> getPairList() {
      */
     @Override
     public Iterator<JsPair> iterator() {
+        materialize();
         return UnmodIterator.unmodIterator(this.pairCollection);
     }
 
@@ -369,6 +380,7 @@ public Iterator<JsPair> iterator() {
      */
     @Override
     public int hashCode() {
+        materialize();
         return this.pairMap.hashCode();
     }
 
@@ -389,6 +401,8 @@ public boolean equals(Object obj) {
 
         if ( !(obj instanceof JsObject) ) return false;
         JsObject composit = (JsObject) obj;
+        materialize();
+        composit.materialize();
 
         return this.pairMap.equals(composit.pairMap);
     }
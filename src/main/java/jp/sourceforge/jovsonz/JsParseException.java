@@ -22,12 +22,21 @@ public class JsParseException extends Exception {
     /** ERROR MESSAGE: no more data. */
     static final String ERRMSG_NODATA =
             "We need but no more JSON data";
+    /** ERROR MESSAGE: too deep nesting. */
+    static final String ERRMSG_TOODEEP =
+            "too deep nesting of OBJECT and ARRAY";
 
     private static final int LINE_UNKNOWN = 0;
+    private static final int COLUMN_UNKNOWN = 0;
+    private static final long OFFSET_UNKNOWN = -1L;
 
 
     /** line number. */
     private final int lineNumber;
+    /** column. */
+    private final int column;
+    /** char offset. */
+    private final long offset;
 
 
     /**
@@ -60,8 +69,46 @@ public JsParseException(String message, int lineNumber) {
      *     If the line number is unknown, the value is less than or equal to 0.
      */
     public JsParseException(String message, Throwable cause, int lineNumber) {
+        this(message, cause, lineNumber, COLUMN_UNKNOWN, OFFSET_UNKNOWN);
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param message the detail message. (A {@code null} value is permitted)
+     * @param lineNumber line number where the JSON grammar violation occurred.
+     *     If the line number is unknown, the value is less than or equal to 0.
+     * @param column column where the JSON grammar violation occurred.
+     *     If the column is unknown, the value is less than or equal to 0.
+     * @param offset char offset where the JSON grammar violation occurred.
+     *     If the offset is unknown, the value is negative.
+     */
+    public JsParseException(String message,
+                            int lineNumber, int column, long offset) {
+        this(message, (Throwable) null, lineNumber, column, offset);
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param message the detail message. (A {@code null} value is permitted)
+     * @param cause the cause.  (A {@code null} value is permitted,
+     *     and indicates that the cause is nonexistent or unknown.)
+     * @param lineNumber line number where the JSON grammar violation occurred.
+     *     If the line number is unknown, the value is less than or equal to 0.
+     * @param column column where the JSON grammar violation occurred.
+     *     If the column is unknown, the value is less than or equal to 0.
+     * @param offset char offset where the JSON grammar violation occurred.
+     *     If the offset is unknown, the value is negative.
+     */
+    public JsParseException(String message, Throwable cause,
+                            int lineNumber, int column, long offset) {
         super(message, cause);
         this.lineNumber = lineNumber;
+        this.column = column;
+        this.offset = offset;
         return;
     }
 
@@ -77,6 +124,30 @@ public int getLineNumber() {
         return this.lineNumber;
     }
 
+    /**
+     * Returns the column where the JSON grammar violation occurred.
+     *
+     * <p>Columns are counted in chars starting from 1.
+     * If the column is unknown, the value is less than or equal to 0.
+     *
+     * @return column.
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     * Returns the char offset where the JSON grammar violation occurred.
+     *
+     * <p>Offsets are counted in chars from the start of input.
+     * If the offset is unknown, the value is negative.
+     *
+     * @return char offset.
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
     /**
      * Returns {@code true} if line number is valid.
      *
@@ -8,6 +8,7 @@
 package jp.sourceforge.jovsonz;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -26,12 +27,39 @@
 public class JsString
         implements JsValue, CharSequence, Comparable<JsString> {
 
-    private static final int HEX_BASE = 16;
+    private static final int DECIMAL_BASE = 10;
     private static final int NIBBLE_WIDE = 4;
     private static final int NIBBLES_CHAR = Character.SIZE / NIBBLE_WIDE;
 
-    private static final String ERRMSG_INVESC = "invalid escape character";
-    private static final String ERRMSG_INVCTR = "invalid control character";
+    /** ERROR MESSAGE: invalid escape character. */
+    static final String ERRMSG_INVESC = "invalid escape character";
+    /** ERROR MESSAGE: invalid control character. */
+    static final String ERRMSG_INVCTR = "invalid control character";
+
+    private static final int TABLE_ASCII = 0x80;
+    private static final int TABLE_C1 = 0xa0;
+
+    /** hex value of ASCII char. -1 if not hex digit. */
+    private static final int[] HEX_TABLE = new int[TABLE_ASCII];
+    /** true if char stops unescaped run. (ISO control, '"', and '\\') */
+    private static final boolean[] STRING_STOP = new boolean[TABLE_C1];
+
+    static {
+        Arrays.fill(HEX_TABLE, -1);
+        for (char ch = '0'; ch <= '9'; ch++) {
+            HEX_TABLE[ch] = ch - '0';
+        }
+        for (char ch = 'a'; ch <= 'f'; ch++) {
+            HEX_TABLE[ch] = ch - 'a' + DECIMAL_BASE;
+            HEX_TABLE[Character.toUpperCase(ch)] = ch - 'a' + DECIMAL_BASE;
+        }
+
+        for (char ch = 0; ch < STRING_STOP.length; ch++) {
+            STRING_STOP[ch] = Character.isISOControl(ch);
+        }
+        STRING_STOP['"'] = true;
+        STRING_STOP['\\'] = true;
+    }
 
 
     private final String rawText;
@@ -63,11 +91,29 @@ public JsString(CharSequence rawSeq) {
     }
 
 
+    /**
+     * Return hex value of char.
+     *
+     * @param ch char
+     * @return hex value. -1 if not ASCII hex digit.
+     */
+    static int hexValue(char ch) {
+        if (ch >= HEX_TABLE.length) return -1;
+        return HEX_TABLE[ch];
+    }
+
     /**
      * Read unicode escape following '\' + 'u'.
      *
      * <p>'\' + 'u221e' represents '∞'
      *
+     * <p>Each escape represents one UTF-16 char.
+     * A surrogate pair is represented by two consecutive escapes
+     * like '\' + 'ud83d' + '\' + 'ude00'.
+     *
+     * <p>All four digits are read before reporting
+     * the first invalid digit.
+     *
      * @param source Input source
      * @return decoded character
      * @throws IOException I/O error
@@ -75,31 +121,22 @@ public JsString(CharSequence rawSeq) {
      */
     static char parseHexChar(JsonSource source)
             throws IOException, JsParseException {
-        char hex1Ch = source.readOrDie();
-        char hex2Ch = source.readOrDie();
-        char hex3Ch = source.readOrDie();
-        char hex4Ch = source.readOrDie();
-
-        int digit1 = Character.digit(hex1Ch, HEX_BASE);
-        int digit2 = Character.digit(hex2Ch, HEX_BASE);
-        int digit3 = Character.digit(hex3Ch, HEX_BASE);
-        int digit4 = Character.digit(hex4Ch, HEX_BASE);
-
-        if (   digit1 < 0
-            || digit2 < 0
-            || digit3 < 0
-            || digit4 < 0 ) {
-            throw new JsParseException(ERRMSG_INVESC, source.getLineNumber());
+        JsParseException error = null;
+        int digit = 0;
+
+        for (int ct = 0; ct < NIBBLES_CHAR; ct++) {
+            char hex = source.peekOrDie();
+            int nibble = hexValue(hex);
+            if (nibble < 0 && error == null) {
+                error = source.newParseException(ERRMSG_INVESC, hex);
+            }
+            source.read();
+
+            digit <<= NIBBLE_WIDE;
+            digit += nibble;
         }
 
-        int digit = 0;
-        digit += digit1;
-        digit <<= NIBBLE_WIDE;
-        digit += digit2;
-        digit <<= NIBBLE_WIDE;
-        digit += digit3;
-        digit <<= NIBBLE_WIDE;
-        digit += digit4;
+        if (error != null) throw error;
 
         char result = (char) digit;
 
@@ -107,20 +144,28 @@ static char parseHexChar(JsonSource source)
     }
 
     /**
-     * Read special character following '\'.
+     * Determine if char stops the run of unescaped chars in STRING.
      *
-     * @param source input source
-     * @param app target output
-     * @throws IOException I/O error
-     * @throws JsParseException invalid token or EOF
-     * @throws NullPointerException argument is null
+     * @param ch char
+     * @return true if ISO control, double quote, or backslash
      */
-    private static void parseSpecial(JsonSource source, Appendable app)
-            throws IOException, JsParseException {
-        char special;
+    static boolean isStringStop(char ch) {
+        boolean result = ch < STRING_STOP.length && STRING_STOP[ch];
+        return result;
+    }
 
-        char chData = source.readOrDie();
-        switch (chData) {
+    /**
+     * Decode single char escape following '\'.
+     *
+     * <p>Unicode escape 'u' is not decoded.
+     *
+     * @param ch char following '\'
+     * @return decoded char. -1 if not single char escape.
+     */
+    static int escapeValue(char ch) {
+        int special;
+
+        switch (ch) {
         case '"':
             special = '"';
             break;
@@ -145,23 +190,128 @@ private static void parseSpecial(JsonSource source, Appendable app)
         case 't':
             special = '\t';
             break;
-        case 'u':
-            special = parseHexChar(source);
-            break;
         default:
-            throw new JsParseException(ERRMSG_INVESC, source.getLineNumber());
+            special = -1;
+            break;
+        }
+
+        return special;
+    }
+
+    /**
+     * Read special character following '\'.
+     *
+     * @param source input source
+     * @return decoded character
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     * @throws NullPointerException argument is null
+     */
+    private static char parseSpecial(JsonSource source)
+            throws IOException, JsParseException {
+        char chData = source.peekOrDie();
+        int special = escapeValue(chData);
+        if (chData != 'u' && special < 0) {
+            throw source.newParseException(ERRMSG_INVESC, chData);
+        }
+        source.read();
+        if (chData == 'u') return parseHexChar(source);
+
+        return (char) special;
+    }
+
+    /**
+     * Read STRING text following the leading double quote from JSON source.
+     *
+     * <p>Escaped chars are decoded.
+     * The trailing double quote is consumed but not appended.
+     *
+     * <p>Runs of unescaped chars are appended in bulk.
+     *
+     * @param source input source
+     * @param text output target
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     * @throws NullPointerException argument is null
+     */
+    static void parseStringText(JsonSource source, StringBuilder text)
+            throws IOException, JsParseException {
+        for (;;) {
+            source.appendRun(text, STRING_STOP);
+
+            char chData = source.peekOrDie();
+            if (chData != '"' && chData != '\\') {
+                throw source.newParseException(ERRMSG_INVCTR, chData);
+            }
+            source.read();
+            if (chData == '"') break;
+
+            text.append(parseSpecial(source));
         }
 
-        app.append(special);
+        return;
+    }
+
+    /**
+     * Skip STRING text following the leading double quote from JSON source.
+     *
+     * <p>Escaped chars are validated but not decoded.
+     * The trailing double quote is consumed.
+     * No object is created.
+     *
+     * @param source input source
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     * @throws NullPointerException argument is null
+     */
+    static void skipStringText(JsonSource source)
+            throws IOException, JsParseException {
+        for (;;) {
+            source.skipRun(STRING_STOP);
+
+            char chData = source.peekOrDie();
+            if (chData != '"' && chData != '\\') {
+                throw source.newParseException(ERRMSG_INVCTR, chData);
+            }
+            source.read();
+            if (chData == '"') break;
+
+            parseSpecial(source);
+        }
 
         return;
     }
 
+    /**
+     * Read PAIR name following the leading double quote from JSON source.
+     *
+     * <p>The same names in the source share one String instance
+     * of the name table.
+     *
+     * @param source input source
+     * @return PAIR name
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     * @throws NullPointerException argument is null
+     * @see JsonSource#getNameTable()
+     */
+    static String parseNameText(JsonSource source)
+            throws IOException, JsParseException {
+        String result = source.readName(STRING_STOP, '"');
+        if (result != null) return result;
+
+        StringBuilder text = source.getScratchText();
+        parseStringText(source, text);
+        result = source.getNameTable().intern(text);
+
+        return result;
+    }
+
     /**
      * Try parsing STRING Value from JSON source.
      *
-     * <p>If a leading character of another possible type is read,
-     * null is returned after push-back character into the source.
+     * <p>If a leading character of another possible type is peeked,
+     * null is returned without consuming the source.
      *
      * @param source input source
      * @return STRING typed Value. null if another possible type.
@@ -171,29 +321,47 @@ private static void parseSpecial(JsonSource source, Appendable app)
      */
     static JsString parseString(JsonSource source)
             throws IOException, JsParseException {
-        char charHead = source.readOrDie();
-        if (charHead != '"') {
-            source.unread(charHead);
-            return null;
+        char charHead = source.peekOrDie();
+        if (charHead != '"') return null;
+        source.read();
+
+        JsStringCache cache = source.getStringCache();
+
+        // STRING without escapes in the block buffer
+        if (cache != null) {
+            JsString cached = source.readString(cache, STRING_STOP, '"');
+            if (cached != null) return cached;
+        } else {
+            String run = source.readRun(STRING_STOP, '"');
+            if (run != null) return new JsString(run);
         }
 
-        StringBuilder text = new StringBuilder();
+        StringBuilder text = source.getScratchText();
+        parseStringText(source, text);
 
-        for (;;) {
-            char chData = source.readOrDie();
-            if (chData == '"') break;
+        JsString result = newString(source, text);
 
-            if (chData == '\\') {
-                parseSpecial(source, text);
-            } else if (Character.isISOControl(chData)) {
-                throw new JsParseException(ERRMSG_INVCTR,
-                                           source.getLineNumber());
-            } else {
-                text.append(chData);
-            }
-        }
+        return result;
+    }
+
+    /**
+     * Create STRING Value of unescaped text read from JSON source.
+     *
+     * <p>The Value is shared by the cache of the source if any.
+     *
+     * @param source input source
+     * @param text unescaped text
+     * @return STRING Value
+     */
+    static JsString newString(JsonSource source, CharSequence text) {
+        JsStringCache cache = source.getStringCache();
 
-        JsString result = new JsString(text);
+        JsString result;
+        if (cache != null) {
+            result = cache.intern(text);
+        } else {
+            result = new JsString(text);
+        }
 
         return result;
     }
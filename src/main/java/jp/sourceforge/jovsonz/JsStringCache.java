@@ -0,0 +1,250 @@
+/*
+ * cache of JSON string values
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of STRING Values for deduplication while parsing.
+ *
+ * <p>STRING Values with the same text share one {@link JsString} instance
+ * and its backing String, like {@link JsBoolean#TRUE} and {@link JsNull#NULL}.
+ * It saves memory of documents with many repeated STRING Values
+ * such as status codes or country names.
+ *
+ * <p>The cache is direct-mapped by the hash of text.
+ * A new STRING Value simply evicts the old one in the same slot.
+ * Long text is never cached.
+ *
+ * <p>The cache can be shared by multiple parsings
+ * and reports hit-rate statistics for tuning its capacity.
+ *
+ * <p>example
+ *
+ * <pre>
+ * JsStringCache cache = new JsStringCache(1024);
+ * JsComposition&lt;?&gt; root = Json.parseJson(reader, cache);
+ * double rate = cache.getHitRate();
+ * </pre>
+ *
+ * <p>Not thread safe.
+ *
+ * @see Json#parseJson(java.io.Reader, JsStringCache)
+ */
+public final class JsStringCache {
+
+    /** max length of cached text. */
+    public static final int MAX_TEXT_LENGTH = 64;
+
+    private static final int HASH_MULT = 31;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final String ERRMSG_CAPACITY = "invalid capacity: ";
+
+
+    private final JsString[] entries;
+    private final int[] hashes;
+
+    private long hitCount = 0L;
+    private long missCount = 0L;
+
+
+    /**
+     * Constructor.
+     *
+     * <p>Capacity is rounded up to a power of two.
+     *
+     * @param capacity max number of cached STRING Values
+     * @throws IllegalArgumentException capacity is not positive or too large
+     */
+    public JsStringCache(int capacity) throws IllegalArgumentException {
+        super();
+
+        if (capacity <= 0 || MAX_CAPACITY < capacity) {
+            throw new IllegalArgumentException(ERRMSG_CAPACITY + capacity);
+        }
+
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) slots <<= 1;
+
+        this.entries = new JsString[slots];
+        this.hashes = new int[slots];
+
+        return;
+    }
+
+
+    /**
+     * Compare text of STRING Value with chars.
+     *
+     * @param string STRING Value
+     * @param buf char buffer
+     * @param start start index
+     * @param length length
+     * @return true if same chars
+     */
+    private static boolean matches(JsString string,
+                                   char[] buf, int start, int length) {
+        String text = string.toRawString();
+        if (text.length() != length) return false;
+        for (int idx = 0; idx < length; idx++) {
+            if (text.charAt(idx) != buf[start + idx]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Return cached STRING Value of chars.
+     *
+     * <p>If not cached, new STRING Value is cached and returned.
+     *
+     * @param buf char buffer
+     * @param start start index of text
+     * @param length length of text
+     * @return STRING Value
+     */
+    JsString intern(char[] buf, int start, int length) {
+        if (length > MAX_TEXT_LENGTH) {
+            this.missCount++;
+            return new JsString(new String(buf, start, length));
+        }
+
+        int hash = 0;
+        int end = start + length;
+        for (int pos = start; pos < end; pos++) {
+            hash = hash * HASH_MULT + buf[pos];
+        }
+
+        int slot = hash & (this.entries.length - 1);
+        JsString entry = this.entries[slot];
+        if (   entry != null
+            && this.hashes[slot] == hash
+            && matches(entry, buf, start, length) ) {
+            this.hitCount++;
+            return entry;
+        }
+
+        this.missCount++;
+        JsString result = new JsString(new String(buf, start, length));
+        this.entries[slot] = result;
+        this.hashes[slot] = hash;
+
+        return result;
+    }
+
+    /**
+     * Return cached STRING Value of text.
+     *
+     * <p>If not cached, new STRING Value is cached and returned.
+     *
+     * @param text text
+     * @return STRING Value
+     */
+    JsString intern(CharSequence text) {
+        int length = text.length();
+        if (length > MAX_TEXT_LENGTH) {
+            this.missCount++;
+            return new JsString(text);
+        }
+
+        int hash = 0;
+        for (int pos = 0; pos < length; pos++) {
+            hash = hash * HASH_MULT + text.charAt(pos);
+        }
+
+        int slot = hash & (this.entries.length - 1);
+        JsString entry = this.entries[slot];
+        if (   entry != null
+            && this.hashes[slot] == hash
+            && entry.toRawString().contentEquals(text) ) {
+            this.hitCount++;
+            return entry;
+        }
+
+        this.missCount++;
+        JsString result = new JsString(text);
+        this.entries[slot] = result;
+        this.hashes[slot] = hash;
+
+        return result;
+    }
+
+    /**
+     * Return capacity.
+     *
+     * @return max number of cached STRING Values
+     */
+    public int getCapacity() {
+        return this.entries.length;
+    }
+
+    /**
+     * Return the number of STRING Values found in the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Return the number of STRING Values not found in the cache.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Return the ratio of hits to all lookups.
+     *
+     * @return hit rate from 0.0 to 1.0. 0.0 if no lookup.
+     */
+    public double getHitRate() {
+        long total = this.hitCount + this.missCount;
+        if (total <= 0L) return 0.0;
+        double result = (double) this.hitCount / (double) total;
+        return result;
+    }
+
+    /**
+     * Reset statistics.
+     *
+     * <p>Cached STRING Values are kept.
+     */
+    public void resetStatistics() {
+        this.hitCount = 0L;
+        this.missCount = 0L;
+        return;
+    }
+
+    /**
+     * Remove all cached STRING Values and reset statistics.
+     */
+    public void clear() {
+        Arrays.fill(this.entries, null);
+        resetStatistics();
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("capacity=").append(getCapacity())
+            .append(" hit=").append(this.hitCount)
+            .append(" miss=").append(this.missCount);
+        return text.toString();
+    }
+
+}
@@ -8,8 +8,19 @@
 package jp.sourceforge.jovsonz;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JSON utilities.
@@ -56,63 +67,52 @@ public static void dumpJson(Appendable appout, JsComposition<?> topValue)
     /**
      * Read any JSON Value from input source.
      *
+     * <p>The type of Value is determined by the first character,
+     * then the parser of the type is called only once.
+     *
+     * <p>Nested OBJECT and ARRAY are parsed without recursive calls.
+     *
      * @param source input source
      * @return any JSON Value.
      *     null when the end of the source is reached with zero or more consecutive white spaces.
      * @throws IOException I/O error
-     * @throws JsParseException invalid token
+     * @throws JsParseException invalid token or too deep nesting
      * @throws NullPointerException argument is null
+     * @see TreeParser
      */
     static JsValue parseValue(JsonSource source)
             throws IOException, JsParseException {
-        source.skipWhiteSpace();
-        if ( !source.hasMore() ) return null;
-
-        JsValue result;
-        result = JsObject.parseObject(source);
-        if (result == null) {
-            result = JsArray.parseArray(source);
-        }
-        if (result == null) {
-            result = JsString.parseString(source);
-        }
-        if (result == null) {
-            result = JsNull.parseNull(source);
-        }
-        if (result == null) {
-            result = JsBoolean.parseBoolean(source);
-        }
-        if (result == null) {
-            result = JsNumber.parseNumber(source);
-        }
-
-        if (result == null) {
-            throw new JsParseException(JsParseException.ERRMSG_INVALIDTOKEN,
-                                       source.getLineNumber() );
-        }
-
+        JsValue result = source.getTreeParser().parseValue(source);
         return result;
     }
 
     /**
      * Read JSON root Value from input source.
      *
+     * <p>Root Value other than OBJECT and ARRAY is parsed
+     * to report its invalid token if any,
+     * then reported at its head.
+     *
      * @param source input source
      * @return JSON root Value. (OBJECT or ARRAY)
      *     null when the end of the source is reached with zero or more consecutive white spaces.
      * @throws IOException I/O error
      * @throws JsParseException invalid token
      */
-    private static JsComposition<?> parseJson(JsonSource source)
+    static JsComposition<?> parseJson(JsonSource source)
             throws IOException, JsParseException {
-        JsValue topValue = parseValue(source);
-        if (topValue == null) return null;
+        source.skipWhiteSpace();
+        int head = source.peek();
+        if (head < 0) return null;
 
-        if ( !(topValue instanceof JsComposition) ) {
-            throw new JsParseException(JsParseException.ERRMSG_INVALIDROOT,
-                                       source.getLineNumber() );
+        if (head != '{' && head != '[') {
+            JsParseException rootError =
+                    source.newParseException(JsParseException.ERRMSG_INVALIDROOT);
+            parseValue(source);
+            throw rootError;
         }
-        JsComposition<?> result = (JsComposition) topValue;
+
+        JsComposition<?> result = (JsComposition) parseValue(source);
 
         return result;
     }
@@ -120,6 +120,12 @@ private static JsComposition<?> parseJson(JsonSource source)
     /**
      * Read JSON root Value from {@link java.io.Reader}.
      *
+     * <p>Chars are read from the Reader block by block,
+     * so chars following the root Value may be read ahead and discarded.
+     * Calling this method repeatedly on the same Reader
+     * does not read concatenated root Values one by one.
+     * Use {@link JsonSequenceReader} for them.
+     *
      * @param source input Reader
      * @return OBJECT or ARRAY root Value.
      *     null when the end of the source is reached with zero or more consecutive white spaces.
@@ -133,4 +139,649 @@ public static JsComposition<?> parseJson(Reader source)
         return parseJson(jsonSource);
     }
 
+    /**
+     * Read JSON root Value from {@link java.io.Reader}
+     * with cache of STRING Values.
+     *
+     * <p>STRING Values with the same text share one instance of the cache.
+     *
+     * <p>Chars following the root Value may be read ahead and discarded
+     * as {@link #parseJson(Reader)}.
+     *
+     * @param source input Reader
+     * @param cache cache of STRING Values
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see JsStringCache
+     */
+    public static JsComposition<?> parseJson(Reader source,
+                                             JsStringCache cache)
+            throws IOException, JsParseException {
+        Objects.requireNonNull(cache);
+        JsonSource jsonSource = new JsonSource(source);
+        jsonSource.setStringCache(cache);
+        return parseJson(jsonSource);
+    }
+
+    /**
+     * Read JSON root Value from {@link java.io.Reader}
+     * with limited nesting depth.
+     *
+     * <p>OBJECT and ARRAY nested deeper than maxDepth
+     * cause {@link JsParseException} instead of unbounded memory usage.
+     * The root Value is at depth 1.
+     *
+     * <p>Chars following the root Value may be read ahead and discarded
+     * as {@link #parseJson(Reader)}.
+     *
+     * @param source input Reader
+     * @param maxDepth max depth of OBJECT and ARRAY nesting
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or too deep nesting
+     * @throws NullPointerException argument is null
+     * @throws IllegalArgumentException maxDepth is not positive
+     */
+    public static JsComposition<?> parseJson(Reader source, int maxDepth)
+            throws IOException, JsParseException {
+        JsonSource jsonSource = new JsonSource(source);
+        jsonSource.setMaxDepth(maxDepth);
+        return parseJson(jsonSource);
+    }
+
+    /**
+     * Read JSON root Value from {@link java.io.Reader}
+     * with only the Values selected by JSON Pointer patterns.
+     *
+     * <p>Values not selected are skipped without creating Value objects,
+     * but their syntax is validated as usual.
+     *
+     * <p>Chars following the root Value may be read ahead and discarded
+     * as {@link #parseJson(Reader)}.
+     *
+     * @param source input Reader
+     * @param filter JSON Pointer patterns
+     * @return pruned OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see JsonPointerFilter
+     */
+    public static JsComposition<?> parseJson(Reader source,
+                                             JsonPointerFilter filter)
+            throws IOException, JsParseException {
+        Objects.requireNonNull(filter);
+        JsonSource jsonSource = new JsonSource(source);
+        return filter.parseJson(jsonSource);
+    }
+
+    /**
+     * Read JSON root Value from text by two-stage parsing.
+     *
+     * <p>Chars of array-backed {@link java.nio.CharBuffer}
+     * are indexed directly. Other texts are copied once in bulk.
+     *
+     * @param source JSON text
+     * @param cache cache of STRING Values. null if not cached.
+     * @param maxDepth max depth of OBJECT and ARRAY nesting
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token or too deep nesting
+     * @throws IllegalArgumentException maxDepth is not positive
+     */
+    private static JsComposition<?> parseText(CharSequence source,
+                                              JsStringCache cache,
+                                              int maxDepth)
+            throws JsParseException {
+        CharBuffer chars = JsonSource.arrayChars(source);
+        int start = chars.arrayOffset() + chars.position();
+        JsComposition<?> result = StructuralIndex.parseJson(
+                chars.array(), start, start + chars.remaining(),
+                cache, maxDepth );
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from text.
+     *
+     * <p>The whole text is scanned block by block at first
+     * to find the start of all tokens outside STRING with bit operations,
+     * then JSON Value tree is built by following them.
+     *
+     * <p>{@link String}, {@link StringBuilder} and {@link StringBuffer}
+     * are copied into a char array once in bulk.
+     * Array-backed {@link java.nio.CharBuffer} is not copied.
+     *
+     * @param source JSON text
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see #parseJson(CharBuffer)
+     */
+    public static JsComposition<?> parseJson(CharSequence source)
+            throws JsParseException {
+        return parseText(source, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read JSON root Value from char array.
+     *
+     * <p>Chars in the range are indexed directly without copying
+     * and must not be changed while parsing.
+     * Line-numbers are counted from the start of the range.
+     *
+     * @param source JSON text
+     * @param offset start of JSON text
+     * @param length length of JSON text
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     * @see #parseJson(CharSequence)
+     */
+    public static JsComposition<?> parseJson(char[] source,
+                                             int offset, int length)
+            throws JsParseException {
+        if (offset < 0 || length < 0 || source.length - offset < length) {
+            throw new IndexOutOfBoundsException();
+        }
+        JsComposition<?> result =
+                StructuralIndex.parseJson(source, offset, offset + length);
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from {@link java.nio.CharBuffer}.
+     *
+     * <p>Chars from position to limit are read.
+     * The position of the buffer is not changed.
+     *
+     * <p>Chars of array-backed buffer are indexed directly without copying
+     * and must not be changed while parsing.
+     * Chars of direct or read-only buffer are copied once in bulk.
+     *
+     * @param source JSON text
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see #parseJson(CharSequence)
+     */
+    public static JsComposition<?> parseJson(CharBuffer source)
+            throws JsParseException {
+        return parseText(source, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read JSON root Value from text with cache of STRING Values.
+     *
+     * <p>STRING Values with the same text share one instance of the cache.
+     *
+     * @param source JSON text
+     * @param cache cache of STRING Values
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see #parseJson(CharSequence)
+     * @see JsStringCache
+     */
+    public static JsComposition<?> parseJson(CharSequence source,
+                                             JsStringCache cache)
+            throws JsParseException {
+        Objects.requireNonNull(cache);
+        return parseText(source, cache, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read JSON root Value from text with limited nesting depth.
+     *
+     * <p>OBJECT and ARRAY nested deeper than maxDepth
+     * cause {@link JsParseException} as {@link #parseJson(Reader, int)}.
+     * The root Value is at depth 1.
+     *
+     * @param source JSON text
+     * @param maxDepth max depth of OBJECT and ARRAY nesting
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token or too deep nesting
+     * @throws NullPointerException argument is null
+     * @throws IllegalArgumentException maxDepth is not positive
+     * @see #parseJson(CharSequence)
+     */
+    public static JsComposition<?> parseJson(CharSequence source, int maxDepth)
+            throws JsParseException {
+        return parseText(source, null, maxDepth);
+    }
+
+    /**
+     * Validate JSON root Value of text without building any tree.
+     *
+     * <p>The same syntax as {@link #parseJson(Reader)} is validated
+     * and violations are returned with the same messages and line numbers
+     * as {@link JsParseException}, but no exception is thrown.
+     * Chars are indexed directly and no object is created per token.
+     *
+     * <p>Chars following the root Value are not validated.
+     * Text with only white spaces is invalid.
+     *
+     * <p>NUMBER with scale out of int range like {@code 1e99999999999},
+     * which the parsers reject by {@link NumberFormatException},
+     * is invalid with the kind {@link JsonValidation.Kind#INVALID_NUMBER}.
+     *
+     * @param source JSON text
+     * @return result of validation
+     * @throws NullPointerException argument is null
+     */
+    public static JsonValidation validate(CharSequence source) {
+        JsonValidation result =
+                JsonValidator.validate(source, 0, source.length());
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from {@link java.io.InputStream}.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     * UTF-8 bytes are decoded directly without {@link java.io.InputStreamReader}.
+     *
+     * @param source input byte stream
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error or malformed bytes
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see JsonCharset
+     */
+    public static JsComposition<?> parseJson(InputStream source)
+            throws IOException, JsParseException {
+        Objects.requireNonNull(source);
+        Reader reader = JsonCharset.newReader(source);
+        return parseJson(reader);
+    }
+
+    /**
+     * Read JSON root Value from byte array.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param source input bytes
+     * @param offset start of input bytes
+     * @param length length of input bytes
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException malformed bytes
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     * @see JsonCharset
+     */
+    public static JsComposition<?> parseJson(byte[] source,
+                                             int offset, int length)
+            throws IOException, JsParseException {
+        ByteBuffer bytes = ByteBuffer.wrap(source, offset, length);
+        Reader reader = JsonCharset.newReader(bytes);
+        return parseJson(reader);
+    }
+
+    /**
+     * Read JSON root Value from {@link java.nio.ByteBuffer}.
+     *
+     * <p>Bytes from position to limit are read.
+     * The position of the buffer is not changed.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param source input bytes
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException malformed bytes
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see JsonCharset
+     */
+    public static JsComposition<?> parseJson(ByteBuffer source)
+            throws IOException, JsParseException {
+        ByteBuffer bytes = source.duplicate();
+        Reader reader = JsonCharset.newReader(bytes);
+        return parseJson(reader);
+    }
+
+    /**
+     * Read JSON root Value from {@link java.nio.channels.FileChannel}.
+     *
+     * <p>Bytes from the position of the channel to the end of file are read.
+     * The position of the channel is not changed.
+     * The channel is not closed.
+     *
+     * <p>UTF-8 file is memory-mapped and parsed without copying to any read buffer.
+     * Files larger than 2GB are mapped window by window.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param source input file channel
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error or malformed bytes
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see JsonCharset
+     */
+    public static JsComposition<?> parseJson(FileChannel source)
+            throws IOException, JsParseException {
+        long startPos = source.position();
+        try {
+            Reader reader = JsonCharset.newReader(source);
+            return parseJson(reader);
+        } finally {
+            source.position(startPos);
+        }
+    }
+
+    /**
+     * Read JSON root Value from file.
+     *
+     * <p>UTF-8 file is memory-mapped and parsed without copying to any read buffer.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param source input file path
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error or malformed bytes
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     * @see #parseJson(FileChannel)
+     */
+    public static JsComposition<?> parseJson(Path source)
+            throws IOException, JsParseException {
+        try (FileChannel channel =
+                FileChannel.open(source, StandardOpenOption.READ)) {
+            return parseJson(channel);
+        }
+    }
+
+    /**
+     * Read JSON root Value from text in parallel.
+     *
+     * <p>If the root is ARRAY,
+     * boundaries of its elements are found
+     * by the structural index of {@link #parseJson(CharSequence)}
+     * and slices of elements are parsed in parallel by the threads of
+     * {@link java.util.concurrent.ForkJoinPool}.
+     * The elements are joined into one ARRAY in order.
+     * The common pool is used unless called in a task of another pool.
+     *
+     * <p>Small ARRAY and OBJECT root are parsed sequentially.
+     *
+     * <p>Errors are the same as {@link #parseJson(CharSequence)},
+     * including line-numbers.
+     *
+     * @param source JSON text
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     */
+    public static JsComposition<?> parseJsonParallel(CharSequence source)
+            throws JsParseException {
+        CharBuffer chars = JsonSource.arrayChars(source);
+        int start = chars.arrayOffset() + chars.position();
+        JsComposition<?> result = StructuralIndex.parseJsonParallel(
+                chars.array(), start, start + chars.remaining(),
+                StructuralIndex.MIN_SLICE);
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from text lazily.
+     *
+     * <p>The whole text is validated at first
+     * as {@link #parseJson(CharSequence)},
+     * but child Values of OBJECT and ARRAY are not created
+     * until they are accessed for the first time.
+     * Parsing cost is proportional to the part actually accessed.
+     *
+     * <p>The text is copied and retained
+     * while any OBJECT or ARRAY Value not accessed yet is reachable.
+     *
+     * <p>Accessing OBJECT and ARRAY Values modifies them
+     * and the state shared in the whole tree internally,
+     * so even read-only access from multiple threads must be synchronized.
+     *
+     * @param source JSON text
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws NullPointerException argument is null
+     */
+    public static JsComposition<?> parseJsonLazy(CharSequence source)
+            throws JsParseException {
+        char[] text = new char[source.length()];
+        JsonSource.copyChars(source, text);
+        JsComposition<?> result =
+                CompositionIndex.parseLazy(text, 0, text.length);
+        return result;
+    }
+
+    /**
+     * Create parallel Stream of root Values.
+     *
+     * @param spliterator Spliterator of root Values
+     * @param ordered true if root Values are delivered in order of appearance
+     * @return parallel Stream
+     */
+    private static Stream<JsComposition<?>> parallelStream(
+            JsonLinesSpliterator spliterator, boolean ordered) {
+        Stream<JsComposition<?>> result =
+                StreamSupport.stream(spliterator, true);
+        if ( !ordered ) result = result.unordered();
+        return result;
+    }
+
+    /**
+     * Read root Values of Newline Delimited JSON (NDJSON)
+     * from UTF-8 bytes in parallel.
+     *
+     * <p>Bytes from position to limit are read.
+     * The position of the buffer is not changed.
+     * Each root Value must be on one line.
+     *
+     * <p>The bytes are split into chunks at line feeds,
+     * which are parsed in parallel by the threads of
+     * {@link java.util.concurrent.ForkJoinPool}, each with its own parser.
+     * The common pool is used unless the terminal operation
+     * is run in a task of another pool.
+     *
+     * <p>If ordered, root Values are delivered in order of appearance
+     * by order-preserving terminal operations such as
+     * {@link Stream#forEachOrdered(java.util.function.Consumer)}.
+     * Otherwise the Stream is unordered for maximum throughput.
+     *
+     * <p>{@link JsParseException} is thrown as {@link UncheckedJsParseException}
+     * with the line-number in the whole bytes,
+     * and malformed bytes cause {@link UncheckedIOException}.
+     *
+     * @param source UTF-8 bytes
+     * @param ordered true if root Values are delivered in order of appearance
+     * @return parallel Stream of OBJECT or ARRAY root Values
+     * @throws NullPointerException argument is null
+     * @see JsonSequenceReader
+     */
+    public static Stream<JsComposition<?>> parseJsonLines(ByteBuffer source,
+                                                          boolean ordered) {
+        JsonLinesSpliterator spliterator =
+                JsonLinesSpliterator.of(source, JsonLinesSpliterator.MIN_CHUNK);
+        Stream<JsComposition<?>> result = parallelStream(spliterator, ordered);
+        return result;
+    }
+
+    /**
+     * Read root Values of Newline Delimited JSON (NDJSON)
+     * from UTF-8 file in parallel.
+     *
+     * <p>The file is memory-mapped chunk by chunk
+     * and parsed in parallel like {@link #parseJsonLines(ByteBuffer, boolean)}.
+     *
+     * <p>Closing the Stream closes the file.
+     *
+     * @param source input file path
+     * @param ordered true if root Values are delivered in order of appearance
+     * @return parallel Stream of OBJECT or ARRAY root Values
+     * @throws IOException I/O error
+     * @throws NullPointerException argument is null
+     * @see #parseJsonLines(ByteBuffer, boolean)
+     */
+    public static Stream<JsComposition<?>> parseJsonLines(Path source,
+                                                          boolean ordered)
+            throws IOException {
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+
+        JsonLinesSpliterator spliterator;
+        try {
+            spliterator = JsonLinesSpliterator.of(
+                    channel, JsonLinesSpliterator.MIN_CHUNK);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        Stream<JsComposition<?>> result = parallelStream(spliterator, ordered);
+        result = result.onClose(() -> {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Notify the visitor of JSON Values while reading tokens.
+     *
+     * @param reader token reader
+     * @param visitor visitor
+     * @return true if root Value was read.
+     *     false if no more token.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private static boolean visitJson(JsonTokenReader reader,
+                                     ValueVisitor visitor)
+            throws IOException, JsParseException, JsVisitException {
+        Deque<JsComposition<?>> nest = new ArrayDeque<>();
+
+        JsonToken token;
+        while ((token = reader.nextToken()) != null) {
+            JsValue value;
+            switch (token) {
+            case START_OBJECT:
+                JsComposition<?> object = new JsObject();
+                nest.push(object);
+                value = object;
+                break;
+            case START_ARRAY:
+                JsComposition<?> array = new JsArray();
+                nest.push(array);
+                value = array;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                visitor.visitCompositionClose(nest.pop());
+                if (nest.isEmpty()) return true;
+                continue;
+            case PAIR_NAME:
+                visitor.visitPairName(reader.getString());
+                continue;
+            case STRING:
+                value = reader.getStringValue();
+                break;
+            case NUMBER:
+                value = reader.getNumberValue();
+                break;
+            case BOOLEAN:
+                value = JsBoolean.valueOf(reader.getBoolean());
+                break;
+            default:
+                assert token == JsonToken.NULL;
+                value = JsNull.NULL;
+                break;
+            }
+            visitor.visitValue(value);
+        }
+
+        return false;
+    }
+
+    /**
+     * Read JSON root Value from {@link java.io.Reader}
+     * and notify the visitor of its Values without building any tree.
+     *
+     * <p>The visitor is notified in the same order
+     * as {@link JsValue#traverse(ValueVisitor)}.
+     * OBJECT and ARRAY notified are always empty
+     * because their children are not kept,
+     * so the memory used depends on the nesting depth
+     * rather than the size of JSON text.
+     *
+     * <p>example: pretty-printing a large file
+     *
+     * <pre>
+     * Json.visitJson(reader, new JsonAppender(writer));
+     * </pre>
+     *
+     * @param source input Reader
+     * @param visitor visitor
+     * @return true if root Value was read.
+     *     false when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     * @throws NullPointerException argument is null
+     */
+    public static boolean visitJson(Reader source, ValueVisitor visitor)
+            throws IOException, JsParseException, JsVisitException {
+        Objects.requireNonNull(visitor);
+        JsonTokenReader reader = new JsonTokenReader(source);
+        return visitJson(reader, visitor);
+    }
+
+    /**
+     * Read JSON root Value from file
+     * and notify the visitor of its Values without building any tree.
+     *
+     * <p>UTF-8 file is memory-mapped and parsed without copying to any read buffer.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param source input file path
+     * @param visitor visitor
+     * @return true if root Value was read.
+     *     false when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error or malformed bytes
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     * @throws NullPointerException argument is null
+     * @see #visitJson(Reader, ValueVisitor)
+     */
+    public static boolean visitJson(Path source, ValueVisitor visitor)
+            throws IOException, JsParseException, JsVisitException {
+        Objects.requireNonNull(visitor);
+        try (FileChannel channel =
+                FileChannel.open(source, StandardOpenOption.READ)) {
+            Reader reader = JsonCharset.newReader(channel);
+            return visitJson(reader, visitor);
+        }
+    }
+
 }
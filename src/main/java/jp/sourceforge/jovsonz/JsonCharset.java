@@ -0,0 +1,263 @@
+/*
+ * JSON text encoding
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encoding detection of JSON byte stream.
+ *
+ * <p>JSON text exchanged between systems must be encoded in UTF-8,
+ * but UTF-16 and UTF-32 are also detected
+ * by the pattern of NUL bytes in the first 4 bytes
+ * because the first 2 characters of JSON text are always ASCII.
+ *
+ * <p>Leading BOM is ignored.
+ *
+ * <pre>
+ * 00 00 00 xx  UTF-32BE
+ * 00 xx 00 xx  UTF-16BE
+ * xx 00 00 00  UTF-32LE
+ * xx 00 xx 00  UTF-16LE
+ * xx xx xx xx  UTF-8
+ * </pre>
+ *
+ * @see <a href="https://www.ietf.org/rfc/rfc8259.txt">RFC8259</a>
+ * @see <a href="https://www.ietf.org/rfc/rfc4627.txt">RFC4627</a>
+ */
+final class JsonCharset {
+
+    /** UTF-32 big endian. */
+    static final Charset UTF_32BE = Charset.forName("UTF-32BE");
+    /** UTF-32 little endian. */
+    static final Charset UTF_32LE = Charset.forName("UTF-32LE");
+
+    /** bytes for detection. */
+    static final int DETECT_BYTES = 4;
+
+    private static final int BYTE_MASK = 0xff;
+
+    private static final int BOM8_0 = 0xef;
+    private static final int BOM8_1 = 0xbb;
+    private static final int BOM8_2 = 0xbf;
+    private static final int BOM_FE = 0xfe;
+    private static final int BOM_FF = 0xff;
+
+    private static final int BOMLEN_UTF8  = 3;
+    private static final int BOMLEN_UTF16 = 2;
+    private static final int BOMLEN_UTF32 = 4;
+
+    private static final int IDX0 = 0;
+    private static final int IDX1 = 1;
+    private static final int IDX2 = 2;
+    private static final int IDX3 = 3;
+
+
+    /**
+     * Hidden constructor.
+     */
+    private JsonCharset() {
+        assert false;
+        throw new AssertionError();
+    }
+
+
+    /**
+     * Return unsigned byte value from the position of the buffer.
+     *
+     * @param bytes buffer
+     * @param idx index from the position
+     * @return unsigned byte value. -1 if out of bytes
+     */
+    private static int byteAt(ByteBuffer bytes, int idx) {
+        if (idx >= bytes.remaining()) return -1;
+        int result = bytes.get(bytes.position() + idx) & BYTE_MASK;
+        return result;
+    }
+
+    /**
+     * Detect charset from the leading bytes.
+     *
+     * <p>The position of the buffer is not changed.
+     *
+     * @param bytes leading bytes
+     * @return charset
+     */
+    static Charset detectCharset(ByteBuffer bytes) {
+        int b0 = byteAt(bytes, IDX0);
+        int b1 = byteAt(bytes, IDX1);
+        int b2 = byteAt(bytes, IDX2);
+        int b3 = byteAt(bytes, IDX3);
+
+        Charset result;
+        if (b0 == 0 && b1 == 0 && b2 == BOM_FE && b3 == BOM_FF) {
+            result = UTF_32BE;
+        } else if (b0 == BOM_FF && b1 == BOM_FE && b2 == 0 && b3 == 0) {
+            result = UTF_32LE;
+        } else if (b0 == BOM_FE && b1 == BOM_FF) {
+            result = StandardCharsets.UTF_16BE;
+        } else if (b0 == BOM_FF && b1 == BOM_FE) {
+            result = StandardCharsets.UTF_16LE;
+        } else if (b0 == 0 && b1 == 0 && b2 == 0 && b3 > 0) {
+            result = UTF_32BE;
+        } else if (b0 > 0 && b1 == 0 && b2 == 0 && b3 == 0) {
+            result = UTF_32LE;
+        } else if (b0 == 0 && b1 > 0) {
+            result = StandardCharsets.UTF_16BE;
+        } else if (b0 > 0 && b1 == 0) {
+            result = StandardCharsets.UTF_16LE;
+        } else {
+            result = StandardCharsets.UTF_8;
+        }
+
+        return result;
+    }
+
+    /**
+     * Return length of BOM at the position of the buffer.
+     *
+     * @param bytes leading bytes
+     * @param charset charset detected
+     * @return length of BOM. 0 if no BOM
+     */
+    static int bomLength(ByteBuffer bytes, Charset charset) {
+        int b0 = byteAt(bytes, IDX0);
+        int b1 = byteAt(bytes, IDX1);
+        int b2 = byteAt(bytes, IDX2);
+        int b3 = byteAt(bytes, IDX3);
+
+        int result = 0;
+        if (charset == StandardCharsets.UTF_8) {
+            if (b0 == BOM8_0 && b1 == BOM8_1 && b2 == BOM8_2) {
+                result = BOMLEN_UTF8;
+            }
+        } else if (charset == StandardCharsets.UTF_16BE) {
+            if (b0 == BOM_FE && b1 == BOM_FF) result = BOMLEN_UTF16;
+        } else if (charset == StandardCharsets.UTF_16LE) {
+            if (b0 == BOM_FF && b1 == BOM_FE) result = BOMLEN_UTF16;
+        } else if (charset == UTF_32BE) {
+            if (b0 == 0 && b1 == 0 && b2 == BOM_FE && b3 == BOM_FF) {
+                result = BOMLEN_UTF32;
+            }
+        } else if (charset == UTF_32LE) {
+            if (b0 == BOM_FF && b1 == BOM_FE && b2 == 0 && b3 == 0) {
+                result = BOMLEN_UTF32;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create Reader from JSON bytes with encoding detection.
+     *
+     * <p>UTF-8 bytes are decoded directly by {@link Utf8Reader}.
+     *
+     * <p>The position of the buffer is advanced as it is decoded.
+     *
+     * @param bytes JSON bytes
+     * @return reader
+     * @throws IOException malformed bytes for detected charset
+     */
+    static Reader newReader(ByteBuffer bytes) throws IOException {
+        Charset charset = detectCharset(bytes);
+        int bomLength = bomLength(bytes, charset);
+        bytes.position(bytes.position() + bomLength);
+
+        if (charset == StandardCharsets.UTF_8) {
+            return new Utf8Reader(bytes);
+        }
+
+        CharBuffer chars = charset.newDecoder().decode(bytes);
+        Reader result = new CharArrayReader(
+                chars.array(),
+                chars.arrayOffset() + chars.position(),
+                chars.remaining() );
+
+        return result;
+    }
+
+    /**
+     * Create Reader from JSON byte stream with encoding detection.
+     *
+     * <p>UTF-8 bytes are decoded directly by {@link Utf8Reader}.
+     *
+     * @param stream JSON byte stream
+     * @return reader
+     * @throws IOException I/O error
+     */
+    static Reader newReader(InputStream stream) throws IOException {
+        byte[] head = new byte[DETECT_BYTES];
+        int length = 0;
+        while (length < DETECT_BYTES) {
+            int readed = stream.read(head, length, DETECT_BYTES - length);
+            if (readed < 0) break;
+            length += readed;
+        }
+
+        ByteBuffer headBuf = ByteBuffer.wrap(head, 0, length);
+        Charset charset = detectCharset(headBuf);
+        int bomLength = bomLength(headBuf, charset);
+        int restLength = length - bomLength;
+
+        if (charset == StandardCharsets.UTF_8) {
+            return new Utf8Reader(stream, head, bomLength, restLength);
+        }
+
+        InputStream headStream =
+                new ByteArrayInputStream(head, bomLength, restLength);
+        InputStream joined = new SequenceInputStream(headStream, stream);
+        Reader result = new InputStreamReader(joined, charset.newDecoder());
+
+        return result;
+    }
+
+    /**
+     * Create Reader from JSON file with encoding detection.
+     *
+     * <p>UTF-8 file is memory-mapped and decoded directly by {@link MappedUtf8Reader}.
+     * Other encodings are read from the channel through the decoder,
+     * and the position of the channel is advanced.
+     *
+     * @param channel file channel
+     * @return reader
+     * @throws IOException I/O error
+     */
+    static Reader newReader(FileChannel channel) throws IOException {
+        long startPos = channel.position();
+        long endPos = channel.size();
+        long headSize = Math.min(DETECT_BYTES, Math.max(0L, endPos - startPos));
+
+        ByteBuffer headBuf =
+                channel.map(FileChannel.MapMode.READ_ONLY, startPos, headSize);
+        Charset charset = detectCharset(headBuf);
+        int bomLength = bomLength(headBuf, charset);
+
+        if (charset == StandardCharsets.UTF_8) {
+            return new MappedUtf8Reader(channel, startPos + bomLength, endPos);
+        }
+
+        InputStream stream = Channels.newInputStream(channel);
+        Reader result = newReader(stream);
+
+        return result;
+    }
+
+}
@@ -0,0 +1,459 @@
+/*
+ * spliterator of JSON lines
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of root Values in UTF-8 bytes of Newline Delimited JSON.
+ *
+ * <p>The bytes are split into chunks at line feeds
+ * so that each chunk can be parsed by its own thread
+ * of {@link java.util.concurrent.ForkJoinPool}.
+ * Each chunk is parsed by its own {@link JsonSequenceReader}.
+ *
+ * <p>Line feed byte (0x0a) never appears inside UTF-8 multibyte sequences,
+ * so each chunk is also valid UTF-8 bytes.
+ * Each root Value must be on one line.
+ *
+ * @see Json#parseJsonLines(ByteBuffer, boolean)
+ */
+abstract class JsonLinesSpliterator implements Spliterator<JsComposition<?>> {
+
+    /** min bytes of chunk. */
+    static final long MIN_CHUNK = 64L * 1024L;
+
+    private static final byte LF = (byte) '\n';
+
+
+    private final long origin;
+    private final long minChunk;
+
+    private long lo;
+    private long hi;
+
+    // start position of the chunk being parsed
+    private long chunkStart;
+    private JsonSequenceReader reader = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param origin start position of the whole bytes
+     * @param lo start position of bytes
+     * @param hi end position of bytes (exclusive)
+     * @param minChunk min bytes of chunk
+     */
+    JsonLinesSpliterator(long origin, long lo, long hi, long minChunk) {
+        super();
+        this.origin = origin;
+        this.lo = lo;
+        this.hi = hi;
+        this.minChunk = minChunk;
+        return;
+    }
+
+
+    /**
+     * Create Spliterator of UTF-8 bytes in {@link ByteBuffer}.
+     *
+     * <p>Bytes from position to limit are read.
+     * The position of the buffer is not changed.
+     *
+     * @param bytes UTF-8 bytes
+     * @param minChunk min bytes of chunk
+     * @return Spliterator
+     */
+    static JsonLinesSpliterator of(ByteBuffer bytes, long minChunk) {
+        ByteBuffer dup = bytes.duplicate();
+        int start = dup.position() + bomLength(dup);
+        JsonLinesSpliterator result =
+                new OfBuffer(dup, start, start, dup.limit(), minChunk);
+        return result;
+    }
+
+    /**
+     * Create Spliterator of UTF-8 bytes in file.
+     *
+     * <p>Bytes from the position of the channel to the end of file are read.
+     * The position of the channel is not changed.
+     *
+     * @param channel file channel
+     * @param minChunk min bytes of chunk
+     * @return Spliterator
+     * @throws IOException I/O error
+     */
+    static JsonLinesSpliterator of(FileChannel channel, long minChunk)
+            throws IOException {
+        long startPos = channel.position();
+        long endPos = channel.size();
+        long headSize = Math.min(JsonCharset.DETECT_BYTES,
+                                 Math.max(0L, endPos - startPos));
+        ByteBuffer head =
+                channel.map(FileChannel.MapMode.READ_ONLY, startPos, headSize);
+
+        long start = startPos + bomLength(head);
+        JsonLinesSpliterator result =
+                new OfChannel(channel, start, start, endPos, minChunk);
+
+        return result;
+    }
+
+    /**
+     * Return the length of UTF-8 BOM.
+     *
+     * @param head leading bytes
+     * @return length of BOM. 0 if no BOM.
+     */
+    private static int bomLength(ByteBuffer head) {
+        int result = JsonCharset.bomLength(head, StandardCharsets.UTF_8);
+        return result;
+    }
+
+    /**
+     * Return the byte at the position.
+     *
+     * @param pos position
+     * @return byte
+     * @throws IOException I/O error
+     */
+    protected abstract byte byteAt(long pos) throws IOException;
+
+    /**
+     * Create Reader of the chunk.
+     *
+     * @param start start position of chunk
+     * @param end end position of chunk (exclusive)
+     * @return Reader
+     * @throws IOException I/O error
+     */
+    protected abstract Reader newReader(long start, long end)
+            throws IOException;
+
+    /**
+     * Create Spliterator of the chunk.
+     *
+     * @param wholeStart start position of the whole bytes
+     * @param start start position of chunk
+     * @param end end position of chunk (exclusive)
+     * @param chunkMin min bytes of chunk
+     * @return Spliterator
+     */
+    protected abstract JsonLinesSpliterator newChunk(long wholeStart,
+                                                     long start, long end,
+                                                     long chunkMin);
+
+    /**
+     * Return the position next to the line feed at or after the position.
+     *
+     * @param pos position
+     * @return position next to the line feed. end position if not found.
+     * @throws IOException I/O error
+     */
+    private long nextLine(long pos) throws IOException {
+        for (long idx = pos; idx < this.hi; idx++) {
+            if (byteAt(idx) == LF) return idx + 1;
+        }
+        return this.hi;
+    }
+
+    /**
+     * Count line feeds from the start of the whole bytes to the position.
+     *
+     * @param pos position
+     * @return number of line feeds
+     * @throws IOException I/O error
+     */
+    private int countLines(long pos) throws IOException {
+        int result = 0;
+        for (long idx = this.origin; idx < pos; idx++) {
+            if (byteAt(idx) == LF) result++;
+        }
+        return result;
+    }
+
+    /**
+     * Convert the exception of the chunk to the exception of the whole bytes.
+     *
+     * <p>Line-number is converted from the chunk to the whole bytes.
+     * The column is kept because chunks begin at the head of line.
+     * The char offset in the whole bytes is unknown.
+     *
+     * @param cause exception of chunk
+     * @return unchecked exception
+     */
+    private RuntimeException chunkException(JsParseException cause) {
+        int lines;
+        try {
+            lines = countLines(this.chunkStart);
+        } catch (IOException e) {
+            return new UncheckedIOException(e);
+        }
+
+        int line = cause.getLineNumber();
+        if (line > 0) line += lines;
+
+        JsParseException whole = new JsParseException(
+                cause.getMessage(), cause, line, cause.getColumn(), -1L);
+        RuntimeException result = new UncheckedJsParseException(whole);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws UncheckedIOException I/O error or malformed bytes
+     * @throws UncheckedJsParseException invalid token
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super JsComposition<?>> action)
+            throws UncheckedIOException, UncheckedJsParseException {
+        JsComposition<?> value;
+        try {
+            if (this.reader == null) {
+                if (this.lo >= this.hi) return false;
+                this.chunkStart = this.lo;
+                this.reader = new JsonSequenceReader(newReader(this.lo, this.hi));
+                this.lo = this.hi;
+            }
+            value = this.reader.readJson();
+            if (value == null) {
+                this.reader.close();
+                this.reader = null;
+                return false;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (JsParseException e) {
+            throw chunkException(e);
+        }
+
+        action.accept(value);
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Bytes are split at the line feed next to the middle.
+     *
+     * @return {@inheritDoc}
+     * @throws UncheckedIOException I/O error
+     */
+    @Override
+    public Spliterator<JsComposition<?>> trySplit()
+            throws UncheckedIOException {
+        if (this.reader != null) return null;
+        if (this.hi - this.lo < this.minChunk * 2) return null;
+
+        long mid = this.lo + (this.hi - this.lo) / 2;
+        long split;
+        try {
+            split = nextLine(mid);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (split >= this.hi) return null;
+
+        JsonLinesSpliterator result = newChunk(this.origin, this.lo, split, this.minChunk);
+        this.lo = split;
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Bytes not parsed yet are returned as the estimation.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return this.hi - this.lo;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+
+    /**
+     * Spliterator of bytes in {@link ByteBuffer}.
+     */
+    private static final class OfBuffer extends JsonLinesSpliterator {
+
+        private final ByteBuffer bytes;
+
+        /**
+         * Constructor.
+         *
+         * @param bytes bytes
+         * @param origin start position of the whole bytes
+         * @param lo start position of bytes
+         * @param hi end position of bytes (exclusive)
+         * @param minChunk min bytes of chunk
+         */
+        OfBuffer(ByteBuffer bytes,
+                 long origin, long lo, long hi, long minChunk) {
+            super(origin, lo, hi, minChunk);
+            this.bytes = bytes;
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param pos {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        protected byte byteAt(long pos) {
+            return this.bytes.get((int) pos);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param start {@inheritDoc}
+         * @param end {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        protected Reader newReader(long start, long end) {
+            ByteBuffer chunk = this.bytes.duplicate();
+            chunk.limit((int) end);
+            chunk.position((int) start);
+            return new Utf8Reader(chunk);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param wholeStart {@inheritDoc}
+         * @param start {@inheritDoc}
+         * @param end {@inheritDoc}
+         * @param chunkMin {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        protected JsonLinesSpliterator newChunk(long wholeStart,
+                                                long start, long end,
+                                                long chunkMin) {
+            return new OfBuffer(this.bytes, wholeStart, start, end, chunkMin);
+        }
+
+    }
+
+    /**
+     * Spliterator of bytes in file.
+     */
+    private static final class OfChannel extends JsonLinesSpliterator {
+
+        private static final int PROBE_SIZE = 4 * 1024;
+
+        private final FileChannel channel;
+
+        // bytes read around the split point or the head
+        private final ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        private long probePos = -1L;
+
+        /**
+         * Constructor.
+         *
+         * @param channel file channel
+         * @param origin start position of the whole bytes
+         * @param lo start position of bytes
+         * @param hi end position of bytes (exclusive)
+         * @param minChunk min bytes of chunk
+         */
+        OfChannel(FileChannel channel,
+                  long origin, long lo, long hi, long minChunk) {
+            super(origin, lo, hi, minChunk);
+            this.channel = channel;
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Bytes are read block by block by the positional read,
+         * which is safe in multiple threads.
+         *
+         * @param pos {@inheritDoc}
+         * @return {@inheritDoc}
+         * @throws IOException {@inheritDoc}
+         */
+        @Override
+        protected byte byteAt(long pos) throws IOException {
+            ByteBuffer buf = this.probe;
+            if (this.probePos < 0 || pos < this.probePos
+                    || this.probePos + buf.limit() <= pos) {
+                buf.clear();
+                while (buf.hasRemaining()) {
+                    int readed = this.channel.read(buf, pos + buf.position());
+                    if (readed < 0) break;
+                }
+                buf.flip();
+                this.probePos = pos;
+                if ( !buf.hasRemaining() ) throw new EOFException();
+            }
+            return buf.get((int) (pos - this.probePos));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param start {@inheritDoc}
+         * @param end {@inheritDoc}
+         * @return {@inheritDoc}
+         * @throws IOException {@inheritDoc}
+         */
+        @Override
+        protected Reader newReader(long start, long end) throws IOException {
+            return new MappedUtf8Reader(this.channel, start, end);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param wholeStart {@inheritDoc}
+         * @param start {@inheritDoc}
+         * @param end {@inheritDoc}
+         * @param chunkMin {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        protected JsonLinesSpliterator newChunk(long wholeStart,
+                                                long start, long end,
+                                                long chunkMin) {
+            return new OfChannel(this.channel, wholeStart, start, end, chunkMin);
+        }
+
+    }
+
+}
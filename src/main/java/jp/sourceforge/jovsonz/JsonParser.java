@@ -0,0 +1,258 @@
+/*
+ * reusable JSON parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable parser of JSON root Values.
+ *
+ * <p>{@link Json#parseJson(Reader)} creates the input source
+ * with its block buffer, lexers and symbol table of PAIR names
+ * for each document.
+ * This parser keeps them between documents
+ * and only rewinds them by {@code reset()},
+ * so that parsing many small documents
+ * allocates nothing but the Values after warming up.
+ *
+ * <p>PAIR names share one String instance across documents
+ * parsed by the same parser.
+ *
+ * <p>Text given by {@link #reset(CharSequence)} is copied
+ * into the char buffer kept for reuse,
+ * except for array-backed {@link java.nio.CharBuffer}.
+ * The byte array given by {@link #reset(byte[], int, int)}
+ * is referenced until another byte array is given.
+ *
+ * <p>example
+ *
+ * <pre>
+ * JsComposition&lt;?&gt; root =
+ *         JsonParser.forCurrentThread().reset(text).parseJson();
+ * </pre>
+ *
+ * <p>Not thread safe.
+ * Use {@link #forCurrentThread()} to share parsers between threads.
+ */
+public class JsonParser {
+
+    /** max chars of text buffer kept for reuse. */
+    private static final int MAX_TEXT = 1024 * 1024;
+
+    private static final char[] EMPTY_TEXT = {};
+
+    private static final ThreadLocal<JsonParser> PER_THREAD =
+            ThreadLocal.withInitial(JsonParser::new);
+
+
+    private final JsonSource source;
+
+    // text buffer for CharSequence
+    private char[] textBuf = EMPTY_TEXT;
+
+    // view of the last byte array and its decoder
+    private ByteBuffer byteView = null;
+    private Utf8Reader utf8Reader = null;
+
+
+    /**
+     * Constructor.
+     *
+     * <p>Nothing can be read until reset.
+     */
+    public JsonParser() {
+        super();
+        this.source = new JsonSource(EMPTY_TEXT, 0, 0);
+        return;
+    }
+
+
+    /**
+     * Return the parser dedicated to the current thread.
+     *
+     * <p>The same parser is returned every time in the same thread.
+     *
+     * @return parser
+     */
+    public static JsonParser forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Restart parsing from {@link java.io.Reader}.
+     *
+     * <p>The reader is not closed.
+     *
+     * @param reader input Reader
+     * @return this parser
+     * @throws NullPointerException argument is null
+     */
+    public JsonParser reset(Reader reader) {
+        this.source.reset(reader);
+        return this;
+    }
+
+    /**
+     * Restart parsing from text.
+     *
+     * <p>The text is copied into the char buffer kept for reuse.
+     * Chars of array-backed {@link java.nio.CharBuffer}
+     * from position to limit are indexed directly without copying
+     * and must not be changed while parsing.
+     *
+     * @param text JSON text
+     * @return this parser
+     * @throws NullPointerException argument is null
+     */
+    public JsonParser reset(CharSequence text) {
+        if (text instanceof CharBuffer) {
+            CharBuffer buffer = (CharBuffer) text;
+            if (buffer.hasArray()) {
+                int start = buffer.arrayOffset() + buffer.position();
+                this.source.reset(buffer.array(),
+                                  start, start + buffer.remaining());
+                return this;
+            }
+        }
+
+        int length = text.length();
+
+        char[] buf = this.textBuf;
+        if (buf.length < length) {
+            buf = new char[length];
+            if (length <= MAX_TEXT) this.textBuf = buf;
+        }
+
+        JsonSource.copyChars(text, buf);
+        this.source.reset(buf, 0, length);
+
+        return this;
+    }
+
+    /**
+     * Restart parsing from byte array.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     *
+     * @param bytes input bytes
+     * @return this parser
+     * @throws IOException malformed bytes
+     * @throws NullPointerException argument is null
+     * @see #reset(byte[], int, int)
+     */
+    public JsonParser reset(byte[] bytes) throws IOException {
+        return reset(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Restart parsing from byte array.
+     *
+     * <p>Encoding is detected from the leading bytes.
+     * UTF-8 bytes are decoded block by block while parsing
+     * without copying the whole bytes.
+     * The same byte array as the last reset is decoded
+     * without creating any object.
+     *
+     * @param bytes input bytes
+     * @param offset start of input bytes
+     * @param length length of input bytes
+     * @return this parser
+     * @throws IOException malformed bytes
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    public JsonParser reset(byte[] bytes, int offset, int length)
+            throws IOException {
+        if (offset < 0 || length < 0 || bytes.length - offset < length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ByteBuffer view = this.byteView;
+        if (view == null || view.array() != bytes) {
+            view = ByteBuffer.wrap(bytes);
+            this.byteView = view;
+        }
+        view.clear();
+        view.limit(offset + length);
+        view.position(offset);
+
+        Charset charset = JsonCharset.detectCharset(view);
+        if (charset != StandardCharsets.UTF_8) {
+            this.source.reset(JsonCharset.newReader(view));
+            return this;
+        }
+
+        int bomLength = JsonCharset.bomLength(view, charset);
+        view.position(offset + bomLength);
+
+        if (this.utf8Reader == null) {
+            this.utf8Reader = new Utf8Reader(view);
+        } else {
+            this.utf8Reader.reset(view);
+        }
+        this.source.reset(this.utf8Reader);
+
+        return this;
+    }
+
+    /**
+     * Read the next JSON root Value.
+     *
+     * <p>Root Values concatenated in one input are read one by one.
+     *
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error or malformed bytes
+     * @throws JsParseException invalid token or too deep nesting
+     */
+    public JsComposition<?> parseJson()
+            throws IOException, JsParseException {
+        JsComposition<?> result = Json.parseJson(this.source);
+        return result;
+    }
+
+    /**
+     * Return max depth of OBJECT and ARRAY nesting.
+     *
+     * @return max depth. {@link Integer#MAX_VALUE} if unlimited.
+     */
+    public int getMaxDepth() {
+        return this.source.getMaxDepth();
+    }
+
+    /**
+     * Set max depth of OBJECT and ARRAY nesting.
+     *
+     * <p>Deeper nesting causes {@link JsParseException}.
+     * The root Value is at depth 1.
+     * The depth is kept across {@code reset()}.
+     *
+     * @param maxDepth max depth
+     * @return this parser
+     * @throws IllegalArgumentException maxDepth is not positive
+     */
+    public JsonParser setMaxDepth(int maxDepth) {
+        this.source.setMaxDepth(maxDepth);
+        return this;
+    }
+
+    /**
+     * Return current line-number.
+     *
+     * @return line-number starting from 1
+     */
+    public int getLineNumber() {
+        return this.source.getLineNumber();
+    }
+
+}
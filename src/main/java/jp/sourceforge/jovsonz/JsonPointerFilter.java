@@ -0,0 +1,483 @@
+/*
+ * JSON Pointer filter
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Filter of JSON Values by JSON Pointer patterns while parsing.
+ *
+ * <p>Each pattern is JSON Pointer (RFC 6901) like "/meta/id".
+ * The segment "*" matches any PAIR name of OBJECT
+ * and any index of ARRAY.
+ * The empty pattern "" matches the whole root Value.
+ *
+ * <p>Values matched by patterns are parsed as usual.
+ * OBJECT and ARRAY on the way to the matched Values are created
+ * with matched children only, even if no child is matched.
+ * Other Values are skipped without creating any Value object,
+ * but their syntax is validated,
+ * so the same text is rejected regardless of the patterns.
+ * NUMBER with scale out of int range is rejected
+ * by {@link NumberFormatException} even if skipped.
+ *
+ * <p>The indexes of ARRAY elements in the pattern
+ * refer to the original text.
+ * Elements not matched are removed from the pruned ARRAY,
+ * so the indexes of the remaining elements may change.
+ *
+ * <p>example
+ *
+ * <pre>
+ * JsonPointerFilter filter =
+ *         new JsonPointerFilter("/meta/id", "/items/*&#47;price");
+ * JsComposition&lt;?&gt; root = Json.parseJson(reader, filter);
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared by multiple threads.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a>
+ * @see Json#parseJson(java.io.Reader, JsonPointerFilter)
+ */
+public final class JsonPointerFilter {
+
+    /** Segment which matches any PAIR name or index. */
+    public static final String WILDCARD = "*";
+
+    private static final String ERRMSG_POINTER = "invalid JSON Pointer: ";
+
+    private static final Node[] NO_NODE = {};
+
+
+    private final Node root = new Node(null);
+
+
+    /**
+     * Constructor.
+     *
+     * @param patterns JSON Pointer patterns
+     * @throws NullPointerException argument is null
+     * @throws IllegalArgumentException invalid JSON Pointer
+     */
+    public JsonPointerFilter(String... patterns)
+            throws IllegalArgumentException {
+        this(Arrays.asList(patterns));
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param patterns JSON Pointer patterns
+     * @throws NullPointerException argument is null
+     * @throws IllegalArgumentException invalid JSON Pointer
+     */
+    public JsonPointerFilter(Collection<String> patterns)
+            throws IllegalArgumentException {
+        super();
+        for (String pattern : patterns) {
+            addPattern(Objects.requireNonNull(pattern));
+        }
+        return;
+    }
+
+
+    /**
+     * Decode escaped segment of JSON Pointer.
+     *
+     * @param pattern whole pattern for error message
+     * @param segment segment
+     * @return decoded segment
+     * @throws IllegalArgumentException invalid escape
+     */
+    private static String unescape(String pattern, String segment)
+            throws IllegalArgumentException {
+        if (segment.indexOf('~') < 0) return segment;
+
+        StringBuilder result = new StringBuilder();
+        int length = segment.length();
+        for (int pos = 0; pos < length; pos++) {
+            char ch = segment.charAt(pos);
+            if (ch != '~') {
+                result.append(ch);
+                continue;
+            }
+
+            pos++;
+            char esc = '\0';
+            if (pos < length) esc = segment.charAt(pos);
+            if (esc == '0') {
+                result.append('~');
+            } else if (esc == '1') {
+                result.append('/');
+            } else {
+                throw new IllegalArgumentException(ERRMSG_POINTER + pattern);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Register JSON Pointer pattern.
+     *
+     * @param pattern JSON Pointer pattern
+     * @throws IllegalArgumentException invalid JSON Pointer
+     */
+    private void addPattern(String pattern) throws IllegalArgumentException {
+        Node node = this.root;
+
+        if ( !pattern.isEmpty() ) {
+            if (pattern.charAt(0) != '/') {
+                throw new IllegalArgumentException(ERRMSG_POINTER + pattern);
+            }
+
+            int start = 1;
+            for (;;) {
+                int end = pattern.indexOf('/', start);
+                if (end < 0) end = pattern.length();
+
+                String segment = pattern.substring(start, end);
+                node = node.child(unescape(pattern, segment));
+
+                if (end >= pattern.length()) break;
+                start = end + 1;
+            }
+        }
+
+        node.terminal = true;
+
+        return;
+    }
+
+    /**
+     * Return the nodes matched by PAIR name or index.
+     *
+     * @param states current nodes
+     * @param name PAIR name. null if ARRAY element.
+     * @param index index of ARRAY element. ignored if PAIR.
+     * @return matched nodes. empty if no match.
+     */
+    private static Node[] step(Node[] states, CharSequence name, int index) {
+        Node[] result = NO_NODE;
+        int size = 0;
+
+        for (Node state : states) {
+            for (Node child : state.children) {
+                boolean matched;
+                if (child == state.wildcard) {
+                    matched = true;
+                } else if (name != null) {
+                    matched = child.segment.contentEquals(name);
+                } else {
+                    matched = child.index == index;
+                }
+                if ( !matched ) continue;
+
+                if (size >= result.length) {
+                    result = Arrays.copyOf(result, size + states.length);
+                }
+                result[size++] = child;
+            }
+        }
+
+        if (size < result.length) result = Arrays.copyOf(result, size);
+
+        return result;
+    }
+
+    /**
+     * Determine if any node is the end of pattern.
+     *
+     * @param states nodes
+     * @return true if whole Value is matched
+     */
+    private static boolean isTerminal(Node[] states) {
+        for (Node state : states) {
+            if (state.terminal) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Read JSON root Value filtered by patterns from input source.
+     *
+     * @param source input source
+     * @return pruned OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    JsComposition<?> parseJson(JsonSource source)
+            throws IOException, JsParseException {
+        if (this.root.terminal) return Json.parseJson(source);
+
+        source.skipWhiteSpace();
+        if ( !source.hasMore() ) return null;
+
+        Node[] states = {this.root};
+        StringBuilder name = new StringBuilder();
+
+        JsComposition<?> result;
+        char head = source.peekOrDie();
+        if (head == '{') {
+            result = parseObject(source, states, name);
+        } else if (head == '[') {
+            result = parseArray(source, states, name);
+        } else {
+            result = Json.parseJson(source);
+        }
+
+        return result;
+    }
+
+    /**
+     * Read Value matched by patterns.
+     *
+     * @param source input source
+     * @param states matched nodes
+     * @param name PAIR name buffer
+     * @return Value. null if skipped.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private static JsValue parseValue(JsonSource source,
+                                      Node[] states,
+                                      StringBuilder name)
+            throws IOException, JsParseException {
+        if (states.length <= 0) {
+            source.skipValue();
+            return null;
+        }
+        if (isTerminal(states)) {
+            return Json.parseValue(source);
+        }
+
+        source.skipWhiteSpace();
+        char head = source.peekOrDie();
+
+        JsValue result;
+        if (head == '{') {
+            result = parseObject(source, states, name);
+        } else if (head == '[') {
+            result = parseArray(source, states, name);
+        } else {
+            source.skipValue();
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Read OBJECT Value with PAIRs matched by patterns.
+     *
+     * <p>Errors are the same as {@link JsObject#parseObject(JsonSource)}.
+     *
+     * @param source input source
+     * @param states matched nodes
+     * @param name PAIR name buffer
+     * @return OBJECT Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private static JsObject parseObject(JsonSource source,
+                                        Node[] states,
+                                        StringBuilder name)
+            throws IOException, JsParseException {
+        source.read();
+
+        JsObject result = new JsObject();
+        boolean hasPair = false;
+
+        for (;;) {
+            source.skipWhiteSpace();
+            char chData = source.peekOrDie();
+            if (chData == '}') {
+                source.read();
+                break;
+            }
+
+            if (hasPair) {
+                if (chData != ',') {
+                    throw source.newParseException(JsObject.ERRMSG_NOOBJECTCOMMA);
+                }
+                source.read();
+                source.skipWhiteSpace();
+            }
+
+            if (source.peekOrDie() != '"') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHNAME);
+            }
+            source.read();
+            name.setLength(0);
+            JsString.parseStringText(source, name);
+
+            source.skipWhiteSpace();
+            chData = source.peekOrDie();
+            if (chData != ':') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHSEP);
+            }
+            source.read();
+
+            source.skipWhiteSpace();
+            if ( !source.hasMore() ) {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHVAL);
+            }
+
+            Node[] next = step(states, name, -1);
+            String key = null;
+            if (next.length > 0) key = name.toString();
+
+            JsValue value = parseValue(source, next, name);
+            if (value != null) result.putValue(key, value);
+
+            hasPair = true;
+        }
+
+        return result;
+    }
+
+    /**
+     * Read ARRAY Value with elements matched by patterns.
+     *
+     * <p>Errors are the same as {@link JsArray#parseArray(JsonSource)}.
+     *
+     * @param source input source
+     * @param states matched nodes
+     * @param name PAIR name buffer
+     * @return ARRAY Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private static JsArray parseArray(JsonSource source,
+                                      Node[] states,
+                                      StringBuilder name)
+            throws IOException, JsParseException {
+        source.read();
+
+        JsArray result = new JsArray();
+        int index = 0;
+
+        for (;;) {
+            source.skipWhiteSpace();
+            char chData = source.peekOrDie();
+            if (chData == ']') {
+                source.read();
+                break;
+            }
+
+            if (index > 0) {
+                if (chData != ',') {
+                    throw source.newParseException(JsArray.ERRMSG_NOARRAYCOMMA);
+                }
+                source.read();
+            }
+
+            source.skipWhiteSpace();
+            if ( !source.hasMore() ) {
+                throw source.newParseException(JsArray.ERRMSG_NOELEM);
+            }
+
+            Node[] next = step(states, null, index);
+            JsValue value = parseValue(source, next, name);
+            if (value != null) result.add(value);
+
+            index++;
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Node of pattern tree.
+     */
+    private static final class Node {
+
+        private static final int NOT_INDEX = -1;
+
+        private final String segment;
+        private final int index;
+
+        private Node[] children = NO_NODE;
+        private Node wildcard = null;
+        private boolean terminal = false;
+
+        /**
+         * Constructor.
+         *
+         * @param segment decoded segment. null if root.
+         */
+        Node(String segment) {
+            super();
+            this.segment = segment;
+            this.index = toIndex(segment);
+            return;
+        }
+
+        /**
+         * Convert segment to ARRAY index.
+         *
+         * @param segment segment
+         * @return index. negative if not index.
+         */
+        private static int toIndex(String segment) {
+            if (segment == null || segment.isEmpty()) return NOT_INDEX;
+
+            int length = segment.length();
+            if (length > 1 && segment.charAt(0) == '0') return NOT_INDEX;
+            for (int pos = 0; pos < length; pos++) {
+                if ( !JsNumber.isLatinDigit(segment.charAt(pos)) ) {
+                    return NOT_INDEX;
+                }
+            }
+
+            int result;
+            try {
+                result = Integer.parseInt(segment);
+            } catch (NumberFormatException e) {
+                result = NOT_INDEX;
+            }
+
+            return result;
+        }
+
+        /**
+         * Return child node of segment, created if absent.
+         *
+         * @param childSegment decoded segment
+         * @return child node
+         */
+        Node child(String childSegment) {
+            boolean isWildcard = WILDCARD.equals(childSegment);
+            if (isWildcard && this.wildcard != null) return this.wildcard;
+
+            if ( !isWildcard ) {
+                for (Node node : this.children) {
+                    if (node != this.wildcard
+                            && node.segment.equals(childSegment)) {
+                        return node;
+                    }
+                }
+            }
+
+            Node result = new Node(childSegment);
+            this.children = Arrays.copyOf(this.children, this.children.length + 1);
+            this.children[this.children.length - 1] = result;
+            if (isWildcard) this.wildcard = result;
+
+            return result;
+        }
+
+    }
+
+}
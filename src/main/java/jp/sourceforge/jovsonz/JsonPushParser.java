@@ -0,0 +1,1034 @@
+/*
+ * JSON push parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Incremental parser fed with chunks of JSON text.
+ *
+ * <p>Chunks are pushed by {@link #feed(ByteBuffer)} as they arrive,
+ * for example from non-blocking channels,
+ * and the end of input is told by {@link #endOfInput()}.
+ * Chunks may be split anywhere,
+ * even inside STRING, escape sequences, NUMBER, or UTF-8 sequences.
+ * The parser suspends there and resumes with the next chunk,
+ * so the whole input never needs to be buffered.
+ *
+ * <p>Without visitor, completed root Values are queued
+ * and taken by {@link #poll()}.
+ * With visitor, the visitor is notified like
+ * {@link Json#visitJson(java.io.Reader, ValueVisitor)}
+ * and no tree is built.
+ *
+ * <p>The same syntax as {@link Json#parseJson(java.io.Reader)} is validated
+ * with the same error messages.
+ * Columns and offsets of errors are counted in chars across chunks.
+ * Root Values may be concatenated
+ * with white spaces and record separators (U+001E) between them.
+ *
+ * <p>example
+ *
+ * <pre>
+ * JsonPushParser parser = new JsonPushParser();
+ * while (channel.read(buf) &gt;= 0) {
+ *     buf.flip();
+ *     parser.feed(buf);
+ *     buf.clear();
+ * }
+ * parser.endOfInput();
+ * JsComposition&lt;?&gt; root = parser.poll();
+ * </pre>
+ *
+ * <p>Not thread safe.
+ * The state after {@link JsParseException} is undefined.
+ */
+public class JsonPushParser {
+
+    /** chars of decoding block. */
+    private static final int BLOCK_SIZE = 8 * 1024;
+    /** max bytes of UTF-8 sequence. */
+    private static final int MAX_SEQ = 4;
+    /** hex digits of unicode escape. */
+    private static final int HEX_DIGITS = 4;
+    private static final int NIBBLE_WIDE = 4;
+    private static final int DEF_NUMBER = 32;
+
+    private static final char LINEFEED = '\n';  // LF(0x0a)
+
+    private static final String LITERAL_TRUE  = "true";
+    private static final String LITERAL_FALSE = "false";
+    private static final String LITERAL_NULL  = "null";
+
+    private static final String ERRMSG_ENDED = "input already ended";
+
+
+    /**
+     * Expected token between Values.
+     */
+    private enum Expect {
+        /** root Value. */
+        ROOT,
+        /** first element of ARRAY or its end. */
+        FIRST_ELEM,
+        /** element of ARRAY following comma. */
+        ELEM,
+        /** first PAIR name of OBJECT or its end. */
+        FIRST_NAME,
+        /** PAIR name following comma. */
+        NAME,
+        /** PAIR separator. */
+        COLON,
+        /** PAIR value. */
+        PAIR_VALUE,
+        /** comma or end of OBJECT or ARRAY. */
+        AFTER_VALUE,
+    }
+
+    /**
+     * Token suspended at the end of chunk.
+     */
+    private enum Lexing {
+        /** no token. */
+        NONE,
+        /** STRING or PAIR name. */
+        STRING,
+        /** char following backslash in STRING. */
+        ESCAPE,
+        /** hex digits of unicode escape. */
+        HEX,
+        /** NUMBER. */
+        NUMBER,
+        /** true, false, or null. */
+        LITERAL,
+    }
+
+
+    private final ValueVisitor visitor;
+    private final TreeBuilder builder;
+
+    private final Deque<JsComposition<?>> nest = new ArrayDeque<>();
+    private Expect expect = Expect.ROOT;
+    private Lexing lexing = Lexing.NONE;
+
+    // STRING or PAIR name
+    private final StringBuilder text = new StringBuilder();
+    private boolean lexingName = false;
+    private int hexCount = 0;
+    private int hexValue = 0;
+    private JsParseException hexError = null;
+
+    // NUMBER
+    private char[] numberBuf = new char[DEF_NUMBER];
+    private int numberLength = 0;
+    private JsonSource numberSource = null;
+    private final NumberLexer numberLexer = new NumberLexer();
+
+    // true, false, or null
+    private String literal = LITERAL_NULL;
+    private int literalPos = 0;
+    private JsValue literalValue = JsNull.NULL;
+
+    private final NameTable nameTable = new NameTable();
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+    private final ByteBuffer carry = ByteBuffer.allocate(MAX_SEQ);
+    private final CharBuffer chars = CharBuffer.allocate(BLOCK_SIZE);
+
+    // scalar root reported after lexing it
+    private JsParseException rootError = null;
+
+    private int lineNumber = 1;
+    // absolute offset of the char being parsed
+    private long offset = 0L;
+    // absolute offset of the head of the current line
+    private long lineStart = 0L;
+    // absolute offset of the index 0 of the block being parsed
+    private long blockBase = 0L;
+    // absolute offset of the head of NUMBER being accumulated
+    private long numberStart = 0L;
+    private boolean ended = false;
+
+
+    /**
+     * Constructor.
+     *
+     * <p>Completed root Values are queued for {@link #poll()}.
+     */
+    public JsonPushParser() {
+        super();
+        this.builder = new TreeBuilder();
+        this.visitor = this.builder;
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * <p>The visitor is notified while feeding
+     * in the same order as {@link JsValue#traverse(ValueVisitor)}.
+     * OBJECT and ARRAY notified are always empty
+     * because their children are not kept.
+     *
+     * @param visitor visitor
+     * @throws NullPointerException argument is null
+     */
+    public JsonPushParser(ValueVisitor visitor) {
+        super();
+        this.builder = null;
+        this.visitor = Objects.requireNonNull(visitor);
+        return;
+    }
+
+
+    /**
+     * Determine if char may continue NUMBER.
+     *
+     * @param ch char
+     * @return true if digit, sign, dot, or exponential mark
+     */
+    private static boolean isNumberChar(char ch) {
+        switch (ch) {
+        case '-':
+        case '+':
+        case '.':
+        case 'e':
+        case 'E':
+            return true;
+        default:
+            break;
+        }
+        return JsNumber.isLatinDigit(ch);
+    }
+
+    /**
+     * Determine if char may start scalar Value.
+     *
+     * @param ch char
+     * @return true if leading char of STRING, NUMBER, BOOLEAN, or NULL
+     */
+    private static boolean isScalarHead(char ch) {
+        switch (ch) {
+        case '"':
+        case 't':
+        case 'f':
+        case 'n':
+        case '-':
+            return true;
+        default:
+            break;
+        }
+        return JsNumber.isLatinDigit(ch);
+    }
+
+    /**
+     * Check if input is not ended yet.
+     *
+     * @throws IllegalStateException already ended
+     */
+    private void checkEnded() throws IllegalStateException {
+        if (this.ended) throw new IllegalStateException(ERRMSG_ENDED);
+        return;
+    }
+
+    /**
+     * Feed chunk of UTF-8 bytes.
+     *
+     * <p>All bytes from position to limit are consumed
+     * and the position of the buffer is advanced to the limit.
+     * Incomplete UTF-8 sequence at the end is kept until the next chunk.
+     *
+     * @param input UTF-8 bytes
+     * @throws IOException malformed bytes
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     * @throws IllegalStateException input already ended
+     * @throws NullPointerException argument is null
+     */
+    public void feed(ByteBuffer input)
+            throws IOException, JsParseException, JsVisitException {
+        Objects.requireNonNull(input);
+        checkEnded();
+
+        ByteBuffer pending = this.carry;
+        while (pending.position() > 0 && input.hasRemaining()) {
+            pending.put(input.get());
+            pending.flip();
+            decode(pending, false);
+            pending.compact();
+        }
+
+        decode(input, false);
+        pending.put(input);
+
+        return;
+    }
+
+    /**
+     * Feed chunk of chars.
+     *
+     * @param input chars
+     * @throws IOException incomplete UTF-8 sequence fed before
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     * @throws IllegalStateException input already ended
+     * @throws NullPointerException argument is null
+     */
+    public void feed(CharSequence input)
+            throws IOException, JsParseException, JsVisitException {
+        Objects.requireNonNull(input);
+        checkEnded();
+        if (this.carry.position() > 0) {
+            throw new MalformedInputException(this.carry.position());
+        }
+
+        char[] buf = this.chars.array();
+        int length = input.length();
+        int pos = 0;
+        while (pos < length) {
+            int end = Math.min(length, pos + buf.length);
+            for (int idx = pos; idx < end; idx++) {
+                buf[idx - pos] = input.charAt(idx);
+            }
+            parse(buf, 0, end - pos);
+            pos = end;
+        }
+
+        return;
+    }
+
+    /**
+     * Tell the end of input.
+     *
+     * <p>The last root Value must have been completed.
+     *
+     * @throws IOException incomplete UTF-8 sequence
+     * @throws JsParseException invalid token or EOF
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     * @throws IllegalStateException input already ended
+     */
+    public void endOfInput()
+            throws IOException, JsParseException, JsVisitException {
+        checkEnded();
+        this.ended = true;
+
+        ByteBuffer pending = this.carry;
+        pending.flip();
+        decode(pending, true);
+        pending.clear();
+
+        if (this.lexing == Lexing.NUMBER) endNumber(-1);
+
+        // in the middle of token
+        if (this.lexing != Lexing.NONE) {
+            throw newParseException(JsParseException.ERRMSG_NODATA);
+        }
+
+        if (this.expect != Expect.ROOT) {
+            String message;
+            switch (this.expect) {
+            case PAIR_VALUE:
+                message = JsObject.ERRMSG_NOHASHVAL;
+                break;
+            case ELEM:
+                message = JsArray.ERRMSG_NOELEM;
+                break;
+            default:
+                message = JsParseException.ERRMSG_NODATA;
+                break;
+            }
+            throw newParseException(message);
+        }
+
+        return;
+    }
+
+    /**
+     * Take the oldest root Value completed.
+     *
+     * <p>Always null with visitor.
+     *
+     * @return OBJECT or ARRAY root Value. null if no completed root Value.
+     */
+    public JsComposition<?> poll() {
+        if (this.builder == null) return null;
+        return this.builder.roots.poll();
+    }
+
+    /**
+     * Return current line-number.
+     *
+     * @return line-number starting from 1
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Create exception of grammar violation at the char being parsed.
+     *
+     * <p>If the char is LF, the following line is reported
+     * as the other parsers.
+     *
+     * @param message message
+     * @return exception
+     */
+    private JsParseException newParseException(String message) {
+        int column = (int) Math.min(Integer.MAX_VALUE,
+                                    this.offset - this.lineStart + 1L );
+        JsParseException result = new JsParseException(
+                message, this.lineNumber, column, this.offset);
+        return result;
+    }
+
+    /**
+     * Decode UTF-8 bytes and parse them block by block.
+     *
+     * <p>Incomplete UTF-8 sequence at the end is left in the buffer
+     * unless last.
+     *
+     * @param input UTF-8 bytes
+     * @param last true if no more bytes
+     * @throws IOException malformed bytes
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void decode(ByteBuffer input, boolean last)
+            throws IOException, JsParseException, JsVisitException {
+        CharBuffer block = this.chars;
+        for (;;) {
+            CoderResult result = this.decoder.decode(input, block, last);
+            if (result.isError()) result.throwException();
+
+            block.flip();
+            parse(block.array(), block.position(), block.limit());
+            block.clear();
+
+            if (result.isUnderflow()) break;
+        }
+        return;
+    }
+
+    /**
+     * Parse chars.
+     *
+     * @param buf chars
+     * @param start start index
+     * @param end end index (exclusive)
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void parse(char[] buf, int start, int end)
+            throws IOException, JsParseException, JsVisitException {
+        this.blockBase = this.offset - start;
+
+        int pos = start;
+        while (pos < end) {
+            this.offset = this.blockBase + pos;
+            switch (this.lexing) {
+            case STRING:
+                pos = lexString(buf, pos, end);
+                break;
+            case ESCAPE:
+                lexEscape(buf[pos++]);
+                break;
+            case HEX:
+                lexHex(buf[pos++]);
+                break;
+            case NUMBER:
+                pos = lexNumber(buf, pos, end);
+                break;
+            case LITERAL:
+                lexLiteral(buf[pos++]);
+                break;
+            default:
+                pos = parseStructure(buf, pos, end);
+                break;
+            }
+        }
+
+        this.offset = this.blockBase + end;
+
+        return;
+    }
+
+    /**
+     * Parse white spaces and one char between Values.
+     *
+     * @param buf chars
+     * @param start start index
+     * @param end end index (exclusive)
+     * @return index of the next char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private int parseStructure(char[] buf, int start, int end)
+            throws JsParseException, JsVisitException {
+        int pos = start;
+        while (pos < end && JsonSource.isWhitespace(buf[pos])) {
+            if (buf[pos] == LINEFEED) {
+                this.lineNumber++;
+                this.lineStart = this.blockBase + pos + 1;
+            }
+            pos++;
+        }
+        if (pos >= end) return pos;
+        this.offset = this.blockBase + pos;
+
+        char ch = buf[pos];
+        switch (this.expect) {
+        case ROOT:
+            startRoot(ch);
+            break;
+        case FIRST_ELEM:
+            if (ch == ']') {
+                closeComposition();
+            } else {
+                startValue(ch);
+            }
+            break;
+        case ELEM:
+        case PAIR_VALUE:
+            startValue(ch);
+            break;
+        case FIRST_NAME:
+            if (ch == '}') {
+                closeComposition();
+                break;
+            }
+            startName(ch);
+            break;
+        case NAME:
+            startName(ch);
+            break;
+        case COLON:
+            if (ch != ':') {
+                throw newParseException(JsObject.ERRMSG_NOHASHSEP);
+            }
+            this.expect = Expect.PAIR_VALUE;
+            break;
+        default:
+            assert this.expect == Expect.AFTER_VALUE;
+            afterValue(ch);
+            break;
+        }
+
+        return pos + 1;
+    }
+
+    /**
+     * Start root Value.
+     *
+     * <p>Scalar root Value is lexed before it is rejected
+     * so that its own invalid token is reported first
+     * as {@link JsonTokenReader}.
+     *
+     * @param ch leading char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void startRoot(char ch)
+            throws JsParseException, JsVisitException {
+        if (ch == '{' || ch == '[') {
+            startValue(ch);
+            return;
+        }
+        if (ch == JsonSequenceReader.RS) return;
+
+        if ( !isScalarHead(ch) ) {
+            throw newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+        }
+
+        this.rootError =
+                newParseException(JsParseException.ERRMSG_INVALIDROOT);
+        startValue(ch);
+
+        return;
+    }
+
+    /**
+     * Start any Value.
+     *
+     * @param ch leading char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void startValue(char ch)
+            throws JsParseException, JsVisitException {
+        switch (ch) {
+        case '{':
+            openComposition(new JsObject());
+            this.expect = Expect.FIRST_NAME;
+            break;
+        case '[':
+            openComposition(new JsArray());
+            this.expect = Expect.FIRST_ELEM;
+            break;
+        case '"':
+            this.text.setLength(0);
+            this.lexingName = false;
+            this.lexing = Lexing.STRING;
+            break;
+        case 't':
+            startLiteral(LITERAL_TRUE, JsBoolean.TRUE);
+            break;
+        case 'f':
+            startLiteral(LITERAL_FALSE, JsBoolean.FALSE);
+            break;
+        case 'n':
+            startLiteral(LITERAL_NULL, JsNull.NULL);
+            break;
+        default:
+            if (ch != '-' && !JsNumber.isLatinDigit(ch)) {
+                throw newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+            }
+            this.numberLength = 0;
+            this.numberStart = this.offset;
+            appendNumber(ch);
+            this.lexing = Lexing.NUMBER;
+            break;
+        }
+        return;
+    }
+
+    /**
+     * Start PAIR name.
+     *
+     * @param ch leading char
+     * @throws JsParseException invalid token
+     */
+    private void startName(char ch) throws JsParseException {
+        if (ch != '"') {
+            throw newParseException(JsObject.ERRMSG_NOHASHNAME);
+        }
+        this.text.setLength(0);
+        this.lexingName = true;
+        this.lexing = Lexing.STRING;
+        return;
+    }
+
+    /**
+     * Start true, false, or null whose leading char has been read.
+     *
+     * @param word literal
+     * @param value Value of literal
+     */
+    private void startLiteral(String word, JsValue value) {
+        this.literal = word;
+        this.literalPos = 1;
+        this.literalValue = value;
+        this.lexing = Lexing.LITERAL;
+        return;
+    }
+
+    /**
+     * Parse the char following a Value in OBJECT or ARRAY.
+     *
+     * @param ch char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void afterValue(char ch)
+            throws JsParseException, JsVisitException {
+        boolean inObject = this.nest.peek() instanceof JsObject;
+
+        if (ch == ',') {
+            if (inObject) {
+                this.expect = Expect.NAME;
+            } else {
+                this.expect = Expect.ELEM;
+            }
+        } else if (ch == (inObject ? '}' : ']')) {
+            closeComposition();
+        } else {
+            throw missingComma(inObject);
+        }
+
+        return;
+    }
+
+    /**
+     * Create exception of missing comma.
+     *
+     * @param inObject true if in OBJECT
+     * @return exception
+     */
+    private JsParseException missingComma(boolean inObject) {
+        String message;
+        if (inObject) {
+            message = JsObject.ERRMSG_NOOBJECTCOMMA;
+        } else {
+            message = JsArray.ERRMSG_NOARRAYCOMMA;
+        }
+        return newParseException(message);
+    }
+
+    /**
+     * Open OBJECT or ARRAY.
+     *
+     * @param composition OBJECT or ARRAY
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void openComposition(JsComposition<?> composition)
+            throws JsVisitException {
+        this.visitor.visitValue(composition);
+        this.nest.push(composition);
+        return;
+    }
+
+    /**
+     * Close the current OBJECT or ARRAY.
+     *
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void closeComposition() throws JsVisitException {
+        JsComposition<?> composition = this.nest.pop();
+        this.visitor.visitCompositionClose(composition);
+
+        if (this.nest.isEmpty()) {
+            this.expect = Expect.ROOT;
+        } else {
+            this.expect = Expect.AFTER_VALUE;
+        }
+
+        return;
+    }
+
+    /**
+     * Notify scalar Value in OBJECT or ARRAY.
+     *
+     * <p>Scalar root Value is reported at its head
+     * after it is lexed without errors.
+     *
+     * @param value Value
+     * @throws JsParseException scalar root Value
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void scalarValue(JsValue value)
+            throws JsParseException, JsVisitException {
+        if (this.rootError != null) throw this.rootError;
+        this.lexing = Lexing.NONE;
+        this.expect = Expect.AFTER_VALUE;
+        this.visitor.visitValue(value);
+        return;
+    }
+
+    /**
+     * Lex the run of STRING.
+     *
+     * <p>Unescaped chars are appended in bulk.
+     *
+     * @param buf chars
+     * @param start start index
+     * @param end end index (exclusive)
+     * @return index of the next char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private int lexString(char[] buf, int start, int end)
+            throws JsParseException, JsVisitException {
+        int pos = start;
+        while (pos < end && !JsString.isStringStop(buf[pos])) {
+            pos++;
+        }
+        this.text.append(buf, start, pos - start);
+        if (pos >= end) return pos;
+
+        char ch = buf[pos];
+        if (ch == '"') {
+            endString();
+        } else if (ch == '\\') {
+            this.lexing = Lexing.ESCAPE;
+        } else {
+            this.offset = this.blockBase + pos;
+            if (ch == LINEFEED) this.lineNumber++;
+            throw newParseException(JsString.ERRMSG_INVCTR);
+        }
+
+        return pos + 1;
+    }
+
+    /**
+     * Lex the char following backslash.
+     *
+     * @param ch char
+     * @throws JsParseException invalid escape
+     */
+    private void lexEscape(char ch) throws JsParseException {
+        if (ch == 'u') {
+            this.hexCount = 0;
+            this.hexValue = 0;
+            this.hexError = null;
+            this.lexing = Lexing.HEX;
+            return;
+        }
+
+        int special = JsString.escapeValue(ch);
+        if (special < 0) {
+            if (ch == LINEFEED) this.lineNumber++;
+            throw newParseException(JsString.ERRMSG_INVESC);
+        }
+
+        this.text.append((char) special);
+        this.lexing = Lexing.STRING;
+
+        return;
+    }
+
+    /**
+     * Lex hex digit of unicode escape.
+     *
+     * <p>An invalid digit is reported at its position
+     * after all 4 chars are read, as the other parsers.
+     *
+     * @param ch char
+     * @throws JsParseException invalid escape
+     */
+    private void lexHex(char ch) throws JsParseException {
+        int digit = JsString.hexValue(ch);
+        if (ch == LINEFEED) this.lineNumber++;
+        if (digit < 0 && this.hexError == null) {
+            this.hexError = newParseException(JsString.ERRMSG_INVESC);
+        }
+        if (ch == LINEFEED) this.lineStart = this.offset + 1;
+
+        this.hexValue = (this.hexValue << NIBBLE_WIDE) | digit;
+        this.hexCount++;
+
+        if (this.hexCount >= HEX_DIGITS) {
+            if (this.hexError != null) throw this.hexError;
+            this.text.append((char) this.hexValue);
+            this.lexing = Lexing.STRING;
+        }
+
+        return;
+    }
+
+    /**
+     * End STRING or PAIR name.
+     *
+     * @throws JsParseException scalar root Value
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void endString() throws JsParseException, JsVisitException {
+        if (this.lexingName) {
+            String name = this.nameTable.intern(this.text);
+            this.lexing = Lexing.NONE;
+            this.expect = Expect.COLON;
+            this.visitor.visitPairName(name);
+        } else {
+            scalarValue(new JsString(this.text));
+        }
+        return;
+    }
+
+    /**
+     * Lex the run of NUMBER.
+     *
+     * <p>Chars are accumulated until a char which can't continue NUMBER.
+     * The char is left unconsumed.
+     *
+     * @param buf chars
+     * @param start start index
+     * @param end end index (exclusive)
+     * @return index of the next char
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private int lexNumber(char[] buf, int start, int end)
+            throws IOException, JsParseException, JsVisitException {
+        int pos = start;
+        while (pos < end && isNumberChar(buf[pos])) {
+            appendNumber(buf[pos]);
+            pos++;
+        }
+        if (pos < end) {
+            this.offset = this.blockBase + pos;
+            endNumber(buf[pos]);
+        }
+        return pos;
+    }
+
+    /**
+     * Append char to NUMBER buffer.
+     *
+     * @param ch char
+     */
+    private void appendNumber(char ch) {
+        if (this.numberLength >= this.numberBuf.length) {
+            int newLength = this.numberBuf.length * 2;
+            this.numberBuf = Arrays.copyOf(this.numberBuf, newLength);
+            this.numberSource = null;
+        }
+        this.numberBuf[this.numberLength++] = ch;
+        return;
+    }
+
+    /**
+     * End NUMBER accumulated.
+     *
+     * <p>Accumulated chars are lexed by {@link NumberLexer}
+     * followed by the terminator,
+     * so that errors are the same as the other parsers.
+     *
+     * @param terminator char following NUMBER. negative if end of input
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void endNumber(int terminator)
+            throws IOException, JsParseException, JsVisitException {
+        int length = this.numberLength;
+        if (terminator >= 0) appendNumber((char) terminator);
+
+        if (this.numberSource == null) {
+            this.numberSource = new JsonSource(this.numberBuf, 0, 0);
+        }
+        JsonSource source = this.numberSource;
+        source.setBufferRange(0, this.numberLength, this.lineNumber);
+        source.setBufferOrigin(this.numberStart, this.lineStart);
+
+        this.numberLexer.lex(source, null);
+        int lexed = source.getBufferPosition();
+        this.numberLength = 0;
+
+        scalarValue(this.numberLexer.toNumber());
+
+        if (lexed < length) {
+            this.offset = this.numberStart + lexed;
+            boolean inObject = this.nest.peek() instanceof JsObject;
+            throw missingComma(inObject);
+        }
+
+        return;
+    }
+
+    /**
+     * Lex the char of true, false, or null.
+     *
+     * @param ch char
+     * @throws JsParseException invalid token
+     * @throws JsVisitException Traversing is suspended at the discretion of the visitor
+     */
+    private void lexLiteral(char ch)
+            throws JsParseException, JsVisitException {
+        if (ch != this.literal.charAt(this.literalPos)) {
+            if (ch == LINEFEED) this.lineNumber++;
+            throw newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+        }
+
+        this.literalPos++;
+        if (this.literalPos >= this.literal.length()) {
+            scalarValue(this.literalValue);
+        }
+
+        return;
+    }
+
+
+    /**
+     * Builder of JSON Value trees from notifications.
+     */
+    private static final class TreeBuilder implements ValueVisitor {
+
+        private final Deque<JsComposition<?>> roots = new ArrayDeque<>();
+        private final Deque<JsComposition<?>> nest = new ArrayDeque<>();
+        // PAIR names of OBJECT and ARRAY under construction
+        private final Deque<String> nestNames = new ArrayDeque<>();
+        private String pairName = null;
+
+        /**
+         * Constructor.
+         */
+        TreeBuilder() {
+            super();
+            return;
+        }
+
+        /**
+         * Add Value to the current OBJECT or ARRAY.
+         *
+         * @param name PAIR name if OBJECT
+         * @param value Value
+         */
+        private void attach(String name, JsValue value) {
+            JsComposition<?> parent = this.nest.peek();
+            if (parent instanceof JsObject) {
+                ((JsObject) parent).putValue(name, value);
+            } else if (parent != null) {
+                ((JsArray) parent).add(value);
+            }
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>OBJECT and ARRAY are added to the parent when closed
+         * as the other parsers,
+         * so that the last of duplicated PAIR names wins.
+         *
+         * @param value {@inheritDoc}
+         */
+        @Override
+        public void visitValue(JsValue value) {
+            if (value instanceof JsComposition) {
+                String name = this.pairName;
+                if (name == null) name = "";
+                this.nestNames.push(name);
+                this.nest.push((JsComposition<?>) value);
+            } else {
+                attach(this.pairName, value);
+            }
+
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param name {@inheritDoc}
+         */
+        @Override
+        public void visitPairName(String name) {
+            this.pairName = name;
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param composition {@inheritDoc}
+         */
+        @Override
+        public void visitCompositionClose(JsComposition<?> composition) {
+            this.nest.pop();
+            String name = this.nestNames.pop();
+            if (this.nest.isEmpty()) {
+                this.roots.add(composition);
+            } else {
+                attach(name, composition);
+            }
+            return;
+        }
+
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * JSON sequence reader
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reader of concatenated JSON root Values from one character stream.
+ *
+ * <p>Supported formats are
+ * Newline Delimited JSON (NDJSON, JSON Lines),
+ * JSON text sequences (RFC 7464),
+ * and simply concatenated JSON texts.
+ * White spaces and record separators (U+001E) between root Values are skipped.
+ *
+ * <p>All root Values are read from one input source
+ * and chars read ahead are never lost.
+ *
+ * <p>example
+ *
+ * <pre>
+ * try (JsonSequenceReader reader = new JsonSequenceReader(in)) {
+ *     reader.stream().forEach(root -&gt; process(root));
+ * }
+ * </pre>
+ *
+ * <p>Not thread safe.
+ */
+public class JsonSequenceReader
+        implements Iterable<JsComposition<?>>, Closeable {
+
+    /** Record separator of JSON text sequences. (RFC 7464) */
+    public static final char RS = '\u001e';
+
+
+    private final JsonSource source;
+
+    private int lineNumber = 0;
+    private long count = 0L;
+
+    // root Value read ahead by Iterator#hasNext()
+    private JsComposition<?> nextValue = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param reader character reader
+     * @throws NullPointerException argument is null
+     */
+    public JsonSequenceReader(Reader reader) {
+        this(new JsonSource(reader));
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source input source
+     * @throws NullPointerException argument is null
+     */
+    JsonSequenceReader(JsonSource source) {
+        super();
+        this.source = Objects.requireNonNull(source);
+        return;
+    }
+
+
+    /**
+     * Skip white spaces and record separators.
+     *
+     * @throws IOException I/O error
+     */
+    private void skipSeparators() throws IOException {
+        for (;;) {
+            this.source.skipWhiteSpace();
+            if (this.source.peek() != RS) break;
+            this.source.read();
+        }
+        return;
+    }
+
+    /**
+     * Read next JSON root Value.
+     *
+     * @return OBJECT or ARRAY root Value.
+     *     null when the end of the source is reached.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    public JsComposition<?> readJson() throws IOException, JsParseException {
+        if (this.nextValue != null) {
+            JsComposition<?> result = this.nextValue;
+            this.nextValue = null;
+            return result;
+        }
+
+        skipSeparators();
+        if ( !this.source.hasMore() ) return null;
+
+        this.lineNumber = this.source.getLineNumber();
+        JsComposition<?> result = Json.parseJson(this.source);
+        this.count++;
+
+        return result;
+    }
+
+    /**
+     * Return the line-number where the last root Value started.
+     *
+     * @return line-number starting from 1. 0 if no root Value read.
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Return the number of root Values read.
+     *
+     * @return number of root Values
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Return Iterator of root Values.
+     *
+     * <p>All Iterators share this reader.
+     * {@link IOException} is thrown as {@link UncheckedIOException}
+     * and {@link JsParseException} is thrown as {@link UncheckedJsParseException}.
+     *
+     * @return Iterator
+     */
+    @Override
+    public Iterator<JsComposition<?>> iterator() {
+        return new SequenceIterator();
+    }
+
+    /**
+     * Return sequential Stream of root Values.
+     *
+     * <p>Closing the Stream closes this reader.
+     * {@link IOException} is thrown as {@link UncheckedIOException}
+     * and {@link JsParseException} is thrown as {@link UncheckedJsParseException}.
+     *
+     * @return Stream
+     */
+    public Stream<JsComposition<?>> stream() {
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        Spliterator<JsComposition<?>> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator(), characteristics);
+        Stream<JsComposition<?>> result =
+                StreamSupport.stream(spliterator, false);
+        result = result.onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Close the source.
+     *
+     * @throws IOException I/O error
+     */
+    @Override
+    public void close() throws IOException {
+        this.nextValue = null;
+        this.source.close();
+        return;
+    }
+
+
+    /**
+     * Iterator of root Values.
+     */
+    private final class SequenceIterator
+            implements Iterator<JsComposition<?>> {
+
+        /**
+         * Constructor.
+         */
+        SequenceIterator() {
+            super();
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         * @throws UncheckedIOException I/O error
+         * @throws UncheckedJsParseException invalid token
+         */
+        @Override
+        public boolean hasNext()
+                throws UncheckedIOException, UncheckedJsParseException {
+            if (JsonSequenceReader.this.nextValue != null) return true;
+
+            JsComposition<?> value;
+            try {
+                value = readJson();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (JsParseException e) {
+                throw new UncheckedJsParseException(e);
+            }
+
+            JsonSequenceReader.this.nextValue = value;
+            boolean result = value != null;
+
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         * @throws NoSuchElementException no more root Value
+         * @throws UncheckedIOException I/O error
+         * @throws UncheckedJsParseException invalid token
+         */
+        @Override
+        public JsComposition<?> next()
+                throws NoSuchElementException,
+                       UncheckedIOException,
+                       UncheckedJsParseException {
+            if ( !hasNext() ) throw new NoSuchElementException();
+
+            JsComposition<?> result = JsonSequenceReader.this.nextValue;
+            JsonSequenceReader.this.nextValue = null;
+
+            return result;
+        }
+
+    }
+
+}
@@ -10,7 +10,7 @@
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.CharBuffer;
 import java.util.Objects;
 
 /**
@@ -18,9 +18,19 @@
  *
  * <p>Push-back function for the character read ahead and line number counting function.
  *
+ * <p>Characters are read from {@link java.io.Reader} block by block
+ * into the internal buffer,
+ * then handed to the parsers one by one from the buffer.
+ * Therefore, the reader may be read ahead beyond the end of JSON Value.
+ *
  * <p>Line numbers begin with 1.
  * LF('\n') shall be used to separate lines. (* CR is ignored)
  *
+ * <p>Only the position in the block buffer is recorded while reading.
+ * Line feeds are counted in bulk
+ * when the line-number is required or the block is refilled,
+ * so that reading chars never tests them one by one.
+ *
  * @see java.io.PushbackReader
  * @see java.io.LineNumberReader
  */
@@ -28,6 +38,10 @@ class JsonSource implements Closeable {
 
     /** chars max for push-back. */
     private static final int PUSHBACK_TOKENS = 10;
+    /** chars of read-ahead block. */
+    private static final int BLOCK_SIZE = 8 * 1024;
+    /** max capacity of scratch text kept for reuse. */
+    private static final int MAX_SCRATCH = 64 * 1024;
 
     private static final char LINEFEED = '\n';  // LF(0x0a)
 
@@ -42,13 +56,35 @@ class JsonSource implements Closeable {
     }
 
 
-    private final Reader reader;
+    private Reader reader;
+
+    // read-ahead block buffer
+    private char[] charBuf;
+    // block buffer owned for Reader
+    private char[] blockBuf = null;
+    private int bufPos;
+    private int bufEnd;
+    private boolean reachedEnd;
 
     // stack for push-back
     private final char[] charStack = new char[PUSHBACK_TOKENS];
     private int stackPt = 0;
 
+    // absolute offset of charBuf[0]
+    private long bufOffset;
+    // line-number at lineMark of charBuf
     private int lineNumber = 1;
+    private int lineMark;
+    // offset of the head of line at lineMark. negative if unknown
+    private long lineStart = 0L;
+
+    private NumberLexer numberLexer = null;
+    private ValueSkipper valueSkipper = null;
+    private TreeParser treeParser = null;
+    private int maxDepth = Integer.MAX_VALUE;
+    private NameTable nameTable = null;
+    private JsStringCache stringCache = null;
+    private StringBuilder scratchText = null;
 
     private boolean closed = false;
 
@@ -61,7 +97,26 @@ class JsonSource implements Closeable {
      */
     public JsonSource(Reader reader) {
         super();
-        this.reader = Objects.requireNonNull(reader);
+        reset(reader);
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * <p>The char array is used as the block buffer directly without copying.
+     * Chars in the range must not be changed while parsing.
+     * Offsets are counted from the start index.
+     *
+     * @param text char array
+     * @param start start index of input
+     * @param end end index of input (exclusive)
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    JsonSource(char[] text, int start, int end) {
+        super();
+        reset(text, start, end);
         return;
     }
 
@@ -70,12 +125,136 @@ public JsonSource(Reader reader) {
      *
      * <p>Text as input source.
      *
+     * <p>Chars of array-backed {@link java.nio.CharBuffer}
+     * from position to limit are indexed directly without copying.
+     * Other texts are copied into a char array in bulk.
+     *
      * @param text text
      * @throws NullPointerException argument is null
-     * @see java.io.StringReader
      */
     public JsonSource(CharSequence text) {
-        this(new StringReader(text.toString()));
+        super();
+        CharBuffer chars = arrayChars(text);
+        int start = chars.arrayOffset() + chars.position();
+        reset(chars.array(), start, start + chars.remaining());
+        return;
+    }
+
+
+    /**
+     * Copy all chars of text into the char array.
+     *
+     * <p>Chars of {@link String}, {@link StringBuilder}, {@link StringBuffer}
+     * and {@link java.nio.CharBuffer} are copied in bulk.
+     *
+     * @param text text
+     * @param dst destination
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException destination is too short
+     */
+    static void copyChars(CharSequence text, char[] dst) {
+        int length = text.length();
+
+        if (text instanceof String) {
+            ((String) text).getChars(0, length, dst, 0);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(0, length, dst, 0);
+        } else if (text instanceof StringBuffer) {
+            ((StringBuffer) text).getChars(0, length, dst, 0);
+        } else if (text instanceof CharBuffer) {
+            ((CharBuffer) text).duplicate().get(dst, 0, length);
+        } else {
+            for (int idx = 0; idx < length; idx++) {
+                dst[idx] = text.charAt(idx);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Return chars of text backed by char array.
+     *
+     * <p>Array-backed {@link java.nio.CharBuffer} is returned as is.
+     * Other texts are copied into a new char array in bulk.
+     *
+     * @param text text
+     * @return array-backed chars from position to limit
+     * @throws NullPointerException argument is null
+     */
+    static CharBuffer arrayChars(CharSequence text) {
+        if (text instanceof CharBuffer) {
+            CharBuffer buffer = (CharBuffer) text;
+            if (buffer.hasArray()) return buffer;
+        }
+
+        char[] copied = new char[text.length()];
+        copyChars(text, copied);
+        CharBuffer result = CharBuffer.wrap(copied);
+
+        return result;
+    }
+
+    /**
+     * Restart reading from another {@link java.io.Reader}.
+     *
+     * <p>The block buffer, lexers and tables are kept.
+     * The previous reader is not closed.
+     *
+     * @param newReader character reader
+     * @throws NullPointerException argument is null
+     */
+    void reset(Reader newReader) {
+        this.reader = Objects.requireNonNull(newReader);
+        if (this.blockBuf == null) {
+            this.blockBuf = new char[BLOCK_SIZE];
+        }
+        this.charBuf = this.blockBuf;
+        this.bufPos = 0;
+        this.bufEnd = 0;
+        this.reachedEnd = false;
+        this.bufOffset = 0L;
+        this.lineMark = 0;
+        resetState();
+        return;
+    }
+
+    /**
+     * Restart reading from another char array.
+     *
+     * <p>The char array is used as the block buffer directly without copying.
+     * Lexers and tables are kept.
+     *
+     * @param text char array
+     * @param start start index of input
+     * @param end end index of input (exclusive)
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     * @see #JsonSource(char[], int, int)
+     */
+    void reset(char[] text, int start, int end) {
+        if (start < 0 || end < start || text.length < end) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.reader = null;
+        this.charBuf = text;
+        this.bufPos = start;
+        this.bufEnd = end;
+        this.reachedEnd = true;
+        this.bufOffset = -start;
+        this.lineMark = start;
+        resetState();
+        return;
+    }
+
+    /**
+     * Reset push-back stack, line-number and closed state.
+     */
+    private void resetState() {
+        this.stackPt = 0;
+        this.lineNumber = 1;
+        this.lineStart = 0L;
+        this.closed = false;
         return;
     }
 
@@ -119,19 +298,412 @@ public int getPushBackSpared() {
         return PUSHBACK_TOKENS - this.stackPt;
     }
 
+    /**
+     * Return NUMBER lexer reused while parsing this source.
+     *
+     * @return NUMBER lexer
+     */
+    NumberLexer getNumberLexer() {
+        if (this.numberLexer == null) {
+            this.numberLexer = new NumberLexer();
+        }
+        return this.numberLexer;
+    }
+
+    /**
+     * Return empty scratch text reused while parsing this source.
+     *
+     * <p>The content is valid until the next call.
+     *
+     * @return empty scratch text
+     */
+    StringBuilder getScratchText() {
+        StringBuilder result = this.scratchText;
+        if (result == null || result.capacity() > MAX_SCRATCH) {
+            result = new StringBuilder();
+            this.scratchText = result;
+        }
+        result.setLength(0);
+        return result;
+    }
+
+    /**
+     * Return Value skipper reused while parsing this source.
+     *
+     * @return Value skipper
+     */
+    private ValueSkipper getValueSkipper() {
+        if (this.valueSkipper == null) {
+            this.valueSkipper = new ValueSkipper();
+        }
+        return this.valueSkipper;
+    }
+
+    /**
+     * Return Value tree parser reused while parsing this source.
+     *
+     * @return tree parser
+     */
+    TreeParser getTreeParser() {
+        if (this.treeParser == null) {
+            this.treeParser = new TreeParser();
+        }
+        return this.treeParser;
+    }
+
+    /**
+     * Return max depth of nested OBJECT and ARRAY.
+     *
+     * @return max depth. the root Value is depth 1.
+     */
+    int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Set max depth of nested OBJECT and ARRAY.
+     *
+     * @param depth max depth. the root Value is depth 1.
+     * @throws IllegalArgumentException non-positive depth
+     */
+    void setMaxDepth(int depth) {
+        if (depth <= 0) throw new IllegalArgumentException();
+        this.maxDepth = depth;
+        return;
+    }
+
+    /**
+     * Skip any JSON Value.
+     *
+     * <p>The same syntax as {@link Json#parseValue(JsonSource)} is validated
+     * but no Value object is created.
+     *
+     * @return false when the end of the source is reached
+     *     with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     */
+    boolean skipValue() throws IOException, JsParseException {
+        boolean result = getValueSkipper().skipValue(this);
+        return result;
+    }
+
+    /**
+     * Skip the rest of OBJECT or ARRAY Value
+     * whose opening bracket has been consumed.
+     *
+     * <p>The closing bracket is consumed.
+     * No Value object is created.
+     *
+     * @param isObject true if OBJECT
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     */
+    void skipChildren(boolean isObject) throws IOException, JsParseException {
+        getValueSkipper().skipChildren(this, isObject);
+        return;
+    }
+
+    /**
+     * Return symbol table of PAIR names shared in this source.
+     *
+     * @return name table
+     */
+    NameTable getNameTable() {
+        if (this.nameTable == null) {
+            this.nameTable = new NameTable();
+        }
+        return this.nameTable;
+    }
+
+    /**
+     * Share symbol table of PAIR names with other sources.
+     *
+     * @param table name table
+     */
+    void setNameTable(NameTable table) {
+        this.nameTable = table;
+        return;
+    }
+
+    /**
+     * Return cache of STRING Values.
+     *
+     * @return cache. null if STRING Values are not cached.
+     */
+    JsStringCache getStringCache() {
+        return this.stringCache;
+    }
+
+    /**
+     * Set cache of STRING Values.
+     *
+     * @param cache cache. null if STRING Values are not cached.
+     */
+    void setStringCache(JsStringCache cache) {
+        this.stringCache = cache;
+        return;
+    }
+
+    /**
+     * Count line feeds between the line mark and the current position.
+     *
+     * <p>The line mark is moved to the current position.
+     * Chars pushed back are not considered.
+     */
+    private void syncLines() {
+        char[] buf = this.charBuf;
+        int pos = this.bufPos;
+        int mark = this.lineMark;
+
+        if (mark <= pos) {
+            for (int idx = mark; idx < pos; idx++) {
+                if (buf[idx] == LINEFEED) {
+                    this.lineNumber++;
+                    this.lineStart = this.bufOffset + idx + 1;
+                }
+            }
+        } else {
+            for (int idx = pos; idx < mark; idx++) {
+                if (buf[idx] == LINEFEED) {
+                    this.lineNumber--;
+                    this.lineStart = -1L;
+                }
+            }
+        }
+
+        this.lineMark = pos;
+
+        return;
+    }
+
     /**
      * Return current line-number.
      *
+     * <p>Line feeds read since the last call are counted in bulk.
+     *
      * @return line-number starting from 1
      */
     public int getLineNumber() {
-        return this.lineNumber;
+        syncLines();
+
+        int result = this.lineNumber;
+        for (int idx = 0; idx < this.stackPt; idx++) {
+            if (this.charStack[idx] == LINEFEED) result--;
+        }
+
+        return result;
     }
 
     /**
-     * Read 1char.
+     * Return the offset of the next char.
+     *
+     * <p>Offsets are counted in chars from the start of input.
+     *
+     * @return offset starting from 0
+     */
+    public long getOffset() {
+        long result = this.bufOffset + this.bufPos - this.stackPt;
+        return result;
+    }
+
+    /**
+     * Return the column of the next char.
+     *
+     * <p>Columns are counted in chars.
+     * If the start of the line has been moved out of the block buffer,
+     * columns are counted from the start of the block buffer.
+     *
+     * @return column starting from 1
+     */
+    public int getColumn() {
+        syncLines();
+
+        long start = this.lineStart;
+        if (start < 0L) {
+            // index of offset 0 if the source is the char array
+            int floor = (int) Math.max(0L, -this.bufOffset);
+            start = this.bufOffset + floor;
+            for (int idx = this.bufPos - 1; idx >= floor; idx--) {
+                if (this.charBuf[idx] == LINEFEED) {
+                    start = this.bufOffset + idx + 1;
+                    break;
+                }
+            }
+            this.lineStart = start;
+        }
+
+        long column = getOffset() - start + 1;
+        if (column < 1L) column = 1L;
+        if (column > Integer.MAX_VALUE) column = Integer.MAX_VALUE;
+
+        return (int) column;
+    }
+
+    /**
+     * Create exception of grammar violation at the current position.
+     *
+     * @param message message
+     * @return exception with line-number, column and offset
+     */
+    JsParseException newParseException(String message) {
+        JsParseException result = new JsParseException(
+                message, getLineNumber(), getColumn(), getOffset());
+        return result;
+    }
+
+    /**
+     * Create exception of grammar violation by the next char.
      *
-     * <p>Line numbers will be updated depending on the situation.
+     * <p>The column and offset point to the next char, which is not consumed.
+     * If the char is line feed, the line-number following it is reported
+     * as if the char had been read.
+     *
+     * @param message message
+     * @param next the next char
+     * @return exception with line-number, column and offset
+     */
+    JsParseException newParseException(String message, char next) {
+        int line = getLineNumber();
+        if (next == LINEFEED) line++;
+        JsParseException result = new JsParseException(
+                message, line, getColumn(), getOffset());
+        return result;
+    }
+
+    /**
+     * Return the index of the next char in the char array
+     * given to the constructor.
+     *
+     * <p>Valid only if the source is the char array.
+     *
+     * @return index
+     * @see #JsonSource(char[], int, int)
+     */
+    int getBufferPosition() {
+        assert this.reader == null;
+        int result = this.bufPos - this.stackPt;
+        return result;
+    }
+
+    /**
+     * Move to the index of the char array given to the constructor.
+     *
+     * <p>Valid only if the source is the char array.
+     * Line numbers are not updated.
+     *
+     * @param position index of the next char
+     * @see #JsonSource(char[], int, int)
+     */
+    void setBufferPosition(int position) {
+        assert this.reader == null;
+        assert position <= this.bufEnd;
+        syncLines();
+        this.stackPt = 0;
+        this.bufPos = position;
+        this.lineMark = position;
+        this.lineStart = -1L;
+        return;
+    }
+
+    /**
+     * Move to the index of the char array given to the constructor
+     * with its line-number.
+     *
+     * <p>Valid only if the source is the char array.
+     *
+     * @param position index of the next char
+     * @param line line-number of the next char
+     * @see #JsonSource(char[], int, int)
+     */
+    void setBufferPosition(int position, int line) {
+        assert this.reader == null;
+        assert position <= this.bufEnd;
+        this.stackPt = 0;
+        this.bufPos = position;
+        this.lineNumber = line;
+        this.lineMark = position;
+        this.lineStart = -1L;
+        return;
+    }
+
+    /**
+     * Replace the range of the char array given to the constructor
+     * with its line-number.
+     *
+     * <p>Valid only if the source is the char array.
+     * Chars pushed back are discarded.
+     *
+     * @param start index of the next char
+     * @param end end index of input (exclusive)
+     * @param line line-number of the next char
+     * @see #JsonSource(char[], int, int)
+     */
+    void setBufferRange(int start, int end, int line) {
+        assert this.reader == null;
+        assert start <= end && end <= this.charBuf.length;
+        this.bufEnd = end;
+        setBufferPosition(start, line);
+        return;
+    }
+
+    /**
+     * Relocate the char array given to the constructor in the whole input.
+     *
+     * <p>Valid only if the source is the char array.
+     * Call after the range is set.
+     *
+     * @param offset absolute offset of the index 0 of the char array
+     * @param lineHead absolute offset of the head of the current line
+     * @see #setBufferRange(int, int, int)
+     */
+    void setBufferOrigin(long offset, long lineHead) {
+        assert this.reader == null;
+        this.bufOffset = offset;
+        this.lineStart = lineHead;
+        return;
+    }
+
+    /**
+     * Fill the block buffer from the reader.
+     *
+     * <p>Call only when the block buffer has been consumed.
+     *
+     * <p>Line feeds of the consumed block are counted in bulk.
+     *
+     * @return true if some chars are filled. false if end of stream.
+     * @throws IOException I/O error or already closed.
+     */
+    private boolean fillBlock() throws IOException {
+        if (this.closed) throw new IOException(ERRMSG_CLOSED);
+        if (this.reachedEnd) return false;
+
+        syncLines();
+        this.bufOffset += this.bufEnd;
+        this.lineMark = 0;
+
+        int length;
+        do {
+            length = this.reader.read(this.charBuf, 0, this.charBuf.length);
+        } while (length == 0);
+
+        if (length < 0) {
+            this.reachedEnd = true;
+            this.bufPos = 0;
+            this.bufEnd = 0;
+            return false;
+        }
+
+        this.bufPos = 0;
+        this.bufEnd = length;
+
+        return true;
+    }
+
+    /**
+     * Read 1char.
      *
      * @return Lower 16 bits are 1char data loaded.
      *     Or negative value if the end of the stream has been reached.
@@ -140,20 +712,55 @@ public int getLineNumber() {
      * @see java.io.Reader#read()
      */
     public int read() throws IOException {
-        if (this.closed) throw new IOException(ERRMSG_CLOSED);
-
         int chData;
         if (this.stackPt > 0) {
             chData = (int) this.charStack[--this.stackPt];
+        } else if (this.bufPos < this.bufEnd) {
+            chData = (int) this.charBuf[this.bufPos++];
+        } else if (fillBlock()) {
+            chData = (int) this.charBuf[this.bufPos++];
         } else {
-            chData = this.reader.read();
+            chData = -1;
         }
 
-        if (chData == (int) LINEFEED) this.lineNumber++;
-
         return chData;
     }
 
+    /**
+     * Peek 1char without reading.
+     *
+     * <p>The next {@link #read()} returns the same char.
+     * Line numbers are not updated.
+     *
+     * @return Lower 16 bits are 1char data peeked.
+     *     Or negative value if the end of the stream has been reached.
+     * @throws IOException I/O error
+     */
+    public int peek() throws IOException {
+        if (this.stackPt > 0) {
+            return (int) this.charStack[this.stackPt - 1];
+        }
+        if (this.bufPos >= this.bufEnd) {
+            if ( !fillBlock() ) return -1;
+        }
+        return (int) this.charBuf[this.bufPos];
+    }
+
+    /**
+     * Assuming that it is a grammatical violation to end the input here, peek one character.
+     *
+     * @return char peeked
+     * @throws IOException I/O error
+     * @throws JsParseException Grammar violation due to terminated input
+     */
+    public char peekOrDie() throws IOException, JsParseException {
+        int chData = peek();
+        if (chData < 0) {
+            throw newParseException(JsParseException.ERRMSG_NODATA);
+        }
+        return (char) chData;
+    }
+
     /**
      * Assuming that it is a grammatical violation to end the input here, read one character.
      *
@@ -164,8 +771,7 @@ public int read() throws IOException {
     public char readOrDie() throws IOException, JsParseException {
         int chData = read();
         if (chData < 0) {
-            throw new JsParseException(JsParseException.ERRMSG_NODATA,
-                                       this.lineNumber);
+            throw newParseException(JsParseException.ERRMSG_NODATA);
         }
         return (char) chData;
     }
@@ -173,7 +779,7 @@ public char readOrDie() throws IOException, JsParseException {
     /**
      * Assuming that it is a grammatical violation to end the input here, matching text sequence.
      *
-     * <p>No push-back is performed even if there is no match.
+     * <p>The first unmatched char is not consumed.
      * A zero-length string is always matched.
      *
      * @param seq target text
@@ -186,7 +792,8 @@ public boolean matchOrDie(CharSequence seq)
             throws IOException, JsParseException {
         int length = seq.length();
         for (int pt = 0; pt < length; pt++) {
-            if (readOrDie() != seq.charAt(pt)) return false;
+            if (peekOrDie() != seq.charAt(pt)) return false;
+            read();
         }
         return true;
     }
@@ -196,20 +803,27 @@ public boolean matchOrDie(CharSequence seq)
      *
      * <p>This is also reflected in the line count.
      *
+     * <p>If the char is the same as the last one read from the block buffer,
+     * the buffer is simply rewound
+     * and the push-back stack is not consumed.
+     *
      * @param ch char
      * @throws IOException Buffer overflow or already closed.
      */
     public void unread(char ch) throws IOException {
         if (this.closed) throw new IOException(ERRMSG_CLOSED);
 
-        if (this.stackPt >= PUSHBACK_TOKENS) {
-            throw new IOException(ERRMSG_OVERFLOW);
+        if (   this.stackPt <= 0
+            && this.bufPos > 0
+            && this.charBuf[this.bufPos - 1] == ch ) {
+            this.bufPos--;
+        } else {
+            if (this.stackPt >= PUSHBACK_TOKENS) {
+                throw new IOException(ERRMSG_OVERFLOW);
+            }
+            this.charStack[this.stackPt++] = ch;
         }
 
-        this.charStack[this.stackPt++] = ch;
-
-        if (ch == LINEFEED) this.lineNumber--;
-
         return;
     }
 
@@ -232,18 +846,201 @@ public void unread(int ch) throws IOException {
      * @throws IOException I/O error
      */
     public void skipWhiteSpace() throws IOException {
+        while (this.stackPt > 0) {
+            char ch = this.charStack[this.stackPt - 1];
+            if ( !isWhitespace(ch) ) return;
+            this.stackPt--;
+        }
+
+        for (;;) {
+            while (this.bufPos < this.bufEnd) {
+                char ch = this.charBuf[this.bufPos];
+                if ( !isWhitespace(ch) ) return;
+                this.bufPos++;
+            }
+            if ( !fillBlock() ) break;
+        }
+
+        return;
+    }
+
+    /**
+     * Determine if char is a stop char.
+     *
+     * @param ch char
+     * @param stopTable true at the index of stop chars.
+     *     Chars beyond the table are not stop chars.
+     * @return true if stop char
+     */
+    private static boolean isStop(char ch, boolean[] stopTable) {
+        boolean result = ch < stopTable.length && stopTable[ch];
+        return result;
+    }
+
+    /**
+     * Read a run of chars until a stop char and append them in bulk.
+     *
+     * <p>The stop char is not consumed.
+     * The run must not contain line feeds.
+     *
+     * @param text output target
+     * @param stopTable true at the index of stop chars.
+     *     Chars beyond the table are not stop chars.
+     * @throws IOException I/O error
+     */
+    void appendRun(StringBuilder text, boolean[] stopTable)
+            throws IOException {
+        while (this.stackPt > 0) {
+            char ch = this.charStack[this.stackPt - 1];
+            if (isStop(ch, stopTable)) return;
+            this.stackPt--;
+            text.append(ch);
+        }
+
+        for (;;) {
+            char[] buf = this.charBuf;
+            int start = this.bufPos;
+            int pos = start;
+            int end = this.bufEnd;
+            while (pos < end && !isStop(buf[pos], stopTable)) {
+                pos++;
+            }
+
+            text.append(buf, start, pos - start);
+            this.bufPos = pos;
+
+            if (pos < end) break;
+            if ( !fillBlock() ) break;
+        }
+
+        return;
+    }
+
+    /**
+     * Skip a run of chars until a stop char.
+     *
+     * <p>The stop char is not consumed.
+     * The run must not contain line feeds.
+     *
+     * @param stopTable true at the index of stop chars.
+     *     Chars beyond the table are not stop chars.
+     * @throws IOException I/O error
+     */
+    void skipRun(boolean[] stopTable) throws IOException {
+        while (this.stackPt > 0) {
+            char ch = this.charStack[this.stackPt - 1];
+            if (isStop(ch, stopTable)) return;
+            this.stackPt--;
+        }
+
         for (;;) {
-            int chData = read();
-            if (chData < 0) break;
-            if ( !isWhitespace(chData) ) {
-                unread(chData);
-                break;
+            char[] buf = this.charBuf;
+            int pos = this.bufPos;
+            int end = this.bufEnd;
+            while (pos < end && !isStop(buf[pos], stopTable)) {
+                pos++;
             }
+
+            this.bufPos = pos;
+
+            if (pos < end) break;
+            if ( !fillBlock() ) break;
         }
 
         return;
     }
 
+    /**
+     * Find the terminator of a run of chars in the current block buffer.
+     *
+     * @param stopTable true at the index of stop chars including the terminator.
+     *     Chars beyond the table are not stop chars.
+     * @param terminator terminator char
+     * @return index of the terminator. negative if not found.
+     */
+    private int findTerminator(boolean[] stopTable, char terminator) {
+        if (this.stackPt > 0) return -1;
+
+        char[] buf = this.charBuf;
+        int pos = this.bufPos;
+        int end = this.bufEnd;
+        while (pos < end && !isStop(buf[pos], stopTable)) {
+            pos++;
+        }
+        if (pos >= end || buf[pos] != terminator) return -1;
+
+        return pos;
+    }
+
+    /**
+     * Read a run of chars in the current block buffer
+     * followed by the terminator as String.
+     *
+     * <p>Only when the terminator appears before any other stop char
+     * in the current block buffer,
+     * the run and the terminator are consumed and the run is returned.
+     * Otherwise nothing is consumed.
+     * The run must not contain line feeds.
+     *
+     * @param stopTable true at the index of stop chars including the terminator.
+     *     Chars beyond the table are not stop chars.
+     * @param terminator terminator char
+     * @return run of chars excluding the terminator. null if not found.
+     */
+    String readRun(boolean[] stopTable, char terminator) {
+        int pos = findTerminator(stopTable, terminator);
+        if (pos < 0) return null;
+
+        int start = this.bufPos;
+        String result = new String(this.charBuf, start, pos - start);
+        this.bufPos = pos + 1;
+
+        return result;
+    }
+
+    /**
+     * Read a run of chars like {@link #readRun(boolean[], char)}
+     * as canonical String of the name table.
+     *
+     * @param stopTable true at the index of stop chars including the terminator.
+     *     Chars beyond the table are not stop chars.
+     * @param terminator terminator char
+     * @return run of chars excluding the terminator. null if not found.
+     * @see #getNameTable()
+     */
+    String readName(boolean[] stopTable, char terminator) {
+        int pos = findTerminator(stopTable, terminator);
+        if (pos < 0) return null;
+
+        int start = this.bufPos;
+        String result = getNameTable().intern(this.charBuf, start, pos - start);
+        this.bufPos = pos + 1;
+
+        return result;
+    }
+
+    /**
+     * Read a run of chars like {@link #readRun(boolean[], char)}
+     * as STRING Value of the cache.
+     *
+     * @param cache cache of STRING Values
+     * @param stopTable true at the index of stop chars including the terminator.
+     *     Chars beyond the table are not stop chars.
+     * @param terminator terminator char
+     * @return STRING Value of chars excluding the terminator. null if not found.
+     */
+    JsString readString(JsStringCache cache,
+                        boolean[] stopTable, char terminator) {
+        int pos = findTerminator(stopTable, terminator);
+        if (pos < 0) return null;
+
+        int start = this.bufPos;
+        JsString result = cache.intern(this.charBuf, start, pos - start);
+        this.bufPos = pos + 1;
+
+        return result;
+    }
+
     /**
      * Determine if there is still data to be read.
      *
@@ -251,14 +1048,12 @@ public void skipWhiteSpace() throws IOException {
      * @throws IOException I/O error
      */
     public boolean hasMore() throws IOException {
-        int chData = read();
-        if (chData < 0) return false;
-        unread(chData);
-        return true;
+        boolean result = peek() >= 0;
+        return result;
     }
 
     /**
-     * Close {@link java.io.Reader}.
+     * Close {@link java.io.Reader} if any.
      *
      * <p>All read and push-back operations after close throw an exception.
      *
@@ -269,7 +1064,9 @@ public boolean hasMore() throws IOException {
     public void close() throws IOException {
         this.closed = true;
         this.stackPt = 0;
-        this.reader.close();
+        this.bufPos = 0;
+        this.bufEnd = 0;
+        if (this.reader != null) this.reader.close();
         return;
     }
 
@@ -0,0 +1,91 @@
+/*
+ * JSON token types
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+/**
+ * JSON token types notified by {@link JsonTokenReader}.
+ */
+public enum JsonToken {
+
+    /** Beginning of OBJECT. */
+    START_OBJECT( JsTypes.OBJECT ),
+    /** End of OBJECT. */
+    END_OBJECT(   JsTypes.OBJECT ),
+    /** Beginning of ARRAY. */
+    START_ARRAY(  JsTypes.ARRAY ),
+    /** End of ARRAY. */
+    END_ARRAY(    JsTypes.ARRAY ),
+    /** Name of PAIR in OBJECT. */
+    PAIR_NAME(    null ),
+    /** STRING Value. */
+    STRING(       JsTypes.STRING ),
+    /** NUMBER Value. */
+    NUMBER(       JsTypes.NUMBER ),
+    /** BOOLEAN Value. */
+    BOOLEAN(      JsTypes.BOOLEAN ),
+    /** NULL Value. */
+    NULL(         JsTypes.NULL ),
+    ;
+
+
+    private final JsTypes types;
+
+
+    /**
+     * Constructor.
+     *
+     * @param types associated JSON type. null if PAIR name.
+     */
+    private JsonToken(JsTypes types) {
+        this.types = types;
+        return;
+    }
+
+
+    /**
+     * Returns associated JSON type.
+     *
+     * @return JSON type. null if PAIR name.
+     */
+    public JsTypes getJsTypes() {
+        return this.types;
+    }
+
+    /**
+     * Determine if this token is the beginning of OBJECT or ARRAY.
+     *
+     * @return true if the beginning of OBJECT or ARRAY
+     */
+    public boolean isStart() {
+        boolean result = this == START_OBJECT || this == START_ARRAY;
+        return result;
+    }
+
+    /**
+     * Determine if this token is the end of OBJECT or ARRAY.
+     *
+     * @return true if the end of OBJECT or ARRAY
+     */
+    public boolean isEnd() {
+        boolean result = this == END_OBJECT || this == END_ARRAY;
+        return result;
+    }
+
+    /**
+     * Determine if this token is a Value without children.
+     *
+     * <p>STRING, NUMBER, BOOLEAN, or NULL.
+     *
+     * @return true if a Value without children
+     */
+    public boolean isScalarValue() {
+        boolean result = this.types != null && !this.types.isComposition();
+        return result;
+    }
+
+}
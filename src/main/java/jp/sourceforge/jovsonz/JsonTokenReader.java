@@ -0,0 +1,523 @@
+/*
+ * JSON token reader
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Pull-style reader of JSON tokens.
+ *
+ * <p>Tokens of one JSON root Value (OBJECT or ARRAY) are read
+ * one by one with {@link #nextToken()}
+ * without building any JSON Value tree.
+ *
+ * <p>The same lexical rules as {@link Json#parseJson(Reader)} are applied.
+ * Text of STRING, NUMBER, and PAIR name is held in the internal buffer,
+ * which is reused for each token.
+ *
+ * <p>example
+ *
+ * <pre>
+ * JsonToken token;
+ * while ((token = reader.nextToken()) != null) {
+ *     if (token == JsonToken.PAIR_NAME &amp;&amp; "id".contentEquals(reader.getText())) {
+ *         reader.nextToken();
+ *         long id = reader.getLong();
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Not thread safe.
+ * The state after {@link JsParseException} is undefined.
+ */
+public class JsonTokenReader implements Closeable {
+
+    private static final int DEF_NESTS = 32;
+
+    private static final String ERRMSG_NOTEXT = "no text for token: ";
+    private static final String ERRMSG_UNEXPECTED = "unexpected token: ";
+
+
+    private final JsonSource source;
+
+    private final StringBuilder text = new StringBuilder();
+    private JsBoolean boolValue = JsBoolean.FALSE;
+
+    // true if OBJECT, false if ARRAY
+    private boolean[] objectStack = new boolean[DEF_NESTS];
+    private int depth = 0;
+
+    private boolean hasElement = false;
+    private boolean afterName = false;
+    private boolean started = false;
+
+    private JsonToken token = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param reader character reader
+     * @throws NullPointerException argument is null
+     */
+    public JsonTokenReader(Reader reader) {
+        this(new JsonSource(reader));
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source input source
+     * @throws NullPointerException argument is null
+     */
+    JsonTokenReader(JsonSource source) {
+        super();
+        this.source = Objects.requireNonNull(source);
+        return;
+    }
+
+
+    /**
+     * Read next token.
+     *
+     * <p>null is returned when the root Value has been closed,
+     * or when the end of the source is reached
+     * with zero or more consecutive white spaces.
+     *
+     * @return token. null if no more token.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    public JsonToken nextToken() throws IOException, JsParseException {
+        JsonToken result;
+        if (this.depth <= 0) {
+            result = nextRootToken();
+        } else if (this.objectStack[this.depth - 1]) {
+            result = nextObjectToken();
+        } else {
+            result = nextArrayToken();
+        }
+
+        this.token = result;
+
+        return result;
+    }
+
+    /**
+     * Read the beginning of root Value.
+     *
+     * @return token. null if no more token.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     * @throws NumberFormatException scalar root NUMBER with scale out of range
+     */
+    private JsonToken nextRootToken() throws IOException, JsParseException {
+        if (this.started) return null;
+
+        this.source.skipWhiteSpace();
+        if ( !this.source.hasMore() ) return null;
+        this.started = true;
+
+        JsParseException rootError = null;
+        char head = this.source.peekOrDie();
+        if (head != '{' && head != '[') {
+            rootError = this.source.newParseException(JsParseException.ERRMSG_INVALIDROOT);
+        }
+
+        JsonToken result = nextValueToken();
+        if (rootError != null) {
+            // as the tree parser building NUMBER before the root check
+            if (result == JsonToken.NUMBER) {
+                this.source.getNumberLexer().checkScale();
+            }
+            throw rootError;
+        }
+
+        return result;
+    }
+
+    /**
+     * Read next token in OBJECT.
+     *
+     * @return token
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private JsonToken nextObjectToken() throws IOException, JsParseException {
+        JsonSource src = this.source;
+        src.skipWhiteSpace();
+
+        if (this.afterName) {
+            this.afterName = false;
+            if ( !src.hasMore() ) {
+                throw src.newParseException(JsObject.ERRMSG_NOHASHVAL);
+            }
+            return nextValueToken();
+        }
+
+        char chData = src.peekOrDie();
+        if (chData == '}') {
+            src.read();
+            pop();
+            return JsonToken.END_OBJECT;
+        }
+
+        if (this.hasElement) {
+            if (chData != ',') {
+                throw src.newParseException(JsObject.ERRMSG_NOOBJECTCOMMA);
+            }
+            src.read();
+            src.skipWhiteSpace();
+        }
+
+        if (src.peekOrDie() != '"') {
+            throw src.newParseException(JsObject.ERRMSG_NOHASHNAME);
+        }
+        src.read();
+        this.text.setLength(0);
+        JsString.parseStringText(src, this.text);
+
+        src.skipWhiteSpace();
+        if (src.peekOrDie() != ':') {
+            throw src.newParseException(JsObject.ERRMSG_NOHASHSEP);
+        }
+        src.read();
+
+        this.hasElement = true;
+        this.afterName = true;
+
+        return JsonToken.PAIR_NAME;
+    }
+
+    /**
+     * Read next token in ARRAY.
+     *
+     * @return token
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private JsonToken nextArrayToken() throws IOException, JsParseException {
+        JsonSource src = this.source;
+        src.skipWhiteSpace();
+
+        char chData = src.peekOrDie();
+        if (chData == ']') {
+            src.read();
+            pop();
+            return JsonToken.END_ARRAY;
+        }
+
+        if (this.hasElement) {
+            if (chData != ',') {
+                throw src.newParseException(JsArray.ERRMSG_NOARRAYCOMMA);
+            }
+            src.read();
+            src.skipWhiteSpace();
+            if ( !src.hasMore() ) {
+                throw src.newParseException(JsArray.ERRMSG_NOELEM);
+            }
+        }
+
+        this.hasElement = true;
+
+        return nextValueToken();
+    }
+
+    /**
+     * Read the token of Value.
+     *
+     * <p>The token type is determined by the first character.
+     *
+     * @return token
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private JsonToken nextValueToken() throws IOException, JsParseException {
+        JsonSource src = this.source;
+
+        JsonToken result;
+        char head = src.peekOrDie();
+        switch (head) {
+        case '{':
+            src.read();
+            push(true);
+            result = JsonToken.START_OBJECT;
+            break;
+        case '[':
+            src.read();
+            push(false);
+            result = JsonToken.START_ARRAY;
+            break;
+        case '"':
+            src.read();
+            this.text.setLength(0);
+            JsString.parseStringText(src, this.text);
+            result = JsonToken.STRING;
+            break;
+        case 't':
+        case 'f':
+            this.boolValue = JsBoolean.parseBoolean(src);
+            result = JsonToken.BOOLEAN;
+            break;
+        case 'n':
+            JsNull.parseNull(src);
+            result = JsonToken.NULL;
+            break;
+        default:
+            if (head != '-' && !JsNumber.isLatinDigit(head)) {
+                throw src.newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+            }
+            this.text.setLength(0);
+            src.getNumberLexer().lex(src, this.text);
+            result = JsonToken.NUMBER;
+            break;
+        }
+
+        return result;
+    }
+
+    /**
+     * Push new OBJECT or ARRAY context.
+     *
+     * @param isObject true if OBJECT
+     */
+    private void push(boolean isObject) {
+        if (this.depth >= this.objectStack.length) {
+            int newLength = this.objectStack.length * 2;
+            this.objectStack = Arrays.copyOf(this.objectStack, newLength);
+        }
+        this.objectStack[this.depth++] = isObject;
+        this.hasElement = false;
+        return;
+    }
+
+    /**
+     * Pop OBJECT or ARRAY context.
+     */
+    private void pop() {
+        this.depth--;
+        this.hasElement = true;
+        return;
+    }
+
+    /**
+     * Skip all children of the current OBJECT or ARRAY.
+     *
+     * <p>If the current token is {@link JsonToken#START_OBJECT}
+     * or {@link JsonToken#START_ARRAY},
+     * chars are skipped until the matching end token,
+     * which becomes the current token.
+     * Otherwise do nothing.
+     *
+     * <p>Skipped children are validated
+     * but their text is never copied into the internal buffer.
+     *
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    public void skipChildren() throws IOException, JsParseException {
+        if (this.token == null || !this.token.isStart()) return;
+
+        boolean isObject = this.objectStack[this.depth - 1];
+        this.source.skipChildren(isObject);
+        pop();
+
+        if (isObject) {
+            this.token = JsonToken.END_OBJECT;
+        } else {
+            this.token = JsonToken.END_ARRAY;
+        }
+
+        return;
+    }
+
+    /**
+     * Return the current token.
+     *
+     * @return current token. null if no token.
+     */
+    public JsonToken getToken() {
+        return this.token;
+    }
+
+    /**
+     * Return the nesting depth of OBJECT or ARRAY.
+     *
+     * <p>The depth is 1 just after the beginning of the root Value,
+     * and 0 just after the end of the root Value.
+     *
+     * @return depth
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Return current line-number.
+     *
+     * @return line-number starting from 1
+     */
+    public int getLineNumber() {
+        return this.source.getLineNumber();
+    }
+
+    /**
+     * Check if the current token has text.
+     *
+     * @throws IllegalStateException no text for the current token
+     */
+    private void checkText() throws IllegalStateException {
+        if (   this.token != JsonToken.STRING
+            && this.token != JsonToken.NUMBER
+            && this.token != JsonToken.PAIR_NAME ) {
+            throw new IllegalStateException(ERRMSG_NOTEXT + this.token);
+        }
+        return;
+    }
+
+    /**
+     * Check if the current token is expected.
+     *
+     * @param expected expected token
+     * @throws IllegalStateException unexpected token
+     */
+    private void checkToken(JsonToken expected) throws IllegalStateException {
+        if (this.token != expected) {
+            throw new IllegalStateException(ERRMSG_UNEXPECTED + this.token);
+        }
+        return;
+    }
+
+    /**
+     * Return the text of the current token.
+     *
+     * <p>Text of STRING and PAIR name is unescaped raw text.
+     *
+     * <p>The returned sequence is reused
+     * and its contents are changed by the next {@link #nextToken()}.
+     *
+     * @return text of STRING, NUMBER, or PAIR name
+     * @throws IllegalStateException the current token has no text
+     */
+    public CharSequence getText() throws IllegalStateException {
+        checkText();
+        return this.text;
+    }
+
+    /**
+     * Return the text of the current token as a new String.
+     *
+     * <p>Text of STRING and PAIR name is unescaped raw text.
+     *
+     * @return text of STRING, NUMBER, or PAIR name
+     * @throws IllegalStateException the current token has no text
+     */
+    public String getString() throws IllegalStateException {
+        checkText();
+        return this.text.toString();
+    }
+
+    /**
+     * Return long value of the current NUMBER token.
+     *
+     * <p>Potential loss of information like {@link JsNumber#longValue()}.
+     *
+     * @return long value
+     * @throws IllegalStateException the current token is not NUMBER
+     */
+    public long getLong() throws IllegalStateException {
+        checkToken(JsonToken.NUMBER);
+        long result = this.source.getNumberLexer().toLong();
+        return result;
+    }
+
+    /**
+     * Return double value of the current NUMBER token.
+     *
+     * <p>Potential loss of information like {@link JsNumber#doubleValue()}.
+     *
+     * @return double value
+     * @throws IllegalStateException the current token is not NUMBER
+     */
+    public double getDouble() throws IllegalStateException {
+        checkToken(JsonToken.NUMBER);
+        double result = this.source.getNumberLexer().toDouble();
+        return result;
+    }
+
+    /**
+     * Return decimal value of the current NUMBER token.
+     *
+     * @return decimal value
+     * @throws IllegalStateException the current token is not NUMBER
+     */
+    public BigDecimal getDecimal() throws IllegalStateException {
+        checkToken(JsonToken.NUMBER);
+        BigDecimal result = this.source.getNumberLexer().toDecimal();
+        return result;
+    }
+
+    /**
+     * Return STRING Value of the current STRING token.
+     *
+     * <p>The Value is created as the tree parser does.
+     *
+     * @return STRING Value
+     * @throws IllegalStateException the current token is not STRING
+     */
+    JsString getStringValue() throws IllegalStateException {
+        checkToken(JsonToken.STRING);
+        JsString result = JsString.newString(this.source, this.text);
+        return result;
+    }
+
+    /**
+     * Return NUMBER Value of the current NUMBER token.
+     *
+     * <p>The Value is created from the lexer as the tree parser does.
+     *
+     * @return NUMBER Value
+     * @throws IllegalStateException the current token is not NUMBER
+     * @throws NumberFormatException scale out of int range
+     */
+    JsNumber getNumberValue()
+            throws IllegalStateException, NumberFormatException {
+        checkToken(JsonToken.NUMBER);
+        JsNumber result = this.source.getNumberLexer().toNumber();
+        return result;
+    }
+
+    /**
+     * Return boolean value of the current BOOLEAN token.
+     *
+     * @return boolean value
+     * @throws IllegalStateException the current token is not BOOLEAN
+     */
+    public boolean getBoolean() throws IllegalStateException {
+        checkToken(JsonToken.BOOLEAN);
+        return this.boolValue.booleanValue();
+    }
+
+    /**
+     * Close the source.
+     *
+     * @throws IOException I/O error
+     */
+    @Override
+    public void close() throws IOException {
+        this.source.close();
+        return;
+    }
+
+}
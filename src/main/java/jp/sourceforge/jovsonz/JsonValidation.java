@@ -0,0 +1,173 @@
+/*
+ * JSON validation result
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+/**
+ * Result of JSON validation.
+ *
+ * <p>If invalid, the kind of violation,
+ * the same message as {@link JsParseException},
+ * and the position where it was detected are held.
+ *
+ * @see Json#validate(CharSequence)
+ */
+public final class JsonValidation {
+
+    /**
+     * Kind of JSON grammar violation.
+     */
+    public enum Kind {
+        /** invalid token. */
+        INVALID_TOKEN,
+        /** root Value is not OBJECT or ARRAY. */
+        INVALID_ROOT,
+        /** input ended in the middle of JSON. */
+        NO_DATA,
+        /** missing comma in OBJECT or ARRAY. */
+        MISSING_COMMA,
+        /** no PAIR name in OBJECT. */
+        NO_PAIR_NAME,
+        /** missing PAIR separator(:) in OBJECT. */
+        MISSING_SEPARATOR,
+        /** no PAIR value in OBJECT. */
+        NO_PAIR_VALUE,
+        /** missing element in ARRAY. */
+        MISSING_ELEMENT,
+        /** invalid escape or control character in STRING. */
+        INVALID_STRING,
+        /** invalid NUMBER. */
+        INVALID_NUMBER,
+    }
+
+
+    private final Kind kind;
+    private final String message;
+    private final int lineNumber;
+    private final int column;
+    private final long offset;
+
+
+    /**
+     * Constructor.
+     *
+     * @param kind kind of violation. null if valid.
+     * @param message message of violation. null if valid.
+     * @param lineNumber line number
+     * @param column column of offset
+     * @param offset char offset
+     */
+    JsonValidation(Kind kind, String message,
+                   int lineNumber, int column, long offset) {
+        super();
+        this.kind = kind;
+        this.message = message;
+        this.lineNumber = lineNumber;
+        this.column = column;
+        this.offset = offset;
+        return;
+    }
+
+
+    /**
+     * Determine if JSON is valid.
+     *
+     * @return true if valid
+     */
+    public boolean isValid() {
+        boolean result = this.kind == null;
+        return result;
+    }
+
+    /**
+     * Return the kind of violation.
+     *
+     * @return kind. null if valid.
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Return the message of violation.
+     *
+     * <p>The message is the same as {@link JsParseException}
+     * without line number.
+     *
+     * @return message. null if valid.
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Return the line number.
+     *
+     * <p>If invalid, the line number where the violation was detected,
+     * the same as {@link JsParseException#getLineNumber()}.
+     * If valid, the line number at the end of root Value.
+     *
+     * @return line number starting from 1
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Return the column of the char offset.
+     *
+     * @return column starting from 1
+     * @see #getOffset()
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     * Return the char offset.
+     *
+     * <p>If invalid, the offset of the char where the violation was detected,
+     * or the end of input if it ended in the middle of JSON.
+     * If valid, the offset following root Value.
+     *
+     * @return char offset from the start of input
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Create exception of violation.
+     *
+     * @return exception. null if valid.
+     */
+    public JsParseException toException() {
+        if (isValid()) return null;
+        return new JsParseException(this.message, this.lineNumber,
+                                    this.column, this.offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (isValid()) {
+            text.append("valid");
+        } else {
+            text.append(this.kind).append(": ").append(this.message);
+        }
+        text.append(" [line:").append(this.lineNumber)
+            .append(" column:").append(this.column)
+            .append(" offset:").append(this.offset).append(']');
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,605 @@
+/*
+ * JSON validator
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.util.Arrays;
+
+/**
+ * Validator of JSON text without building any Value.
+ *
+ * <p>The same syntax as {@link ValueSkipper} is validated
+ * with the same messages and line numbers as {@link JsParseException},
+ * but violations are returned as {@link JsonValidation}
+ * instead of throwing exceptions.
+ *
+ * <p>Chars are indexed directly and no object is created per token.
+ * Nesting of OBJECT and ARRAY is tracked by bits of long
+ * until 64 levels, and by the internal array beyond that,
+ * without recursive calls.
+ *
+ * <p>Not thread safe.
+ */
+final class JsonValidator {
+
+    private static final int BITS_NESTS = Long.SIZE;
+    private static final int HEX_DIGITS = 4;
+    private static final long DECIMAL_BASE = 10L;
+
+    private static final char LINEFEED = '\n';  // LF(0x0a)
+
+    private static final String LITERAL_TRUE  = "true";
+    private static final String LITERAL_FALSE = "false";
+    private static final String LITERAL_NULL  = "null";
+
+
+    private final CharSequence text;
+    private final int start;
+    private final int end;
+    private int pos;
+    private int lineNumber = 1;
+
+    // bit per depth. 1 if OBJECT, 0 if ARRAY
+    private long nestBits = 0L;
+    private boolean[] deepStack = null;
+    private int depth = 0;
+
+    private JsonValidation.Kind kind = null;
+    private String message = null;
+    private int errorOffset = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param text JSON text
+     * @param start start index
+     * @param end end index (exclusive)
+     */
+    private JsonValidator(CharSequence text, int start, int end) {
+        super();
+        this.text = text;
+        this.start = start;
+        this.pos = start;
+        this.end = end;
+        return;
+    }
+
+
+    /**
+     * Validate JSON root Value of text.
+     *
+     * <p>Chars following the root Value are not validated
+     * like {@link Json#parseJson(java.io.Reader)}.
+     * Text with only white spaces is invalid.
+     *
+     * @param text JSON text
+     * @param start start index
+     * @param end end index (exclusive)
+     * @return result
+     * @throws NullPointerException argument is null
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    static JsonValidation validate(CharSequence text, int start, int end) {
+        if (start < 0 || end < start || text.length() < end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        JsonValidator validator = new JsonValidator(text, start, end);
+        JsonValidation result = validator.validateRoot();
+
+        return result;
+    }
+
+    /**
+     * Validate JSON root Value.
+     *
+     * @return result
+     */
+    private JsonValidation validateRoot() {
+        boolean valid = root();
+
+        JsonValidation result;
+        if (valid) {
+            result = new JsonValidation(null, null,
+                                        this.lineNumber,
+                                        columnOf(this.pos),
+                                        this.pos);
+        } else {
+            result = new JsonValidation(this.kind, this.message,
+                                        this.lineNumber,
+                                        columnOf(this.errorOffset),
+                                        this.errorOffset);
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute column of offset by searching the line head backward.
+     *
+     * @param offset char offset
+     * @return column starting from 1
+     */
+    private int columnOf(int offset) {
+        int head = offset;
+        while (head > this.start && this.text.charAt(head - 1) != LINEFEED) {
+            head--;
+        }
+        int result = offset - head + 1;
+        return result;
+    }
+
+    /**
+     * Record violation.
+     *
+     * @param errKind kind of violation
+     * @param errMessage message of violation
+     * @param offset offset of violation
+     * @return always false
+     */
+    private boolean fail(JsonValidation.Kind errKind,
+                         String errMessage,
+                         int offset) {
+        this.kind = errKind;
+        this.message = errMessage;
+        this.errorOffset = offset;
+        return false;
+    }
+
+    /**
+     * Record violation by the end of input.
+     *
+     * @return always false
+     */
+    private boolean failNoData() {
+        return fail(JsonValidation.Kind.NO_DATA,
+                    JsParseException.ERRMSG_NODATA,
+                    this.end);
+    }
+
+    /**
+     * Record violation by the char just read.
+     *
+     * <p>Line feed is counted as the parsers read it.
+     *
+     * @param errKind kind of violation
+     * @param errMessage message of violation
+     * @return always false
+     */
+    private boolean failRead(JsonValidation.Kind errKind, String errMessage) {
+        int offset = this.pos - 1;
+        if (this.text.charAt(offset) == LINEFEED) this.lineNumber++;
+        return fail(errKind, errMessage, offset);
+    }
+
+    /**
+     * Skip over whitespaces.
+     */
+    private void skipWhiteSpace() {
+        CharSequence seq = this.text;
+        int limit = this.end;
+        int idx = this.pos;
+        while (idx < limit) {
+            char ch = seq.charAt(idx);
+            if ( !JsonSource.isWhitespace(ch) ) break;
+            if (ch == LINEFEED) this.lineNumber++;
+            idx++;
+        }
+        this.pos = idx;
+        return;
+    }
+
+    /**
+     * Push new OBJECT or ARRAY context.
+     *
+     * @param isObject true if OBJECT
+     */
+    private void push(boolean isObject) {
+        int level = this.depth++;
+
+        if (level < BITS_NESTS) {
+            long bit = 1L << level;
+            if (isObject) {
+                this.nestBits |= bit;
+            } else {
+                this.nestBits &= ~bit;
+            }
+            return;
+        }
+
+        int deepLevel = level - BITS_NESTS;
+        if (this.deepStack == null) {
+            this.deepStack = new boolean[BITS_NESTS];
+        } else if (deepLevel >= this.deepStack.length) {
+            int newLength = this.deepStack.length * 2;
+            this.deepStack = Arrays.copyOf(this.deepStack, newLength);
+        }
+        this.deepStack[deepLevel] = isObject;
+
+        return;
+    }
+
+    /**
+     * Determine if the current context is OBJECT.
+     *
+     * @return true if OBJECT
+     */
+    private boolean isObject() {
+        int level = this.depth - 1;
+        if (level < BITS_NESTS) {
+            boolean result = (this.nestBits & (1L << level)) != 0L;
+            return result;
+        }
+        return this.deepStack[level - BITS_NESTS];
+    }
+
+    /**
+     * Validate root Value.
+     *
+     * @return true if valid
+     */
+    private boolean root() {
+        skipWhiteSpace();
+        if (this.pos >= this.end) return failNoData();
+
+        char head = this.text.charAt(this.pos);
+        if (head != '{' && head != '[') {
+            int headPos = this.pos;
+            if ( !scalar(head) ) return false;
+            return fail(JsonValidation.Kind.INVALID_ROOT,
+                        JsParseException.ERRMSG_INVALIDROOT,
+                        headPos);
+        }
+
+        return tree();
+    }
+
+    /**
+     * Validate Values until all contexts are closed.
+     *
+     * @return true if valid
+     */
+    private boolean tree() {
+        boolean next = true;
+        boolean hasElem = false;
+
+        for (;;) {
+            if (next) {
+                char head = this.text.charAt(this.pos);
+                if (head == '{' || head == '[') {
+                    this.pos++;
+                    push(head == '{');
+                    hasElem = false;
+                } else {
+                    if ( !scalar(head) ) return false;
+                    hasElem = true;
+                }
+            }
+
+            if (this.depth <= 0) break;
+
+            next = nextElement(hasElem);
+            if (this.kind != null) return false;
+            if ( !next ) {
+                this.depth--;
+                hasElem = true;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Move to the head of the next element in the current context.
+     *
+     * <p>Violation is recorded if any.
+     *
+     * @param hasElem true if any element has been validated in the context
+     * @return true if positioned at the head of Value.
+     *     false if the closing bracket is consumed or violation.
+     * @see ValueSkipper
+     */
+    private boolean nextElement(boolean hasElem) {
+        boolean inObject = isObject();
+
+        char close = ']';
+        String errComma = JsArray.ERRMSG_NOARRAYCOMMA;
+        String errValue = JsArray.ERRMSG_NOELEM;
+        JsonValidation.Kind kindValue = JsonValidation.Kind.MISSING_ELEMENT;
+        if (inObject) {
+            close = '}';
+            errComma = JsObject.ERRMSG_NOOBJECTCOMMA;
+            errValue = JsObject.ERRMSG_NOHASHVAL;
+            kindValue = JsonValidation.Kind.NO_PAIR_VALUE;
+        }
+
+        CharSequence seq = this.text;
+
+        skipWhiteSpace();
+        if (this.pos >= this.end) return failNoData();
+        char chData = seq.charAt(this.pos);
+        if (chData == close) {
+            this.pos++;
+            return false;
+        }
+
+        if (hasElem) {
+            this.pos++;
+            if (chData != ',') {
+                return failRead(JsonValidation.Kind.MISSING_COMMA, errComma);
+            }
+            skipWhiteSpace();
+        }
+
+        if (inObject) {
+            if (this.pos >= this.end) return failNoData();
+            if (seq.charAt(this.pos) != '"') {
+                return fail(JsonValidation.Kind.NO_PAIR_NAME,
+                            JsObject.ERRMSG_NOHASHNAME,
+                            this.pos);
+            }
+            this.pos++;
+            if ( !string() ) return false;
+
+            skipWhiteSpace();
+            if (this.pos >= this.end) return failNoData();
+            this.pos++;
+            if (seq.charAt(this.pos - 1) != ':') {
+                return failRead(JsonValidation.Kind.MISSING_SEPARATOR,
+                                JsObject.ERRMSG_NOHASHSEP);
+            }
+            skipWhiteSpace();
+        }
+
+        if (this.pos >= this.end) {
+            return fail(kindValue, errValue, this.end);
+        }
+
+        return true;
+    }
+
+    /**
+     * Validate STRING, NUMBER, BOOLEAN or NULL Value.
+     *
+     * @param head the first char of Value
+     * @return true if valid
+     */
+    private boolean scalar(char head) {
+        boolean result;
+        switch (head) {
+        case '"':
+            this.pos++;
+            result = string();
+            break;
+        case 't':
+            result = literal(LITERAL_TRUE);
+            break;
+        case 'f':
+            result = literal(LITERAL_FALSE);
+            break;
+        case 'n':
+            result = literal(LITERAL_NULL);
+            break;
+        default:
+            if (head != '-' && !JsNumber.isLatinDigit(head)) {
+                result = fail(JsonValidation.Kind.INVALID_TOKEN,
+                              JsParseException.ERRMSG_INVALIDTOKEN,
+                              this.pos);
+                break;
+            }
+            result = number();
+            break;
+        }
+        return result;
+    }
+
+    /**
+     * Validate true, false, or null.
+     *
+     * @param word literal
+     * @return true if valid
+     */
+    private boolean literal(String word) {
+        CharSequence seq = this.text;
+        int length = word.length();
+        for (int idx = 0; idx < length; idx++) {
+            if (this.pos >= this.end) return failNoData();
+            char ch = seq.charAt(this.pos++);
+            if (ch != word.charAt(idx)) {
+                return failRead(JsonValidation.Kind.INVALID_TOKEN,
+                                JsParseException.ERRMSG_INVALIDTOKEN);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate STRING text following the leading double quote.
+     *
+     * <p>The trailing double quote is consumed.
+     *
+     * @return true if valid
+     */
+    private boolean string() {
+        CharSequence seq = this.text;
+        int limit = this.end;
+
+        for (;;) {
+            int idx = this.pos;
+            while (idx < limit && !JsString.isStringStop(seq.charAt(idx))) {
+                idx++;
+            }
+            if (idx >= limit) {
+                this.pos = idx;
+                return failNoData();
+            }
+
+            char ch = seq.charAt(idx++);
+            this.pos = idx;
+            if (ch == '"') break;
+
+            if (ch != '\\') {
+                return failRead(JsonValidation.Kind.INVALID_STRING,
+                                JsString.ERRMSG_INVCTR);
+            }
+            if ( !escape() ) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Validate escape sequence following backslash.
+     *
+     * @return true if valid
+     */
+    private boolean escape() {
+        CharSequence seq = this.text;
+
+        if (this.pos >= this.end) return failNoData();
+        char ch = seq.charAt(this.pos++);
+
+        if (ch != 'u') {
+            if (JsString.escapeValue(ch) < 0) {
+                return failRead(JsonValidation.Kind.INVALID_STRING,
+                                JsString.ERRMSG_INVESC);
+            }
+            return true;
+        }
+
+        int badOffset = -1;
+        int badLine = 0;
+        for (int digit = 0; digit < HEX_DIGITS; digit++) {
+            if (this.pos >= this.end) return failNoData();
+            char hex = seq.charAt(this.pos++);
+            if (hex == LINEFEED) this.lineNumber++;
+            if (badOffset < 0 && JsString.hexValue(hex) < 0) {
+                badOffset = this.pos - 1;
+                badLine = this.lineNumber;
+            }
+        }
+
+        if (badOffset >= 0) {
+            this.lineNumber = badLine;
+            return fail(JsonValidation.Kind.INVALID_STRING,
+                        JsString.ERRMSG_INVESC,
+                        badOffset);
+        }
+
+        return true;
+    }
+
+    /**
+     * Validate a sequence of digits.
+     *
+     * @param isMantissa true if integer part of mantissa. false if exponent
+     * @return true if valid
+     * @see NumberLexer
+     */
+    private boolean digits(boolean isMantissa) {
+        CharSequence seq = this.text;
+        boolean hasDigit = false;
+        boolean zeroStarted = false;
+
+        for (;;) {
+            if (this.pos >= this.end) {
+                if (hasDigit) break;
+                return failNoData();
+            }
+
+            char ch = seq.charAt(this.pos);
+            if ( !JsNumber.isLatinDigit(ch) ) {
+                if ( !hasDigit ) {
+                    return fail(JsonValidation.Kind.INVALID_NUMBER,
+                                NumberLexer.ERRMSG_NONUMBER,
+                                this.pos);
+                }
+                break;
+            }
+
+            if (hasDigit) {
+                if (zeroStarted && isMantissa) {
+                    return fail(JsonValidation.Kind.INVALID_NUMBER,
+                                NumberLexer.ERRMSG_EXTRAZERO,
+                                this.pos);
+                }
+            } else if (ch == '0') {
+                zeroStarted = true;
+            }
+
+            this.pos++;
+            hasDigit = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Validate NUMBER.
+     *
+     * <p>Scale out of int range, which the parsers reject by
+     * {@link NumberFormatException}, is reported at the head of NUMBER.
+     *
+     * @return true if valid
+     * @see NumberLexer
+     */
+    private boolean number() {
+        CharSequence seq = this.text;
+        int head = this.pos;
+
+        if (seq.charAt(this.pos) == '-') this.pos++;
+        if ( !digits(true) ) return false;
+
+        // fraction
+        long fracDigits = 0L;
+        if (this.pos < this.end && seq.charAt(this.pos) == '.') {
+            this.pos++;
+            if (this.pos >= this.end) return failNoData();
+            if ( !JsNumber.isLatinDigit(seq.charAt(this.pos)) ) {
+                return fail(JsonValidation.Kind.INVALID_NUMBER,
+                            NumberLexer.ERRMSG_INVFRAC,
+                            this.pos);
+            }
+            while (   this.pos < this.end
+                   && JsNumber.isLatinDigit(seq.charAt(this.pos)) ) {
+                this.pos++;
+                fracDigits++;
+            }
+        }
+
+        // exponent
+        long exponent = 0L;
+        if (this.pos < this.end) {
+            char ch = seq.charAt(this.pos);
+            if (ch == 'e' || ch == 'E') {
+                this.pos++;
+                if (this.pos >= this.end) return failNoData();
+                char sign = seq.charAt(this.pos);
+                if (sign == '-' || sign == '+') this.pos++;
+                int expHead = this.pos;
+                if ( !digits(false) ) return false;
+
+                for (int idx = expHead; idx < this.pos; idx++) {
+                    if (exponent > NumberLexer.MAX_EXP) break;
+                    exponent = exponent * DECIMAL_BASE
+                             + (seq.charAt(idx) - '0');
+                }
+                if (sign == '-') exponent = -exponent;
+            }
+        }
+
+        if ( !NumberLexer.isValidScale(fracDigits, exponent) ) {
+            return fail(JsonValidation.Kind.INVALID_NUMBER,
+                        NumberLexer.ERRMSG_SCALE,
+                        head);
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * UTF-8 decoder for memory-mapped file
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reader that decodes UTF-8 bytes of memory-mapped file directly.
+ *
+ * <p>The file is mapped window by window.
+ * The next window is mapped when the current window is consumed,
+ * so files larger than 2GB can be read.
+ *
+ * <p>The channel is never closed by this reader.
+ */
+class MappedUtf8Reader extends Utf8Reader {
+
+    /** default bytes of mapping window. */
+    static final long DEF_WINDOW = 1L << 30;
+
+
+    private final FileChannel channel;
+    private final long endPos;
+    private final long windowSize;
+
+    private long windowPos;
+
+
+    /**
+     * Constructor.
+     *
+     * @param channel file channel
+     * @param startPos file position to start reading
+     * @param endPos file position to end reading (exclusive)
+     * @throws IOException I/O error
+     */
+    MappedUtf8Reader(FileChannel channel, long startPos, long endPos)
+            throws IOException {
+        this(channel, startPos, endPos, DEF_WINDOW);
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param channel file channel
+     * @param startPos file position to start reading
+     * @param endPos file position to end reading (exclusive)
+     * @param windowSize bytes of mapping window. at least 4 bytes.
+     * @throws IOException I/O error
+     * @throws IllegalArgumentException too small window
+     */
+    MappedUtf8Reader(FileChannel channel,
+                     long startPos, long endPos, long windowSize)
+            throws IOException {
+        super(map(channel, startPos, endPos, windowSize));
+        this.channel = channel;
+        this.endPos = endPos;
+        this.windowSize = windowSize;
+        this.windowPos = startPos;
+        return;
+    }
+
+
+    /**
+     * Map the window of the file.
+     *
+     * @param channel file channel
+     * @param startPos file position of window
+     * @param endPos file position to end reading (exclusive)
+     * @param windowSize bytes of mapping window
+     * @return mapped buffer
+     * @throws IOException I/O error
+     * @throws IllegalArgumentException too small window
+     */
+    private static ByteBuffer map(FileChannel channel,
+                                  long startPos, long endPos,
+                                  long windowSize)
+            throws IOException {
+        if (windowSize < JsonCharset.DETECT_BYTES) {
+            throw new IllegalArgumentException();
+        }
+        long size = Math.min(windowSize, endPos - startPos);
+        size = Math.min(size, Integer.MAX_VALUE);
+        ByteBuffer result =
+                channel.map(FileChannel.MapMode.READ_ONLY, startPos, size);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Map the next window starting from the unread bytes.
+     *
+     * @param current {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected ByteBuffer moreBytes(ByteBuffer current) throws IOException {
+        long limitPos = this.windowPos + current.limit();
+        if (limitPos >= this.endPos) return null;
+
+        long nextPos = this.windowPos + current.position();
+        ByteBuffer result =
+                map(this.channel, nextPos, this.endPos, this.windowSize);
+        this.windowPos = nextPos;
+
+        return result;
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * symbol table of PAIR names
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+/**
+ * Symbol table of PAIR names in OBJECT.
+ *
+ * <p>Same names in one JSON text share one canonical String instance.
+ * Names are hashed directly from the chars of input buffer
+ * and no String is created for the names already registered.
+ *
+ * <p>The number and the length of registered names are capped.
+ * Names beyond the cap are returned as new String without registration.
+ *
+ * <p>Not thread safe.
+ */
+final class NameTable {
+
+    /** max number of registered names. */
+    static final int MAX_NAMES = 1024;
+    /** max length of registered name. */
+    static final int MAX_NAME_LENGTH = 64;
+
+    private static final int HASH_MULT = 31;
+    private static final int DEF_SLOTS = 64;
+    private static final int LOAD_SHIFT = 1;    // load factor 1/2
+
+
+    private String[] names = new String[DEF_SLOTS];
+    private int[] hashes = new int[DEF_SLOTS];
+    private int count = 0;
+
+
+    /**
+     * Constructor.
+     */
+    NameTable() {
+        super();
+        return;
+    }
+
+
+    /**
+     * Return the number of registered names.
+     *
+     * @return number of names
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Return canonical String of chars.
+     *
+     * @param buf char buffer
+     * @param start start index of name
+     * @param length length of name
+     * @return canonical String
+     */
+    String intern(char[] buf, int start, int length) {
+        if (length > MAX_NAME_LENGTH) return new String(buf, start, length);
+
+        int hash = 0;
+        int end = start + length;
+        for (int pos = start; pos < end; pos++) {
+            hash = hash * HASH_MULT + buf[pos];
+        }
+
+        int mask = this.names.length - 1;
+        int slot = hash & mask;
+        for (;;) {
+            String name = this.names[slot];
+            if (name == null) break;
+            if (this.hashes[slot] == hash && matches(name, buf, start, length)) {
+                return name;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String result = new String(buf, start, length);
+        register(slot, hash, result);
+
+        return result;
+    }
+
+    /**
+     * Return canonical String of text.
+     *
+     * @param text text of name
+     * @return canonical String
+     */
+    String intern(CharSequence text) {
+        int length = text.length();
+        if (length > MAX_NAME_LENGTH) return text.toString();
+
+        int hash = 0;
+        for (int pos = 0; pos < length; pos++) {
+            hash = hash * HASH_MULT + text.charAt(pos);
+        }
+
+        int mask = this.names.length - 1;
+        int slot = hash & mask;
+        for (;;) {
+            String name = this.names[slot];
+            if (name == null) break;
+            if (this.hashes[slot] == hash && name.contentEquals(text)) {
+                return name;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String result = text.toString();
+        register(slot, hash, result);
+
+        return result;
+    }
+
+    /**
+     * Compare String with chars.
+     *
+     * @param name String
+     * @param buf char buffer
+     * @param start start index
+     * @param length length
+     * @return true if same chars
+     */
+    private static boolean matches(String name, char[] buf, int start, int length) {
+        if (name.length() != length) return false;
+        for (int idx = 0; idx < length; idx++) {
+            if (name.charAt(idx) != buf[start + idx]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Register new name to the empty slot.
+     *
+     * <p>Nothing is registered if the table is full.
+     *
+     * @param slot empty slot
+     * @param hash hash of name
+     * @param name name
+     */
+    private void register(int slot, int hash, String name) {
+        if (this.count >= MAX_NAMES) return;
+
+        this.names[slot] = name;
+        this.hashes[slot] = hash;
+        this.count++;
+
+        if ((this.count << LOAD_SHIFT) > this.names.length) rehash();
+
+        return;
+    }
+
+    /**
+     * Double the slots.
+     */
+    private void rehash() {
+        String[] oldNames = this.names;
+        int[] oldHashes = this.hashes;
+
+        int newLength = oldNames.length * 2;
+        int mask = newLength - 1;
+        this.names = new String[newLength];
+        this.hashes = new int[newLength];
+
+        for (int idx = 0; idx < oldNames.length; idx++) {
+            String name = oldNames[idx];
+            if (name == null) continue;
+            int hash = oldHashes[idx];
+            int slot = hash & mask;
+            while (this.names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            this.names[slot] = name;
+            this.hashes[slot] = hash;
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,407 @@
+/*
+ * JSON number lexer
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Lexer of NUMBER text.
+ *
+ * <p>Digits are accumulated into long as unscaled value
+ * while they fit.
+ * Digits beyond the range of long are kept in the internal text buffer.
+ *
+ * <p>The instance is reused for each NUMBER
+ * and no object is created while lexing.
+ *
+ * <p>Not thread safe.
+ */
+final class NumberLexer {
+
+    /** max unscaled value exactly representable by double. (2^53) */
+    static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /** ERROR MESSAGE: no fraction digits. */
+    static final String ERRMSG_INVFRAC =
+            "invalid fractional number";
+    /** ERROR MESSAGE: no digits. */
+    static final String ERRMSG_NONUMBER =
+            "no number";
+    /** ERROR MESSAGE: digits following leading zero. */
+    static final String ERRMSG_EXTRAZERO =
+            "extra zero found";
+    /** ERROR MESSAGE: scale out of int range. */
+    static final String ERRMSG_SCALE =
+            "scale out of range";
+
+    /** max exponent accumulated. Larger exponent is never in range. */
+    static final long MAX_EXP = Integer.MAX_VALUE * 2L;
+
+    private static final long DECIMAL_BASE = 10L;
+
+    /** exact powers of ten by double. */
+    private static final double[] POW10 = {
+        1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,
+        1e8,  1e9,  1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+        1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+
+    private boolean negative;
+    private long unscaled;
+    private long fracDigits;
+    private long exponent;
+
+    // digits beyond long
+    private boolean isBig;
+    private final StringBuilder bigDigits = new StringBuilder();
+
+
+    /**
+     * Constructor.
+     */
+    NumberLexer() {
+        super();
+        return;
+    }
+
+
+    /**
+     * Return double value of unscaled value and scale by Clinger's fast path.
+     *
+     * <p>The result is correctly rounded
+     * because both unscaled value and power of ten are exact double
+     * and only one rounding occurs.
+     *
+     * @param unscaled unscaled value
+     * @param scale scale
+     * @return double value. NaN if out of fast path.
+     */
+    static double fastDouble(long unscaled, long scale) {
+        if (unscaled > MAX_EXACT_DOUBLE || unscaled < -MAX_EXACT_DOUBLE) {
+            return Double.NaN;
+        }
+        if (scale >= POW10.length || scale <= -POW10.length) {
+            return Double.NaN;
+        }
+
+        double result = (double) unscaled;
+        if (scale >= 0) {
+            result /= POW10[(int) scale];
+        } else {
+            result *= POW10[(int) -scale];
+        }
+
+        return result;
+    }
+
+    /**
+     * Append digit to unscaled value.
+     *
+     * @param ch digit char
+     */
+    private void addDigit(char ch) {
+        if (this.isBig) {
+            this.bigDigits.append(ch);
+            return;
+        }
+
+        long digit = ch - '0';
+        if (this.unscaled > (Long.MAX_VALUE - digit) / DECIMAL_BASE) {
+            this.isBig = true;
+            this.bigDigits.setLength(0);
+            this.bigDigits.append(this.unscaled).append(ch);
+            return;
+        }
+
+        this.unscaled = this.unscaled * DECIMAL_BASE + digit;
+
+        return;
+    }
+
+    /**
+     * Read a sequence of digits from input source.
+     *
+     * @param source input source
+     * @param text normalized text output. null if not needed
+     * @param isMantissa true if integer part of mantissa. false if exponent
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private void lexDigits(JsonSource source,
+                           StringBuilder text,
+                           boolean isMantissa )
+            throws IOException, JsParseException {
+        boolean hasDigit = false;
+        boolean zeroStarted = false;    // leading 0
+        for (;;) {
+            int chData = source.peek();
+            if (chData < 0) {
+                if (hasDigit) break;
+                throw source.newParseException(JsParseException.ERRMSG_NODATA);
+            }
+
+            char readCh = (char) chData;
+            if ( !JsNumber.isLatinDigit(readCh) ) {
+                if ( !hasDigit ) {
+                    throw source.newParseException(ERRMSG_NONUMBER);
+                }
+                break;
+            }
+
+            if (hasDigit) {
+                if (zeroStarted && isMantissa) {
+                    throw source.newParseException(ERRMSG_EXTRAZERO);
+                }
+            } else if (readCh == '0') {
+                zeroStarted = true;
+            }
+
+            source.read();
+            if (text != null) text.append(readCh);
+            hasDigit = true;
+
+            if (isMantissa) {
+                addDigit(readCh);
+            } else if (this.exponent <= MAX_EXP) {
+                this.exponent = this.exponent * DECIMAL_BASE + (readCh - '0');
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Read a sequence of fraction digits with leading dot'.' from input source.
+     *
+     * <p>If no fraction digits, do nothing and return.
+     *
+     * @param source input source
+     * @param text normalized text output. null if not needed
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private void lexFraction(JsonSource source, StringBuilder text)
+            throws IOException, JsParseException {
+        if (source.peek() != '.') return;
+        source.read();
+        if (text != null) text.append('.');
+
+        boolean hasDigit = false;
+        for (;;) {
+            int chData = source.peek();
+            if (chData < 0) {
+                if (hasDigit) break;
+                throw source.newParseException(JsParseException.ERRMSG_NODATA);
+            }
+
+            char readCh = (char) chData;
+            if ( !JsNumber.isLatinDigit(readCh) ) {
+                if ( !hasDigit ) {
+                    throw source.newParseException(ERRMSG_INVFRAC);
+                }
+                break;
+            }
+
+            source.read();
+            if (text != null) text.append(readCh);
+            hasDigit = true;
+
+            addDigit(readCh);
+            this.fracDigits++;
+        }
+
+        return;
+    }
+
+    /**
+     * Read a sequence of exponential digits with leading 'e' or 'E' from input source.
+     *
+     * <p>If no exponential digits, do nothing and return.
+     *
+     * @param source input source
+     * @param text normalized text output. null if not needed
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    private void lexExponent(JsonSource source, StringBuilder text)
+            throws IOException, JsParseException {
+        int chData = source.peek();
+        if (chData != 'e' && chData != 'E') return;
+        source.read();
+        if (text != null) text.append('E');
+
+        boolean expNegative = false;
+        char head = source.peekOrDie();
+        if (head == '-') {
+            expNegative = true;
+            source.read();
+            if (text != null) text.append('-');
+        } else if (head == '+') {
+            source.read();
+        }
+
+        lexDigits(source, text, false);
+        if (expNegative) this.exponent = -this.exponent;
+
+        return;
+    }
+
+    /**
+     * Read NUMBER from JSON source.
+     *
+     * <p>The first char must be '-' or digit.
+     *
+     * <p>The normalized text is for {@link java.math.BigDecimal#BigDecimal(String)}.
+     * Exponential mark is always 'E' and the plus sign is omitted.
+     *
+     * @param source input source
+     * @param text normalized text output. null if not needed
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or EOF
+     */
+    void lex(JsonSource source, StringBuilder text)
+            throws IOException, JsParseException {
+        this.negative = false;
+        this.unscaled = 0L;
+        this.fracDigits = 0L;
+        this.exponent = 0L;
+        this.isBig = false;
+
+        if (source.peekOrDie() == '-') {
+            this.negative = true;
+            source.read();
+            if (text != null) text.append('-');
+        }
+
+        lexDigits(source, text, true);
+        lexFraction(source, text);
+        lexExponent(source, text);
+
+        return;
+    }
+
+    /**
+     * Determine if scale of NUMBER is within int range.
+     *
+     * @param fracDigits number of fraction digits
+     * @param exponent exponent accumulated up to {@link #MAX_EXP}
+     * @return true if within range
+     */
+    static boolean isValidScale(long fracDigits, long exponent) {
+        long scale = fracDigits - exponent;
+        boolean result =
+                Integer.MIN_VALUE <= scale && scale <= Integer.MAX_VALUE;
+        return result;
+    }
+
+    /**
+     * Return scale of the last NUMBER.
+     *
+     * @return scale
+     * @throws NumberFormatException scale out of int range
+     */
+    private int scale() throws NumberFormatException {
+        if ( !isValidScale(this.fracDigits, this.exponent) ) {
+            throw new NumberFormatException(ERRMSG_SCALE);
+        }
+        return (int) (this.fracDigits - this.exponent);
+    }
+
+    /**
+     * Check that the last NUMBER can be converted to Value.
+     *
+     * @throws NumberFormatException scale out of int range
+     */
+    void checkScale() throws NumberFormatException {
+        scale();
+        return;
+    }
+
+    /**
+     * Return decimal value of the last NUMBER.
+     *
+     * @return decimal value
+     * @throws NumberFormatException scale out of int range
+     */
+    BigDecimal toDecimal() throws NumberFormatException {
+        int scale = scale();
+
+        if ( !this.isBig ) {
+            long value = this.unscaled;
+            if (this.negative) value = -value;
+            return BigDecimal.valueOf(value, scale);
+        }
+
+        BigInteger bigValue = new BigInteger(this.bigDigits.toString());
+        if (this.negative) bigValue = bigValue.negate();
+        BigDecimal result = new BigDecimal(bigValue, scale);
+
+        return result;
+    }
+
+    /**
+     * Return NUMBER Value of the last NUMBER.
+     *
+     * <p>Digits within the range of long are not converted to {@link BigDecimal}.
+     *
+     * @return NUMBER Value
+     * @throws NumberFormatException scale out of int range
+     */
+    JsNumber toNumber() throws NumberFormatException {
+        if (this.isBig) return new JsNumber(toDecimal());
+
+        long value = this.unscaled;
+        if (this.negative) value = -value;
+        JsNumber result = new JsNumber(value, scale());
+
+        return result;
+    }
+
+    /**
+     * Return long value of the last NUMBER.
+     *
+     * <p>Potential loss of information like {@link BigDecimal#longValue()}.
+     *
+     * @return long value
+     * @throws NumberFormatException scale out of int range
+     */
+    long toLong() throws NumberFormatException {
+        if (this.isBig || this.fracDigits != this.exponent) {
+            return toDecimal().longValue();
+        }
+
+        long result = this.unscaled;
+        if (this.negative) result = -result;
+
+        return result;
+    }
+
+    /**
+     * Return double value of the last NUMBER.
+     *
+     * <p>Potential loss of information like {@link BigDecimal#doubleValue()}.
+     *
+     * @return double value
+     * @throws NumberFormatException scale out of int range
+     */
+    double toDouble() throws NumberFormatException {
+        if ( !this.isBig ) {
+            long value = this.unscaled;
+            if (this.negative) value = -value;
+            double result = fastDouble(value, this.fracDigits - this.exponent);
+            if ( !Double.isNaN(result) ) return result;
+        }
+
+        double result = toDecimal().doubleValue();
+        return result;
+    }
+
+}
@@ -0,0 +1,818 @@
+/*
+ * structural index of JSON text
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Two-stage parser with the structural index of JSON text.
+ *
+ * <p>At the first stage, the text is scanned 64 chars at a time.
+ * Each kind of char in the block is recorded as a bit of long word,
+ * then escaped quotes and the inside of STRING
+ * are determined by bit operations without branches per char.
+ * The start index of every token
+ * (brackets, separators, opening quotes and other scalars)
+ * outside STRING is recorded with its line-number.
+ *
+ * <p>At the second stage, JSON Value tree is built by following the index.
+ * STRING, NUMBER, BOOLEAN and NULL are lexed from the start index.
+ * OBJECT and ARRAY under construction are kept in the internal stack
+ * instead of the call stack as {@link TreeParser},
+ * and nesting deeper than {@link JsonSource#getMaxDepth()}
+ * causes {@link JsParseException}.
+ *
+ * @see <a href="https://arxiv.org/abs/1902.08318">Parsing Gigabytes of JSON per Second</a>
+ */
+final class StructuralIndex {
+
+    private static final int BLOCK = Long.SIZE;
+    private static final int HIGHEST_BIT = Long.SIZE - 1;
+    private static final long EVEN_BITS = 0x5555_5555_5555_5555L;
+
+    private static final int SHIFT1  = 1;
+    private static final int SHIFT2  = 2;
+    private static final int SHIFT4  = 4;
+    private static final int SHIFT8  = 8;
+    private static final int SHIFT16 = 16;
+    private static final int SHIFT32 = 32;
+
+    private static final int DEF_TOKENS = 256;
+    private static final int DEF_NESTS = 32;
+
+    /** min elements of slice in parallel parsing. */
+    static final int MIN_SLICE = 256;
+    private static final int SLICES_PER_THREAD = 4;
+
+    // 0 : other chars
+    private static final byte CLS_WS        = 1;
+    private static final byte CLS_OP        = 2;
+    private static final byte CLS_QUOTE     = 3;
+    private static final byte CLS_BACKSLASH = 4;
+
+    private static final int TABLE_SIZE = 0x80;
+    private static final byte[] CLASS_TABLE = new byte[TABLE_SIZE];
+
+    static {
+        for (char ch : " \t\r\n".toCharArray()) {
+            CLASS_TABLE[ch] = CLS_WS;
+        }
+        for (char ch : "{}[]:,".toCharArray()) {
+            CLASS_TABLE[ch] = CLS_OP;
+        }
+        CLASS_TABLE['"']  = CLS_QUOTE;
+        CLASS_TABLE['\\'] = CLS_BACKSLASH;
+    }
+
+
+    private final char[] text;
+    private final int start;
+    private final int end;
+
+    // start index of tokens
+    private int[] positions = new int[DEF_TOKENS];
+    // line-number of tokens
+    private int[] lines = new int[DEF_TOKENS];
+    private int count = 0;
+    // line-number of the end
+    private int endLine = 1;
+
+    private final JsonSource source;
+    private int cursor = 0;
+
+    // OBJECT or ARRAY under construction
+    private JsComposition<?>[] containers = new JsComposition<?>[DEF_NESTS];
+    // PAIR name waiting for its Value
+    private String[] names = new String[DEF_NESTS];
+    private int depth = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     */
+    private StructuralIndex(char[] text, int start, int end) {
+        super();
+        this.text = text;
+        this.start = start;
+        this.end = end;
+        this.source = new JsonSource(text, start, end);
+        return;
+    }
+
+    /**
+     * Constructor of another view.
+     *
+     * <p>The index is shared with the base
+     * but the source and the cursor are independent.
+     *
+     * @param base index already built
+     */
+    private StructuralIndex(StructuralIndex base) {
+        super();
+        this.text = base.text;
+        this.start = base.start;
+        this.end = base.end;
+        this.positions = base.positions;
+        this.lines = base.lines;
+        this.count = base.count;
+        this.endLine = base.endLine;
+        this.source = new JsonSource(base.text, base.start, base.end);
+        this.source.setMaxDepth(base.source.getMaxDepth());
+        return;
+    }
+
+
+    /**
+     * Build structural index of JSON text.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     * @return structural index
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    static StructuralIndex scan(char[] text, int start, int end) {
+        StructuralIndex result = new StructuralIndex(text, start, end);
+        result.scanBlocks(start);
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from JSON text by two-stage parsing.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     * @return JSON root Value. (OBJECT or ARRAY)
+     *     null when the end of the text is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    static JsComposition<?> parseJson(char[] text, int start, int end)
+            throws JsParseException {
+        JsComposition<?> result =
+                parseJson(text, start, end, null, Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from JSON text by two-stage parsing
+     * with cache of STRING Values and limited nesting depth.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     * @param cache cache of STRING Values. null if not cached.
+     * @param maxDepth max depth of OBJECT and ARRAY nesting
+     * @return JSON root Value. (OBJECT or ARRAY)
+     *     null when the end of the text is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token or too deep nesting
+     * @throws IndexOutOfBoundsException invalid range
+     * @throws IllegalArgumentException maxDepth is not positive
+     */
+    static JsComposition<?> parseJson(char[] text, int start, int end,
+                                      JsStringCache cache, int maxDepth)
+            throws JsParseException {
+        StructuralIndex index = new StructuralIndex(text, start, end);
+        index.source.setMaxDepth(maxDepth);
+        index.source.setStringCache(cache);
+        index.scanBlocks(start);
+        JsComposition<?> result = index.parseRoot();
+        return result;
+    }
+
+    /**
+     * Read JSON root Value from JSON text by two-stage parsing
+     * with elements of root ARRAY parsed in parallel.
+     *
+     * <p>Elements of root ARRAY are found by the structural index
+     * and split into slices, which are parsed in parallel
+     * on {@link ForkJoinPool} and joined in order.
+     *
+     * <p>The slices are parsed speculatively assuming valid JSON text.
+     * If any slice fails, including NUMBER with scale out of range,
+     * the whole text is parsed again sequentially
+     * to report the same error as sequential parsing.
+     *
+     * @param text JSON text
+     * @param start start index of JSON text
+     * @param end end index of JSON text (exclusive)
+     * @param minSlice min elements of slice
+     * @return JSON root Value. (OBJECT or ARRAY)
+     *     null when the end of the text is reached with zero or more consecutive white spaces.
+     * @throws JsParseException invalid token
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    static JsComposition<?> parseJsonParallel(char[] text, int start, int end,
+                                              int minSlice)
+            throws JsParseException {
+        StructuralIndex index = scan(text, start, end);
+
+        int[] elements = index.rootElements();
+        if (elements == null || elements.length <= 1) {
+            return index.parseRoot();
+        }
+
+        int elemCount = elements.length - 1;
+        int threads = ForkJoinPool.getCommonPoolParallelism();
+        int slices = Math.min(elemCount / minSlice, threads * SLICES_PER_THREAD);
+        if (slices <= 1) return index.parseRoot();
+
+        Object[] results = IntStream.range(0, slices).parallel()
+                .mapToObj(idx -> index.parseSlice(
+                        elements,
+                        (int) ((long) elemCount * idx / slices),
+                        (int) ((long) elemCount * (idx + 1) / slices) ))
+                .toArray();
+
+        JsArray result = new JsArray();
+        for (Object slice : results) {
+            if (slice == null) return index.parseRoot();
+            for (JsValue value : (JsValue[]) slice) {
+                result.add(value);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Find elements of root ARRAY.
+     *
+     * <p>The result has the cursor of the first token of each element
+     * followed by the cursor next to the close bracket.
+     * The cursor before each element except the first is the comma.
+     *
+     * @return cursors. null if the root is not ARRAY or not closed.
+     */
+    private int[] rootElements() {
+        if (this.count < 2 || this.text[this.positions[0]] != '[') {
+            return null;
+        }
+
+        char first = this.text[this.positions[1]];
+        if (first == ',') return null;
+
+        int[] result = new int[DEF_TOKENS];
+        int size = 0;
+        if (first != ']') result[size++] = 1;
+
+        int depth = 0;
+        for (int cur = 1; cur < this.count; cur++) {
+            char ch = this.text[this.positions[cur]];
+
+            if (depth == 0 && (ch == ',' || ch == ']')) {
+                if (size >= result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+                result[size++] = cur + 1;
+                if (ch == ']') return Arrays.copyOf(result, size);
+                continue;
+            }
+
+            if (ch == '{' || ch == '[') {
+                depth++;
+            } else if (ch == '}' || ch == ']') {
+                if (depth <= 0) return null;
+                depth--;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Parse a slice of elements of root ARRAY with another view.
+     *
+     * @param elements cursors of elements
+     * @param from first element of slice
+     * @param to last element of slice (exclusive)
+     * @return elements. null if invalid.
+     */
+    private JsValue[] parseSlice(int[] elements, int from, int to) {
+        StructuralIndex view = new StructuralIndex(this);
+        JsValue[] result = new JsValue[to - from];
+
+        try {
+            for (int idx = from; idx < to; idx++) {
+                view.cursor = elements[idx];
+                result[idx - from] = view.parseValue(JsArray.ERRMSG_NOARRAYCOMMA, 1);
+
+                // comma or close bracket must follow
+                if (view.cursor != elements[idx + 1] - 1) return null;
+            }
+        } catch (JsParseException | NumberFormatException e) {
+            return null;
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute prefix XOR of bits.
+     *
+     * <p>Each bit of result is XOR of the same and all lower bits.
+     *
+     * @param bits bits
+     * @return prefix XOR
+     */
+    static long prefixXor(long bits) {
+        long result = bits;
+        result ^= result << SHIFT1;
+        result ^= result << SHIFT2;
+        result ^= result << SHIFT4;
+        result ^= result << SHIFT8;
+        result ^= result << SHIFT16;
+        result ^= result << SHIFT32;
+        return result;
+    }
+
+    /**
+     * Scan all blocks of text.
+     *
+     * @param start start index of JSON text
+     */
+    private void scanBlocks(int start) {
+        long prevEscaped = 0L;
+        long prevInString = 0L;
+        long prevScalar = 0L;
+        int lineBase = 1;
+
+        for (int base = start; base < this.end; base += BLOCK) {
+            int length = Math.min(BLOCK, this.end - base);
+            long valid = -1L >>> (BLOCK - length);
+
+            long whitespace = 0L;
+            long linefeed = 0L;
+            long operator = 0L;
+            long quote = 0L;
+            long backslash = 0L;
+
+            for (int idx = 0; idx < length; idx++) {
+                char ch = this.text[base + idx];
+                if (ch >= TABLE_SIZE) continue;
+                long bit = 1L << idx;
+                switch (CLASS_TABLE[ch]) {
+                case CLS_WS:
+                    whitespace |= bit;
+                    if (ch == '\n') linefeed |= bit;
+                    break;
+                case CLS_OP:
+                    operator |= bit;
+                    break;
+                case CLS_QUOTE:
+                    quote |= bit;
+                    break;
+                case CLS_BACKSLASH:
+                    backslash |= bit;
+                    break;
+                default:
+                    break;
+                }
+            }
+
+            // chars escaped by odd length sequence of backslashes
+            backslash &= ~prevEscaped;
+            long followsEscape = backslash << 1 | prevEscaped;
+            long oddStarts = backslash & ~EVEN_BITS & ~followsEscape;
+            long evenCarries = oddStarts + backslash;
+            prevEscaped = 0L;
+            if (Long.compareUnsigned(evenCarries, oddStarts) < 0) {
+                prevEscaped = 1L;
+            }
+            long escaped = (EVEN_BITS ^ (evenCarries << 1)) & followsEscape;
+
+            // inside STRING including opening quotes
+            long quoteBits = quote & ~escaped;
+            long inString = prefixXor(quoteBits) ^ prevInString;
+            prevInString = inString >> HIGHEST_BIT;
+            long outside = ~inString & valid;
+
+            long scalar = ~(whitespace | operator | quoteBits) & outside;
+            long scalarStart = scalar & ~(scalar << 1 | prevScalar);
+            prevScalar = scalar >>> HIGHEST_BIT;
+
+            long tokens = (operator & outside)
+                        | (quoteBits & inString)
+                        | scalarStart;
+
+            while (tokens != 0L) {
+                int idx = Long.numberOfTrailingZeros(tokens);
+                long lower = (1L << idx) - 1L;
+                int line = lineBase + Long.bitCount(linefeed & lower);
+                addToken(base + idx, line);
+                tokens &= tokens - 1L;
+            }
+
+            lineBase += Long.bitCount(linefeed);
+        }
+
+        this.endLine = lineBase;
+
+        return;
+    }
+
+    /**
+     * Record token.
+     *
+     * @param position start index of token
+     * @param line line-number of token
+     */
+    private void addToken(int position, int line) {
+        if (this.count >= this.positions.length) {
+            int newLength = this.count * 2;
+            this.positions = Arrays.copyOf(this.positions, newLength);
+            this.lines = Arrays.copyOf(this.lines, newLength);
+        }
+        this.positions[this.count] = position;
+        this.lines[this.count] = line;
+        this.count++;
+        return;
+    }
+
+    /**
+     * Return number of tokens.
+     *
+     * @return number of tokens
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Return start index of token.
+     *
+     * @param idx index of token
+     * @return start index in JSON text
+     */
+    int getPosition(int idx) {
+        return this.positions[idx];
+    }
+
+    /**
+     * Return line-number of token.
+     *
+     * @param idx index of token
+     * @return line-number
+     */
+    int getLine(int idx) {
+        return this.lines[idx];
+    }
+
+    /**
+     * Return the first char of the next token.
+     *
+     * @return first char. -1 if no more token.
+     */
+    private int peekToken() {
+        if (this.cursor >= this.count) return -1;
+        int result = this.text[this.positions[this.cursor]];
+        return result;
+    }
+
+    /**
+     * Return line-number of the next token or the end.
+     *
+     * @return line-number
+     */
+    private int tokenLine() {
+        if (this.cursor >= this.count) return this.endLine;
+        return this.lines[this.cursor];
+    }
+
+    /**
+     * Create exception at the next token.
+     *
+     * <p>The column is computed only here
+     * by searching the line head backward.
+     *
+     * @param message message
+     * @return exception
+     */
+    private JsParseException newException(String message) {
+        int pos;
+        if (this.cursor >= this.count) pos = this.end;
+        else                           pos = this.positions[this.cursor];
+
+        int head = pos;
+        while (head > this.start && this.text[head - 1] != '\n') {
+            head--;
+        }
+
+        JsParseException result = new JsParseException(
+                message, tokenLine(), pos - head + 1, pos - this.start);
+        return result;
+    }
+
+    /**
+     * Move the source to the next token and advance the cursor.
+     */
+    private void seekToken() {
+        this.source.setBufferPosition(this.positions[this.cursor],
+                                      this.lines[this.cursor] );
+        this.cursor++;
+        return;
+    }
+
+    /**
+     * Check that the lexed token is followed by whitespaces and the next token.
+     *
+     * @param message error message if not followed
+     * @throws JsParseException invalid token
+     * @throws IOException never
+     */
+    private void checkTokenEnd(String message)
+            throws JsParseException, IOException {
+        if (message == null) return;
+        this.source.skipWhiteSpace();
+
+        int nextPos = this.end;
+        if (this.cursor < this.count) nextPos = this.positions[this.cursor];
+
+        if (this.source.getBufferPosition() != nextPos) {
+            throw this.source.newParseException(message);
+        }
+
+        return;
+    }
+
+    /**
+     * Read JSON root Value.
+     *
+     * @return JSON root Value. (OBJECT or ARRAY)
+     *     null when no token.
+     * @throws JsParseException invalid token
+     */
+    private JsComposition<?> parseRoot() throws JsParseException {
+        if (this.count <= 0) return null;
+
+        JsParseException rootError = null;
+        int head = peekToken();
+        if (head != '{' && head != '[') {
+            rootError = newException(JsParseException.ERRMSG_INVALIDROOT);
+        }
+
+        JsValue topValue;
+        try {
+            topValue = parseValue(null, 0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+
+        if (rootError != null) throw rootError;
+        JsComposition<?> result = (JsComposition) topValue;
+
+        return result;
+    }
+
+    /**
+     * Read JSON Value at the next token.
+     *
+     * <p>Garbage following STRING, NUMBER, BOOLEAN or NULL
+     * is reported as a missing separator.
+     *
+     * @param message error message if garbage follows. null if not checked.
+     * @param outerDepth depth of OBJECT and ARRAY enclosing the Value
+     * @return JSON Value
+     * @throws JsParseException invalid token, no more token or too deep nesting
+     * @throws IOException never
+     */
+    private JsValue parseValue(String message, int outerDepth)
+            throws JsParseException, IOException {
+        int head = peekToken();
+        if (head < 0) {
+            throw newException(JsParseException.ERRMSG_NODATA);
+        }
+
+        if (head != '{' && head != '[') {
+            return parseScalar(message);
+        }
+
+        this.depth = 0;
+        JsValue result;
+        try {
+            result = parseTree(outerDepth);
+        } finally {
+            clear();
+        }
+
+        return result;
+    }
+
+    /**
+     * Read OBJECT or ARRAY Value until all contexts are closed.
+     *
+     * <p>OBJECT and ARRAY under construction are kept in the internal stack
+     * instead of the call stack.
+     *
+     * @param outerDepth depth of OBJECT and ARRAY enclosing the Value
+     * @return OBJECT or ARRAY Value
+     * @throws JsParseException invalid token, no more token or too deep nesting
+     * @throws IOException never
+     */
+    private JsComposition<?> parseTree(int outerDepth)
+            throws JsParseException, IOException {
+        open(outerDepth);
+
+        for (;;) {
+            if ( !nextElement() ) {
+                JsComposition<?> closed = pop();
+                if (this.depth <= 0) return closed;
+                attach(closed);
+                continue;
+            }
+
+            String message = JsArray.ERRMSG_NOARRAYCOMMA;
+            if (this.containers[this.depth - 1] instanceof JsObject) {
+                message = JsObject.ERRMSG_NOOBJECTCOMMA;
+            }
+
+            switch (peekToken()) {
+            case '{':
+            case '[':
+                open(outerDepth);
+                break;
+            default:
+                attach(parseScalar(message));
+                break;
+            }
+        }
+    }
+
+    /**
+     * Consume the opening bracket at the next token
+     * and push new OBJECT or ARRAY.
+     *
+     * @param outerDepth depth of OBJECT and ARRAY enclosing the stack
+     * @throws JsParseException too deep nesting
+     */
+    private void open(int outerDepth) throws JsParseException {
+        if (outerDepth + this.depth >= this.source.getMaxDepth()) {
+            throw newException(JsParseException.ERRMSG_TOODEEP);
+        }
+
+        if (this.depth >= this.containers.length) {
+            int newLength = this.containers.length * 2;
+            this.containers = Arrays.copyOf(this.containers, newLength);
+            this.names = Arrays.copyOf(this.names, newLength);
+        }
+
+        JsComposition<?> container;
+        if (peekToken() == '{') container = new JsObject();
+        else                    container = new JsArray();
+        this.containers[this.depth++] = container;
+        this.cursor++;
+
+        return;
+    }
+
+    /**
+     * Pop OBJECT or ARRAY closed.
+     *
+     * @return OBJECT or ARRAY Value
+     */
+    private JsComposition<?> pop() {
+        int top = --this.depth;
+        JsComposition<?> result = this.containers[top];
+        this.containers[top] = null;
+        return result;
+    }
+
+    /**
+     * Add Value to the current context.
+     *
+     * @param value child Value
+     */
+    private void attach(JsValue value) {
+        int top = this.depth - 1;
+        JsComposition<?> container = this.containers[top];
+        if (container instanceof JsObject) {
+            ((JsObject) container).putValue(this.names[top], value);
+            this.names[top] = null;
+        } else {
+            ((JsArray) container).add(value);
+        }
+        return;
+    }
+
+    /**
+     * Release Values left in the stack by errors.
+     */
+    private void clear() {
+        Arrays.fill(this.containers, 0, this.depth, null);
+        Arrays.fill(this.names, 0, this.depth, null);
+        this.depth = 0;
+        return;
+    }
+
+    /**
+     * Move the cursor to the head of the next element in the current context.
+     *
+     * <p>PAIR name is read and kept until its Value is attached.
+     *
+     * @return true if positioned at the head of Value.
+     *     false if the closing bracket is consumed.
+     * @throws JsParseException invalid token or no more token
+     * @throws IOException never
+     */
+    private boolean nextElement() throws JsParseException, IOException {
+        int top = this.depth - 1;
+        JsComposition<?> container = this.containers[top];
+        boolean isObject = container instanceof JsObject;
+
+        char close = ']';
+        String errComma = JsArray.ERRMSG_NOARRAYCOMMA;
+        String errNext = JsArray.ERRMSG_NOELEM;
+        if (isObject) {
+            close = '}';
+            errComma = JsObject.ERRMSG_NOOBJECTCOMMA;
+            errNext = JsParseException.ERRMSG_NODATA;
+        }
+
+        int tokenHead = peekToken();
+        if (tokenHead < 0) {
+            throw newException(JsParseException.ERRMSG_NODATA);
+        }
+        if (tokenHead == close) {
+            this.cursor++;
+            return false;
+        }
+
+        if ( !container.isEmpty() ) {
+            if (tokenHead != ',') {
+                throw newException(errComma);
+            }
+            this.cursor++;
+            if (peekToken() < 0) {
+                throw newException(errNext);
+            }
+        }
+
+        if (isObject) {
+            if (peekToken() != '"') {
+                throw newException(JsObject.ERRMSG_NOHASHNAME);
+            }
+            seekToken();
+            this.source.read();
+            this.names[top] = JsString.parseNameText(this.source);
+            checkTokenEnd(JsObject.ERRMSG_NOHASHSEP);
+
+            int separator = peekToken();
+            if (separator < 0) {
+                throw newException(JsParseException.ERRMSG_NODATA);
+            }
+            if (separator != ':') {
+                throw newException(JsObject.ERRMSG_NOHASHSEP);
+            }
+            this.cursor++;
+
+            if (peekToken() < 0) {
+                throw newException(JsObject.ERRMSG_NOHASHVAL);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Read STRING, NUMBER, BOOLEAN or NULL Value at the next token.
+     *
+     * @param message error message if garbage follows. null if not checked.
+     * @return JSON Value
+     * @throws JsParseException invalid token
+     * @throws IOException never
+     */
+    private JsValue parseScalar(String message)
+            throws JsParseException, IOException {
+        switch (peekToken()) {
+        case '}':
+        case ']':
+        case ':':
+        case ',':
+            throw newException(JsParseException.ERRMSG_INVALIDTOKEN);
+        default:
+            break;
+        }
+
+        seekToken();
+        JsValue result = Json.parseValue(this.source);
+        checkTokenEnd(message);
+
+        return result;
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * JSON value tree parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Parser of JSON Value tree without recursive calls.
+ *
+ * <p>OBJECT and ARRAY under construction are kept in the internal stack
+ * instead of the call stack,
+ * so that deep nesting never overflows the call stack.
+ * The same syntax as {@link ValueSkipper} is validated
+ * and the same {@link JsParseException} is thrown at the same line.
+ *
+ * <p>Nesting deeper than {@link JsonSource#getMaxDepth()}
+ * causes {@link JsParseException}.
+ *
+ * <p>The stack is reused for each Value.
+ *
+ * <p>Not thread safe.
+ */
+final class TreeParser {
+
+    private static final int DEF_NESTS = 32;
+
+
+    // OBJECT or ARRAY under construction
+    private JsComposition<?>[] containers = new JsComposition<?>[DEF_NESTS];
+    // PAIR name waiting for its Value
+    private String[] names = new String[DEF_NESTS];
+    private int depth = 0;
+
+
+    /**
+     * Constructor.
+     */
+    TreeParser() {
+        super();
+        return;
+    }
+
+
+    /**
+     * Parse any JSON Value of input source.
+     *
+     * @param source input source
+     * @return any JSON Value.
+     *     null when the end of the source is reached with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or too deep nesting
+     */
+    JsValue parseValue(JsonSource source)
+            throws IOException, JsParseException {
+        source.skipWhiteSpace();
+        int head = source.peek();
+        if (head < 0) return null;
+
+        if (head != '{' && head != '[') {
+            return parseScalar(source, (char) head);
+        }
+
+        this.depth = 0;
+        JsValue result;
+        try {
+            result = parseTree(source, (char) head);
+        } finally {
+            clear();
+        }
+
+        return result;
+    }
+
+    /**
+     * Parse OBJECT or ARRAY Value until all contexts are closed.
+     *
+     * @param source input source
+     * @param rootHead the opening bracket of the outermost Value
+     * @return OBJECT or ARRAY Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token or too deep nesting
+     */
+    private JsComposition<?> parseTree(JsonSource source, char rootHead)
+            throws IOException, JsParseException {
+        open(source, rootHead);
+
+        for (;;) {
+            if ( !nextElement(source) ) {
+                JsComposition<?> closed = pop();
+                if (this.depth <= 0) return closed;
+                attach(closed);
+                continue;
+            }
+
+            char head = source.peekOrDie();
+            if (head == '{' || head == '[') {
+                open(source, head);
+            } else {
+                attach(parseScalar(source, head));
+            }
+        }
+    }
+
+    /**
+     * Consume the opening bracket and push new OBJECT or ARRAY.
+     *
+     * @param source input source
+     * @param head the opening bracket
+     * @throws IOException I/O error
+     * @throws JsParseException too deep nesting
+     */
+    private void open(JsonSource source, char head)
+            throws IOException, JsParseException {
+        if (this.depth >= source.getMaxDepth()) {
+            throw source.newParseException(JsParseException.ERRMSG_TOODEEP);
+        }
+        source.read();
+
+        if (this.depth >= this.containers.length) {
+            int newLength = this.containers.length * 2;
+            this.containers = Arrays.copyOf(this.containers, newLength);
+            this.names = Arrays.copyOf(this.names, newLength);
+        }
+
+        JsComposition<?> container;
+        if (head == '{') container = new JsObject();
+        else             container = new JsArray();
+        this.containers[this.depth++] = container;
+
+        return;
+    }
+
+    /**
+     * Pop OBJECT or ARRAY closed.
+     *
+     * @return OBJECT or ARRAY Value
+     */
+    private JsComposition<?> pop() {
+        int top = --this.depth;
+        JsComposition<?> result = this.containers[top];
+        this.containers[top] = null;
+        return result;
+    }
+
+    /**
+     * Add Value to the current context.
+     *
+     * @param value child Value
+     */
+    private void attach(JsValue value) {
+        int top = this.depth - 1;
+        JsComposition<?> container = this.containers[top];
+        if (container instanceof JsObject) {
+            ((JsObject) container).putValue(this.names[top], value);
+            this.names[top] = null;
+        } else {
+            ((JsArray) container).add(value);
+        }
+        return;
+    }
+
+    /**
+     * Release Values left in the stack by errors.
+     */
+    private void clear() {
+        Arrays.fill(this.containers, 0, this.depth, null);
+        Arrays.fill(this.names, 0, this.depth, null);
+        this.depth = 0;
+        return;
+    }
+
+    /**
+     * Move to the head of the next element in the current context.
+     *
+     * <p>PAIR name is read and kept until its Value is attached.
+     *
+     * <p>Errors are the same as {@link ValueSkipper}.
+     *
+     * @param source input source
+     * @return true if positioned at the head of Value.
+     *     false if the closing bracket is consumed.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private boolean nextElement(JsonSource source)
+            throws IOException, JsParseException {
+        int top = this.depth - 1;
+        JsComposition<?> container = this.containers[top];
+        boolean isObject = container instanceof JsObject;
+
+        char close = ']';
+        String errComma = JsArray.ERRMSG_NOARRAYCOMMA;
+        String errValue = JsArray.ERRMSG_NOELEM;
+        if (isObject) {
+            close = '}';
+            errComma = JsObject.ERRMSG_NOOBJECTCOMMA;
+            errValue = JsObject.ERRMSG_NOHASHVAL;
+        }
+
+        source.skipWhiteSpace();
+        char chData = source.peekOrDie();
+        if (chData == close) {
+            source.read();
+            return false;
+        }
+
+        if ( !container.isEmpty() ) {
+            if (chData != ',') {
+                throw source.newParseException(errComma);
+            }
+            source.read();
+            source.skipWhiteSpace();
+        }
+
+        if (isObject) {
+            if (source.peekOrDie() != '"') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHNAME);
+            }
+            source.read();
+            this.names[top] = JsString.parseNameText(source);
+
+            source.skipWhiteSpace();
+            if (source.peekOrDie() != ':') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHSEP);
+            }
+            source.read();
+            source.skipWhiteSpace();
+        }
+
+        if ( !source.hasMore() ) {
+            throw source.newParseException(errValue);
+        }
+
+        return true;
+    }
+
+    /**
+     * Parse STRING, NUMBER, BOOLEAN or NULL Value.
+     *
+     * @param source input source
+     * @param head the first char of Value
+     * @return Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private static JsValue parseScalar(JsonSource source, char head)
+            throws IOException, JsParseException {
+        JsValue result;
+        switch (head) {
+        case '"':
+            result = JsString.parseString(source);
+            break;
+        case 'n':
+            result = JsNull.parseNull(source);
+            break;
+        case 't':
+        case 'f':
+            result = JsBoolean.parseBoolean(source);
+            break;
+        default:
+            result = JsNumber.parseNumber(source);
+            break;
+        }
+
+        if (result == null) {
+            throw source.newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * unchecked wrapper of JSON parse error
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.util.Objects;
+
+/**
+ * Unchecked exception wrapping {@link JsParseException}.
+ *
+ * <p>Thrown where checked exceptions are not allowed,
+ * such as {@link java.util.Iterator} or {@link java.util.stream.Stream}.
+ *
+ * @see java.io.UncheckedIOException
+ */
+@SuppressWarnings("serial")
+public class UncheckedJsParseException extends RuntimeException {
+
+    /**
+     * Constructor.
+     *
+     * @param cause the cause
+     * @throws NullPointerException argument is null
+     */
+    public UncheckedJsParseException(JsParseException cause) {
+        super(Objects.requireNonNull(cause));
+        return;
+    }
+
+
+    /**
+     * Returns the cause.
+     *
+     * @return {@link JsParseException} wrapped
+     */
+    @Override
+    public JsParseException getCause() {
+        return (JsParseException) super.getCause();
+    }
+
+}
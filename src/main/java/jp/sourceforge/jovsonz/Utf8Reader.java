@@ -0,0 +1,368 @@
+/*
+ * UTF-8 byte decoder
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.util.Objects;
+
+/**
+ * Reader that decodes UTF-8 bytes directly.
+ *
+ * <p>Bytes are taken from {@link java.nio.ByteBuffer} or {@link java.io.InputStream}
+ * and decoded into the char array of the caller
+ * without {@link java.nio.charset.CharsetDecoder} and its intermediate buffers.
+ * ASCII bytes which occupy most of JSON text are copied by a tight loop.
+ *
+ * <p>Malformed UTF-8 sequence causes {@link java.nio.charset.MalformedInputException}.
+ *
+ * <p>Not thread safe.
+ *
+ * @see <a href="https://www.ietf.org/rfc/rfc3629.txt">RFC3629</a>
+ */
+class Utf8Reader extends Reader {
+
+    /** bytes of stream block. */
+    private static final int BLOCK_SIZE = 8 * 1024;
+
+    private static final int MASK_CONT     = 0b1100_0000;
+    private static final int BITS_CONT     = 0b1000_0000;
+    private static final int MASK_LEAD2    = 0b1110_0000;
+    private static final int BITS_LEAD2    = 0b1100_0000;
+    private static final int MASK_LEAD3    = 0b1111_0000;
+    private static final int BITS_LEAD3    = 0b1110_0000;
+    private static final int MASK_LEAD4    = 0b1111_1000;
+    private static final int BITS_LEAD4    = 0b1111_0000;
+    private static final int PAYLOAD_CONT  = 0b0011_1111;
+    private static final int PAYLOAD_LEAD2 = 0b0001_1111;
+    private static final int PAYLOAD_LEAD3 = 0b0000_1111;
+    private static final int PAYLOAD_LEAD4 = 0b0000_0111;
+    private static final int BITS_CONTSIZE = 6;
+    private static final int BYTE_MASK     = 0xff;
+
+    private static final int SEQ2 = 2;
+    private static final int SEQ3 = 3;
+    private static final int SEQ4 = 4;
+
+    private static final int MIN_SEQ2 = 0x80;
+    private static final int MIN_SEQ3 = 0x800;
+    private static final int MIN_SEQ4 = 0x1_0000;
+
+    private static final String ERRMSG_CLOSED = "Stream closed";
+
+
+    private ByteBuffer bytes;
+    private final InputStream stream;
+
+    private char pendingLow = '\0';
+    private boolean hasPendingLow = false;
+
+    private boolean closed = false;
+
+
+    /**
+     * Constructor.
+     *
+     * <p>Bytes from position to limit are decoded.
+     * The position of the buffer is advanced as it is decoded.
+     *
+     * @param bytes UTF-8 bytes
+     * @throws NullPointerException argument is null
+     */
+    Utf8Reader(ByteBuffer bytes) {
+        super();
+        this.bytes = Objects.requireNonNull(bytes);
+        this.stream = null;
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stream UTF-8 byte stream
+     * @throws NullPointerException argument is null
+     */
+    Utf8Reader(InputStream stream) {
+        this(stream, new byte[0], 0, 0);
+        return;
+    }
+
+    /**
+     * Constructor.
+     *
+     * <p>Bytes already read from the stream are decoded first.
+     *
+     * @param stream UTF-8 byte stream
+     * @param head bytes already read from the stream
+     * @param offset start of bytes already read
+     * @param length length of bytes already read
+     * @throws NullPointerException argument is null
+     */
+    Utf8Reader(InputStream stream, byte[] head, int offset, int length) {
+        super();
+        this.stream = Objects.requireNonNull(stream);
+
+        byte[] block = new byte[Math.max(BLOCK_SIZE, length)];
+        System.arraycopy(head, offset, block, 0, length);
+        this.bytes = ByteBuffer.wrap(block, 0, length);
+
+        return;
+    }
+
+
+    /**
+     * Restart decoding another bytes.
+     *
+     * <p>Valid only if constructed from {@link java.nio.ByteBuffer}.
+     *
+     * @param newBytes UTF-8 bytes
+     * @throws NullPointerException argument is null
+     * @see #Utf8Reader(ByteBuffer)
+     */
+    void reset(ByteBuffer newBytes) {
+        assert this.stream == null;
+        this.bytes = Objects.requireNonNull(newBytes);
+        this.pendingLow = '\0';
+        this.hasPendingLow = false;
+        this.closed = false;
+        return;
+    }
+
+    /**
+     * Determine if the byte is not the leading byte of UTF-8 sequence.
+     *
+     * @param bVal byte value
+     * @return true if continuation byte
+     */
+    private static boolean isContinuation(int bVal) {
+        boolean result = (bVal & MASK_CONT) == BITS_CONT;
+        return result;
+    }
+
+    /**
+     * Return the length of UTF-8 sequence from its leading byte.
+     *
+     * @param lead leading byte (non-ASCII)
+     * @return length of sequence. 0 if invalid leading byte
+     */
+    private static int sequenceLength(int lead) {
+        int result;
+        if ((lead & MASK_LEAD2) == BITS_LEAD2) {
+            result = SEQ2;
+        } else if ((lead & MASK_LEAD3) == BITS_LEAD3) {
+            result = SEQ3;
+        } else if ((lead & MASK_LEAD4) == BITS_LEAD4) {
+            result = SEQ4;
+        } else {
+            result = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Supply more bytes when the bytes of the current buffer are running out.
+     *
+     * <p>Unread bytes from the position of the current buffer
+     * must appear at the position of the returned buffer.
+     *
+     * <p>This implementation reads the stream if any.
+     *
+     * @param current current buffer
+     * @return buffer with more bytes. null if no more bytes
+     * @throws IOException I/O error
+     */
+    protected ByteBuffer moreBytes(ByteBuffer current) throws IOException {
+        if (this.stream == null) return null;
+
+        current.compact();
+        byte[] block = current.array();
+        int start = current.position();
+        int length = this.stream.read(block, start, block.length - start);
+        current.flip();
+
+        if (length < 0) return null;
+        current.limit(start + Math.max(length, 0));
+
+        return current;
+    }
+
+    /**
+     * Refill bytes.
+     *
+     * @return true if more bytes supplied
+     * @throws IOException I/O error
+     */
+    private boolean refill() throws IOException {
+        int before = this.bytes.remaining();
+        ByteBuffer next = moreBytes(this.bytes);
+        if (next == null) return false;
+        this.bytes = next;
+        boolean result = this.bytes.remaining() > before;
+        return result;
+    }
+
+    /**
+     * Decode UTF-8 multi-byte sequence at the position of the buffer.
+     *
+     * <p>The position is advanced only if decoded.
+     *
+     * @param cbuf destination buffer
+     * @param off offset at which to start storing characters
+     * @param rest room of destination buffer. at least 1
+     * @return number of chars stored. 0 if more bytes needed
+     * @throws MalformedInputException malformed sequence
+     */
+    private int decodeSequence(char[] cbuf, int off, int rest)
+            throws MalformedInputException {
+        ByteBuffer buf = this.bytes;
+        int pos = buf.position();
+        int lead = buf.get(pos) & BYTE_MASK;
+
+        int seqLen = sequenceLength(lead);
+        if (seqLen <= 0) throw new MalformedInputException(1);
+        if (buf.limit() - pos < seqLen) return 0;
+
+        int codePoint;
+        int minVal;
+        switch (seqLen) {
+        case SEQ2:
+            codePoint = lead & PAYLOAD_LEAD2;
+            minVal = MIN_SEQ2;
+            break;
+        case SEQ3:
+            codePoint = lead & PAYLOAD_LEAD3;
+            minVal = MIN_SEQ3;
+            break;
+        default:
+            codePoint = lead & PAYLOAD_LEAD4;
+            minVal = MIN_SEQ4;
+            break;
+        }
+
+        for (int idx = 1; idx < seqLen; idx++) {
+            int bVal = buf.get(pos + idx);
+            if ( !isContinuation(bVal) ) {
+                throw new MalformedInputException(idx);
+            }
+            codePoint <<= BITS_CONTSIZE;
+            codePoint |= bVal & PAYLOAD_CONT;
+        }
+
+        if (   codePoint < minVal
+            || codePoint > Character.MAX_CODE_POINT
+            || (   Character.MIN_SURROGATE <= codePoint
+                && codePoint <= Character.MAX_SURROGATE) ) {
+            throw new MalformedInputException(seqLen);
+        }
+
+        buf.position(pos + seqLen);
+
+        if (codePoint < MIN_SEQ4) {
+            cbuf[off] = (char) codePoint;
+            return 1;
+        }
+
+        cbuf[off] = Character.highSurrogate(codePoint);
+        char low = Character.lowSurrogate(codePoint);
+        if (rest >= 2) {
+            cbuf[off + 1] = low;
+            return 2;
+        }
+
+        this.pendingLow = low;
+        this.hasPendingLow = true;
+
+        return 1;
+    }
+
+    /**
+     * Reads characters into a portion of an array.
+     *
+     * <p>If some chars are already decoded,
+     * it returns without waiting for more bytes from the stream.
+     *
+     * @param cbuf destination buffer
+     * @param off offset at which to start storing characters
+     * @param len maximum number of characters to read
+     * @return the number of characters read,
+     *     or -1 if the end of the stream has been reached
+     * @throws IOException I/O error or malformed UTF-8 sequence
+     * @throws IndexOutOfBoundsException invalid range
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (this.closed) throw new IOException(ERRMSG_CLOSED);
+        if (off < 0 || len < 0 || cbuf.length - off < len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) return 0;
+
+        int out = off;
+        int outEnd = off + len;
+
+        if (this.hasPendingLow) {
+            cbuf[out++] = this.pendingLow;
+            this.hasPendingLow = false;
+        }
+
+        while (out < outEnd) {
+            ByteBuffer buf = this.bytes;
+            int pos = buf.position();
+            int lim = buf.limit();
+
+            // ASCII fast path
+            while (pos < lim && out < outEnd) {
+                byte bVal = buf.get(pos);
+                if (bVal < 0) break;
+                cbuf[out++] = (char) bVal;
+                pos++;
+            }
+            buf.position(pos);
+            if (out >= outEnd) break;
+
+            if (pos < lim) {
+                int decoded = decodeSequence(cbuf, out, outEnd - out);
+                if (decoded > 0) {
+                    out += decoded;
+                    continue;
+                }
+            }
+
+            if (out > off) break;
+
+            if ( !refill() ) {
+                if (this.bytes.hasRemaining()) {
+                    int rest = this.bytes.remaining();
+                    throw new MalformedInputException(rest);
+                }
+                break;
+            }
+        }
+
+        int result = out - off;
+        if (result <= 0) return -1;
+
+        return result;
+    }
+
+    /**
+     * Close the stream if any.
+     *
+     * @throws IOException I/O error
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        if (this.stream != null) this.stream.close();
+        return;
+    }
+
+}
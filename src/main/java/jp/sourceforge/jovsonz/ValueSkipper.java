@@ -0,0 +1,240 @@
+/*
+ * JSON value skipper
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Skipper of JSON Values without building them.
+ *
+ * <p>The same syntax as {@link Json#parseValue(JsonSource)} is validated
+ * and the same {@link JsParseException} is thrown at the same line,
+ * but no Value object is created.
+ * NUMBER with scale out of int range is rejected
+ * by the same {@link NumberFormatException} as the parser.
+ *
+ * <p>Nested OBJECT and ARRAY are tracked by the internal stack
+ * instead of recursive calls,
+ * so that deep nesting never overflows the call stack.
+ * The stack is reused for each Value.
+ *
+ * <p>Not thread safe.
+ */
+final class ValueSkipper {
+
+    private static final int DEF_NESTS = 32;
+
+
+    // true if OBJECT, false if ARRAY
+    private boolean[] objectStack = new boolean[DEF_NESTS];
+    private int depth = 0;
+
+
+    /**
+     * Constructor.
+     */
+    ValueSkipper() {
+        super();
+        return;
+    }
+
+
+    /**
+     * Skip any JSON Value of input source.
+     *
+     * @param source input source
+     * @return false when the end of the source is reached
+     *     with zero or more consecutive white spaces.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     */
+    boolean skipValue(JsonSource source)
+            throws IOException, JsParseException {
+        source.skipWhiteSpace();
+        if ( !source.hasMore() ) return false;
+
+        this.depth = 0;
+        skipTree(source, true);
+
+        return true;
+    }
+
+    /**
+     * Skip the rest of OBJECT or ARRAY Value
+     * whose opening bracket has been consumed.
+     *
+     * <p>The closing bracket is consumed.
+     *
+     * @param source input source
+     * @param isObject true if OBJECT
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     */
+    void skipChildren(JsonSource source, boolean isObject)
+            throws IOException, JsParseException {
+        this.depth = 0;
+        push(isObject);
+        skipTree(source, false);
+        return;
+    }
+
+    /**
+     * Push new OBJECT or ARRAY context.
+     *
+     * @param isObject true if OBJECT
+     */
+    private void push(boolean isObject) {
+        if (this.depth >= this.objectStack.length) {
+            int newLength = this.objectStack.length * 2;
+            this.objectStack = Arrays.copyOf(this.objectStack, newLength);
+        }
+        this.objectStack[this.depth++] = isObject;
+        return;
+    }
+
+    /**
+     * Skip Values until all contexts are closed.
+     *
+     * @param source input source
+     * @param valueNext true if positioned at the head of Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private void skipTree(JsonSource source, boolean valueNext)
+            throws IOException, JsParseException {
+        boolean next = valueNext;
+        boolean hasElem = false;
+
+        for (;;) {
+            if (next) {
+                char head = source.peekOrDie();
+                if (head == '{' || head == '[') {
+                    source.read();
+                    push(head == '{');
+                    hasElem = false;
+                } else {
+                    skipScalar(source, head);
+                    hasElem = true;
+                }
+            }
+
+            if (this.depth <= 0) break;
+
+            next = nextElement(source, hasElem);
+            if ( !next ) {
+                this.depth--;
+                hasElem = true;
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Move to the head of the next element in the current context.
+     *
+     * <p>Errors are the same as {@link JsObject#parseObject(JsonSource)}
+     * and {@link JsArray#parseArray(JsonSource)}.
+     *
+     * @param source input source
+     * @param hasElem true if any element has been skipped in the context
+     * @return true if positioned at the head of Value.
+     *     false if the closing bracket is consumed.
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     */
+    private boolean nextElement(JsonSource source, boolean hasElem)
+            throws IOException, JsParseException {
+        boolean isObject = this.objectStack[this.depth - 1];
+
+        char close = ']';
+        String errComma = JsArray.ERRMSG_NOARRAYCOMMA;
+        String errValue = JsArray.ERRMSG_NOELEM;
+        if (isObject) {
+            close = '}';
+            errComma = JsObject.ERRMSG_NOOBJECTCOMMA;
+            errValue = JsObject.ERRMSG_NOHASHVAL;
+        }
+
+        source.skipWhiteSpace();
+        char chData = source.peekOrDie();
+        if (chData == close) {
+            source.read();
+            return false;
+        }
+
+        if (hasElem) {
+            if (chData != ',') {
+                throw source.newParseException(errComma);
+            }
+            source.read();
+            source.skipWhiteSpace();
+        }
+
+        if (isObject) {
+            if (source.peekOrDie() != '"') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHNAME);
+            }
+            source.read();
+            JsString.skipStringText(source);
+
+            source.skipWhiteSpace();
+            if (source.peekOrDie() != ':') {
+                throw source.newParseException(JsObject.ERRMSG_NOHASHSEP);
+            }
+            source.read();
+            source.skipWhiteSpace();
+        }
+
+        if ( !source.hasMore() ) {
+            throw source.newParseException(errValue);
+        }
+
+        return true;
+    }
+
+    /**
+     * Skip STRING, NUMBER, BOOLEAN or NULL Value.
+     *
+     * @param source input source
+     * @param head the first char of Value
+     * @throws IOException I/O error
+     * @throws JsParseException invalid token
+     * @throws NumberFormatException NUMBER with scale out of int range
+     */
+    private static void skipScalar(JsonSource source, char head)
+            throws IOException, JsParseException {
+        switch (head) {
+        case '"':
+            source.read();
+            JsString.skipStringText(source);
+            break;
+        case 'n':
+            JsNull.parseNull(source);
+            break;
+        case 't':
+        case 'f':
+            JsBoolean.parseBoolean(source);
+            break;
+        default:
+            if (head != '-' && !JsNumber.isLatinDigit(head)) {
+                throw source.newParseException(JsParseException.ERRMSG_INVALIDTOKEN);
+            }
+            NumberLexer lexer = source.getNumberLexer();
+            lexer.lex(source, null);
+            lexer.checkScale();
+            break;
+        }
+
+        return;
+    }
+
+}
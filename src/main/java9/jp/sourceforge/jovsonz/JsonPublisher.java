@@ -0,0 +1,351 @@
+/*
+ * JSON root Value publisher
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of JSON root Values read asynchronously from file.
+ *
+ * <p>UTF-8 bytes are read from {@link AsynchronousFileChannel}
+ * chunk by chunk and parsed by {@link JsonPushParser}.
+ * Concatenated root Values like NDJSON are published in order.
+ *
+ * <p>After the first request, the next chunk is read
+ * only when no root Value is ready.
+ * At most one chunk is read ahead beyond the demand,
+ * so that the end of input and errors are notified without more demand
+ * and the memory used depends on the demand
+ * rather than the size of the file.
+ * No thread waits for I/O.
+ * The subscriber is notified by the thread calling
+ * {@link Flow.Subscription#request(long)}
+ * or by the thread completing reads of the channel,
+ * one at a time.
+ *
+ * <p>Each subscriber reads the channel independently from the start position.
+ * The channel is not closed.
+ *
+ * <p>Errors of I/O and JSON syntax are notified by
+ * {@link Flow.Subscriber#onError(Throwable)}
+ * after all root Values completed before the error are published.
+ * Exceptions thrown by {@link Flow.Subscriber#onNext(Object)}
+ * cancel the subscription and are notified by
+ * {@link Flow.Subscriber#onError(Throwable)}.
+ *
+ * <p>example
+ *
+ * <pre>
+ * AsynchronousFileChannel channel = AsynchronousFileChannel.open(path);
+ * new JsonPublisher(channel, 0L).subscribe(subscriber);
+ * </pre>
+ *
+ * <p>This class requires JDK9 or later.
+ */
+public class JsonPublisher implements Flow.Publisher<JsComposition<?>> {
+
+    /** bytes of read chunk. */
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final String ERRMSG_REQUEST =
+            "non-positive request";
+
+
+    private final AsynchronousFileChannel channel;
+    private final long startPosition;
+
+
+    /**
+     * Constructor.
+     *
+     * @param channel UTF-8 file channel
+     * @param position start position of the file
+     * @throws NullPointerException argument is null
+     * @throws IllegalArgumentException negative position
+     */
+    public JsonPublisher(AsynchronousFileChannel channel, long position) {
+        super();
+        if (position < 0L) throw new IllegalArgumentException();
+        this.channel = Objects.requireNonNull(channel);
+        this.startPosition = position;
+        return;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param subscriber {@inheritDoc}
+     * @throws NullPointerException argument is null
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super JsComposition<?>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        ChannelSubscription subscription =
+                new ChannelSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        return;
+    }
+
+
+    /**
+     * Subscription reading the channel.
+     *
+     * <p>All work is serialized by the drain loop.
+     */
+    private final class ChannelSubscription
+            implements Flow.Subscription,
+                       CompletionHandler<Integer, Void> {
+
+        private final Flow.Subscriber<? super JsComposition<?>> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable requestError = null;
+
+        // result of the last read
+        private volatile boolean readDone = false;
+        private volatile int readLength = 0;
+        private volatile Throwable readError = null;
+
+        // touched only in the drain loop
+        private final JsonPushParser parser = new JsonPushParser();
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        private final Queue<JsComposition<?>> ready = new ArrayDeque<>();
+        private long position = JsonPublisher.this.startPosition;
+        private long emitted = 0L;
+        private boolean reading = false;
+        private boolean ended = false;
+        private boolean terminated = false;
+        // error notified after the ready root Values
+        private Throwable failure = null;
+
+        /**
+         * Constructor.
+         *
+         * @param subscriber subscriber
+         */
+        ChannelSubscription(
+                Flow.Subscriber<? super JsComposition<?>> subscriber) {
+            super();
+            this.subscriber = subscriber;
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Non-positive request is notified as
+         * {@link IllegalArgumentException}.
+         *
+         * @param n {@inheritDoc}
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                this.requestError = new IllegalArgumentException(ERRMSG_REQUEST);
+            } else {
+                this.requested.accumulateAndGet(n, (old, add) -> {
+                    long sum = old + add;
+                    if (sum < 0L) sum = Long.MAX_VALUE;
+                    return sum;
+                });
+            }
+            drain();
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            drain();
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param result {@inheritDoc}
+         * @param attachment {@inheritDoc}
+         */
+        @Override
+        public void completed(Integer result, Void attachment) {
+            this.readLength = result;
+            this.readDone = true;
+            drain();
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param exc {@inheritDoc}
+         * @param attachment {@inheritDoc}
+         */
+        @Override
+        public void failed(Throwable exc, Void attachment) {
+            this.readError = exc;
+            this.readDone = true;
+            drain();
+            return;
+        }
+
+        /**
+         * Notify error and terminate.
+         *
+         * @param cause error
+         */
+        private void terminate(Throwable cause) {
+            this.terminated = true;
+            this.ready.clear();
+            this.subscriber.onError(cause);
+            return;
+        }
+
+        /**
+         * Parse the chunk of the last read.
+         *
+         * <p>Root Values completed before errors are kept ready
+         * and the error is kept as failure.
+         */
+        private void parseChunk() {
+            this.readDone = false;
+            this.reading = false;
+
+            Throwable error = this.readError;
+            if (error != null) {
+                this.failure = error;
+                return;
+            }
+
+            try {
+                int length = this.readLength;
+                if (length < 0) {
+                    this.ended = true;
+                    this.parser.endOfInput();
+                } else {
+                    this.position += length;
+                    this.chunk.flip();
+                    this.parser.feed(this.chunk);
+                    this.chunk.clear();
+                }
+            } catch (Exception e) {
+                this.failure = e;
+            }
+
+            JsComposition<?> root;
+            while ((root = this.parser.poll()) != null) {
+                this.ready.add(root);
+            }
+
+            return;
+        }
+
+        /**
+         * Emit root Values within the demand.
+         */
+        private void emit() {
+            long demand = this.requested.get();
+            while (this.emitted < demand && !this.ready.isEmpty()) {
+                if (this.cancelled) return;
+                JsComposition<?> root = this.ready.poll();
+                this.emitted++;
+                try {
+                    this.subscriber.onNext(root);
+                } catch (RuntimeException e) {
+                    this.cancelled = true;
+                    terminate(e);
+                    return;
+                }
+            }
+            return;
+        }
+
+        /**
+         * Start reading the next chunk.
+         */
+        private void read() {
+            this.reading = true;
+            try {
+                JsonPublisher.this.channel.read(
+                        this.chunk, this.position, null, this);
+            } catch (RuntimeException e) {
+                terminate(e);
+            }
+            return;
+        }
+
+        /**
+         * Run one step of the subscription.
+         */
+        private void step() {
+            if (this.cancelled) {
+                this.terminated = true;
+                this.ready.clear();
+                return;
+            }
+
+            Throwable error = this.requestError;
+            if (error != null) {
+                terminate(error);
+                return;
+            }
+
+            if (this.readDone) parseChunk();
+
+            emit();
+            if (this.cancelled) return;
+
+            if (this.ready.isEmpty()) {
+                if (this.failure != null) {
+                    terminate(this.failure);
+                } else if (this.ended) {
+                    this.terminated = true;
+                    this.subscriber.onComplete();
+                } else if ( !this.reading && this.requested.get() > 0L ) {
+                    read();
+                }
+            }
+
+            return;
+        }
+
+        /**
+         * Run steps until no more work is signaled.
+         *
+         * <p>Only one thread runs steps at a time.
+         * Signals while running are handled by the running thread.
+         */
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) return;
+
+            int missed = 1;
+            for (;;) {
+                if ( !this.terminated ) step();
+                missed = this.wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+
+            return;
+        }
+
+    }
+
+}
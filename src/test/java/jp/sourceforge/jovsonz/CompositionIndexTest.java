@@ -0,0 +1,168 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class CompositionIndexTest {
+
+    public CompositionIndexTest() {
+    }
+
+    private static JsComposition<?> parseLazy(String text)
+            throws Exception{
+        char[] chars = text.toCharArray();
+        return CompositionIndex.parseLazy(chars, 0, chars.length);
+    }
+
+    /**
+     * Test of parseLazy method, of class CompositionIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseLazy() throws Exception{
+        System.out.println("parseLazy");
+
+        String text = " {\"A\" : [1, -2.5e1, \"x\\ny\", true, false, null,"
+                + " {}, [], [[{\"B\":{\"C\":[0]}}]]],"
+                + " \"\\u0044\":{\"E\":\"\", \"F\":{\"G\":[{}]}}} ";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+
+        JsComposition<?> root;
+
+        root = parseLazy(text);
+        assertEquals(expected, root);
+        assertEquals(expected.toString(), root.toString());
+        assertEquals(expected.hashCode(), root.hashCode());
+
+        root = parseLazy(text);
+        assertEquals(root, expected);
+
+        root = parseLazy(text);
+        JsObject object = (JsObject) root;
+        JsObject dValue = (JsObject) object.getValue("D");
+        JsObject fValue = (JsObject) dValue.getValue("F");
+        assertEquals("[{}]", fValue.getValue("G").toString());
+        assertEquals(2, dValue.size());
+        JsArray aValue = (JsArray) object.getValue("A");
+        assertEquals(9, aValue.size());
+        assertEquals(JsNull.NULL, aValue.get(5));
+        assertEquals(expected, root);
+
+        char[] chars = ("XX" + text + "YY").toCharArray();
+        root = CompositionIndex.parseLazy(chars, 2, chars.length - 2);
+        assertEquals(expected, root);
+
+        root = parseLazy("[[] , {} ]");
+        assertEquals("[[],{}]", root.toString());
+
+        assertNull(parseLazy(""));
+        assertNull(parseLazy(" \n "));
+
+        return;
+    }
+
+    /**
+     * Test of parseLazy method with invalid text, of class CompositionIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseLazy_invalid() throws Exception{
+        System.out.println("parseLazy");
+
+        String[] invalids = {
+            "1", "[", "[1,]", "{\"A\":1,}", "[{\"A\" 1}]", "[[[]]",
+        };
+
+        for(String text : invalids){
+            try{
+                parseLazy(text);
+                fail(text);
+            }catch(JsParseException e){
+                // GOOD
+            }
+        }
+
+        try{
+            parseLazy("[\n1,\n]");
+            fail();
+        }catch(JsParseException e){
+            assertEquals(3, e.getLineNumber());
+        }
+
+        try{
+            parseLazy("[[1], {\"A\":[1e99999999999]}]");
+            fail();
+        }catch(NumberFormatException e){
+            assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage());
+        }
+
+        try{
+            parseLazy(" 1e99999999999");
+            fail();
+        }catch(NumberFormatException e){
+            assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of lazy children and hasChanged method.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testHasChanged() throws Exception{
+        System.out.println("hasChanged");
+
+        JsComposition<?> root;
+        JsObject object;
+
+        root = parseLazy("{\"A\":[1,{\"B\":2}],\"C\":{}}");
+        assertFalse(root.hasChanged());
+        object = (JsObject) root;
+        assertEquals(2, object.size());
+        assertFalse(root.hasChanged());
+
+        JsArray array = (JsArray) object.getValue("A");
+        assertFalse(array.hasChanged());
+        assertFalse(root.hasChanged());
+        array.add(new JsNumber(3));
+        assertTrue(array.hasChanged());
+        assertTrue(root.hasChanged());
+        root.setUnchanged();
+        assertFalse(root.hasChanged());
+        assertFalse(array.hasChanged());
+        assertEquals("{\"A\":[1,{\"B\":2},3],\"C\":{}}", root.toString());
+
+        root = parseLazy("{\"A\":[1],\"C\":{\"D\":true}}");
+        root.setUnchanged();
+        object = (JsObject) root;
+        object.putValue("E", JsNull.NULL);
+        assertTrue(root.hasChanged());
+        assertEquals(3, object.size());
+
+        root = parseLazy("[[1],[2]]");
+        root.clear();
+        assertTrue(root.hasChanged());
+        assertTrue(root.isEmpty());
+
+        root = parseLazy("[]");
+        root.clear();
+        assertFalse(root.hasChanged());
+
+        return;
+    }
+
+}
@@ -289,6 +289,8 @@ public void testIntValue(){
         assertEquals(99, new JsNumber("99.9").intValue());
         assertEquals(-99, new JsNumber("-99.9").intValue());
         assertEquals(2147483647, new JsNumber("2147483647").intValue());
+        assertEquals((int) 845083743768570370L,
+                new JsNumber(8.4508374376857037E17).intValue());
 
         return;
     }
@@ -305,6 +307,17 @@ public void testLongValue(){
         assertEquals(-99L, new JsNumber("-99.9").longValue());
         assertEquals(999999999999L, new JsNumber("999999999999").longValue());
 
+        assertEquals(99L, new JsNumber(99.9).longValue());
+        assertEquals(-99L, new JsNumber(-99.9).longValue());
+        assertEquals(845083743768570370L,
+                new JsNumber(8.4508374376857037E17).longValue());
+        assertEquals(-845083743768570370L,
+                new JsNumber(-8.4508374376857037E17).longValue());
+        assertEquals(BigDecimal.valueOf(0x1p53).longValue(),
+                new JsNumber(0x1p53).longValue());
+        assertEquals(BigDecimal.valueOf(1e19).longValue(),
+                new JsNumber(1e19).longValue());
+
         return;
     }
 
@@ -531,4 +544,87 @@ public void testScale() throws Exception{
         return;
     }
 
+    /**
+     * Test of internal representations, of class JsNumber.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRepresentation() throws Exception{
+        System.out.println("representation");
+
+        String[] texts = {
+            "0", "-0", "0.0", "1", "-1", "12.34", "-0.5", "0.000001", "0.0000001",
+            "-0.00000012", "123456789.123456789", "1E3", "-1.5E3", "1E-3", "25E-10",
+            "9223372036854775807", "-9223372036854775807", "-9223372036854775808",
+            "9223372036854775808", "1E-30", "123E+40", "-922337203685477580.7",
+            "0.9223372036854775807", "7E-19", "5E20", "-3E100", "1.00",
+        };
+
+        for(String text : texts){
+            BigDecimal expected = new BigDecimal(text);
+            JsonSource source = new JsonSource(text);
+            JsNumber number = JsNumber.parseNumber(source);
+            JsNumber decNumber = new JsNumber(expected);
+
+            assertEquals(expected.toString(), number.toString(), text);
+            assertEquals(expected.hashCode(), number.hashCode(), text);
+            assertEquals(expected.scale(), number.scale(), text);
+            assertEquals(expected.longValue(), number.longValue(), text);
+            assertEquals(expected.intValue(), number.intValue(), text);
+            assertEquals(expected.floatValue(), number.floatValue(), 0.0f, text);
+            assertEquals(expected.doubleValue(), number.doubleValue(), 0.0, text);
+            assertEquals(expected, number.decimalValue(), text);
+            assertEquals(decNumber, number, text);
+            assertEquals(number, decNumber, text);
+            assertEquals(0, number.compareTo(decNumber), text);
+            assertEquals(0, decNumber.compareTo(number), text);
+        }
+
+        long[] longs = {0L, 1L, -1L, 255L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for(long lVal : longs){
+            BigDecimal expected = BigDecimal.valueOf(lVal);
+            JsNumber number = new JsNumber(lVal);
+            assertEquals(expected.toString(), number.toString());
+            assertEquals(expected.hashCode(), number.hashCode());
+            assertEquals(lVal, number.longValue());
+            assertEquals(new JsNumber(expected), number);
+        }
+
+        double[] doubles = {
+            0.0, -0.0, 1.0, 0.1, -2.5, 1e-10, 1e300, -123456.789,
+            9.3e18, -9.3e18, Double.MIN_VALUE, Double.MAX_VALUE,
+        };
+        for(double dVal : doubles){
+            BigDecimal expected = BigDecimal.valueOf(dVal);
+            JsNumber number = new JsNumber(dVal);
+            assertEquals(expected.toString(), number.toString());
+            assertEquals(expected.hashCode(), number.hashCode());
+            assertEquals(expected.longValue(), number.longValue());
+            assertEquals(expected.intValue(), number.intValue());
+            assertEquals(expected.doubleValue(), number.doubleValue(), 0.0);
+            assertEquals(expected.scale(), number.scale());
+            assertEquals(new JsNumber(expected), number);
+        }
+
+        assertTrue(new JsNumber(1L).compareTo(new JsNumber(2L)) < 0);
+        assertTrue(new JsNumber(1.5).compareTo(new JsNumber(1L)) > 0);
+        assertNotEquals(new JsNumber(1L), new JsNumber(1.0));
+
+        try{
+            new JsNumber(Double.NaN);
+            fail();
+        }catch(NumberFormatException e){
+            // GOOD
+        }
+
+        try{
+            new JsNumber(Double.NEGATIVE_INFINITY);
+            fail();
+        }catch(NumberFormatException e){
+            // GOOD
+        }
+
+        return;
+    }
+
 }
@@ -59,6 +59,56 @@ public void testGetLineNumber(){
         return;
     }
 
+    /**
+     * Test of getColumn method, of class JsParseException.
+     */
+    @Test
+    public void testGetColumn(){
+        System.out.println("getColumn");
+
+        JsParseException ex;
+
+        ex = new JsParseException();
+        assertTrue(1 > ex.getColumn());
+
+        ex = new JsParseException("abc", 99);
+        assertTrue(1 > ex.getColumn());
+
+        ex = new JsParseException("abc", 99, 5, 123L);
+        assertEquals(5, ex.getColumn());
+
+        ex = new JsParseException("abc", new Throwable(), 99, 5, 123L);
+        assertEquals(5, ex.getColumn());
+
+        return;
+    }
+
+    /**
+     * Test of getOffset method, of class JsParseException.
+     */
+    @Test
+    public void testGetOffset(){
+        System.out.println("getOffset");
+
+        JsParseException ex;
+
+        ex = new JsParseException();
+        assertTrue(0L > ex.getOffset());
+
+        ex = new JsParseException("abc", new Throwable(), 99);
+        assertTrue(0L > ex.getOffset());
+
+        ex = new JsParseException("abc", 99, 5, 123L);
+        assertEquals(123L, ex.getOffset());
+        assertEquals(99, ex.getLineNumber());
+        assertEquals("abc [line:99]", ex.getMessage());
+
+        ex = new JsParseException("abc", new Throwable(), 99, 5, 0L);
+        assertEquals(0L, ex.getOffset());
+
+        return;
+    }
+
     /**
      * Test of hasValidLineNumber method, of class JsParseException.
      */
@@ -0,0 +1,138 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsStringCacheTest {
+
+    public JsStringCacheTest() {
+    }
+
+    /**
+     * Test of constructor, of class JsStringCache.
+     */
+    @Test
+    public void testConstructor(){
+        System.out.println("constructor");
+
+        assertEquals(1, new JsStringCache(1).getCapacity());
+        assertEquals(64, new JsStringCache(64).getCapacity());
+        assertEquals(128, new JsStringCache(65).getCapacity());
+
+        try{
+            new JsStringCache(0);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new JsStringCache(Integer.MAX_VALUE);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of intern method, of class JsStringCache.
+     */
+    @Test
+    public void testIntern(){
+        System.out.println("intern");
+
+        JsStringCache cache = new JsStringCache(16);
+        char[] buf = "xOKyOK".toCharArray();
+
+        JsString ok1 = cache.intern(buf, 1, 2);
+        JsString ok2 = cache.intern(buf, 4, 2);
+        assertEquals("OK", ok1.toRawString());
+        assertSame(ok1, ok2);
+        assertSame(ok1, cache.intern(new StringBuilder("OK")));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3.0, cache.getHitRate(), 0.0);
+
+        StringBuilder longText = new StringBuilder();
+        for(int ct = 0; ct <= JsStringCache.MAX_TEXT_LENGTH; ct++){
+            longText.append('L');
+        }
+        JsString long1 = cache.intern(longText);
+        JsString long2 = cache.intern(longText);
+        assertEquals(longText.toString(), long1.toRawString());
+        assertNotSame(long1, long2);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        assertSame(ok1, cache.intern(buf, 1, 2));
+
+        cache.clear();
+        assertNotSame(ok1, cache.intern(buf, 1, 2));
+        assertEquals(1, cache.getMissCount());
+
+        // eviction
+        cache = new JsStringCache(1);
+        JsString strA = cache.intern(new StringBuilder("A"));
+        JsString strB = cache.intern(new StringBuilder("B"));
+        assertSame(strB, cache.intern(new StringBuilder("B")));
+        assertNotSame(strA, cache.intern(new StringBuilder("A")));
+
+        assertEquals("capacity=1 hit=1 miss=3", cache.toString());
+
+        return;
+    }
+
+    /**
+     * Test of parsing with JsStringCache.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParse() throws Exception{
+        System.out.println("parse");
+
+        String json = "[\"OK\",{\"s\":\"OK\"},\"\\u004fK\",\"NG\"]";
+        JsStringCache cache = new JsStringCache(64);
+
+        JsArray array;
+
+        array = (JsArray) Json.parseJson(new StringReader(json), cache);
+        assertEquals(4, array.size());
+        assertSame(array.get(0), ((JsObject) array.get(1)).getValue("s"));
+        assertSame(array.get(0), array.get(2));
+        assertEquals("NG", ((JsString) array.get(3)).toRawString());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        JsString ok = (JsString) array.get(0);
+        array = (JsArray) Json.parseJson(json, cache);
+        assertSame(ok, array.get(0));
+        assertSame(ok, array.get(2));
+        assertEquals(6, cache.getHitCount());
+
+        try{
+            Json.parseJson(new StringReader(json), (JsStringCache) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
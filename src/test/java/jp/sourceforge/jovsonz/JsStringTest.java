@@ -95,6 +95,15 @@ public void testParseHexChar() throws Exception{
             // NOTHING
         }
 
+        try{
+            source = new JsonSource("000\uff11");
+            ch = JsString.parseHexChar(source);
+            fail();
+            assert ch == ch;
+        }catch(JsParseException e){
+            // NOTHING
+        }
+
         return;
     }
 
@@ -199,6 +208,78 @@ public void testParseString() throws Exception{
         return;
     }
 
+    /**
+     * Test of parseString method with long text, of class JsString.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseString_long() throws Exception{
+        System.out.println("parseString");
+
+        JsonSource source;
+        JsString string;
+
+        StringBuilder raw = new StringBuilder();
+        StringBuilder json = new StringBuilder();
+        for(int ct = 0; ct < 20000; ct++){
+            char ch = (char)('a' + ct % 26);
+            raw.append(ch);
+            json.append(ch);
+            if(ct % 1000 == 999){
+                raw.append('\n');
+                json.append("\\n");
+            }
+        }
+
+        source = new JsonSource("\"" + json + "\",");
+        string = JsString.parseString(source);
+        assertEquals(raw.toString(), string.toRawString());
+        assertEquals(',', source.read());
+        assertEquals(1, source.getLineNumber());
+
+        source = new JsonSource("\"\\ud83d\\ude00\ud83d\ude00\"");
+        string = JsString.parseString(source);
+        assertEquals("\ud83d\ude00\ud83d\ude00", string.toRawString());
+        assertEquals(4, string.length());
+
+        source = new JsonSource("\"\u00a0\u00ff\"");
+        string = JsString.parseString(source);
+        assertEquals("\u00a0\u00ff", string.toRawString());
+
+        source = new JsonSource("\"\"");
+        string = JsString.parseString(source);
+        assertEquals("", string.toRawString());
+
+        try{
+            source = new JsonSource("\"abc\u007fxyz\"");
+            string = JsString.parseString(source);
+            fail();
+            assert string == string;
+        }catch(JsParseException e){
+            // NOTHING
+        }
+
+        try{
+            source = new JsonSource("\"abc\u009fxyz\"");
+            string = JsString.parseString(source);
+            fail();
+            assert string == string;
+        }catch(JsParseException e){
+            // NOTHING
+        }
+
+        try{
+            source = new JsonSource("\"" + json);
+            string = JsString.parseString(source);
+            fail();
+            assert string == string;
+        }catch(JsParseException e){
+            // NOTHING
+        }
+
+        return;
+    }
+
     /**
      * Test of dumpString method, of class JsString.
      * @throws java.lang.Exception
@@ -0,0 +1,154 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonCharsetTest {
+
+    public JsonCharsetTest() {
+    }
+
+    private static ByteBuffer wrap(int... vals){
+        byte[] bytes = new byte[vals.length];
+        for(int idx = 0; idx < vals.length; idx++){
+            bytes[idx] = (byte) vals[idx];
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static String readAll(Reader reader) throws Exception{
+        StringBuilder result = new StringBuilder();
+        for(;;){
+            int chData = reader.read();
+            if(chData < 0) break;
+            result.append((char) chData);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Test of detectCharset method, of class JsonCharset.
+     */
+    @Test
+    public void testDetectCharset(){
+        System.out.println("detectCharset");
+
+        assertEquals(StandardCharsets.UTF_8,
+                JsonCharset.detectCharset(wrap('[', ']')));
+        assertEquals(StandardCharsets.UTF_8,
+                JsonCharset.detectCharset(wrap('[')));
+        assertEquals(StandardCharsets.UTF_8,
+                JsonCharset.detectCharset(wrap()));
+        assertEquals(StandardCharsets.UTF_8,
+                JsonCharset.detectCharset(wrap(0xef, 0xbb, 0xbf, '[')));
+
+        assertEquals(StandardCharsets.UTF_16BE,
+                JsonCharset.detectCharset(wrap(0, '[', 0, ']')));
+        assertEquals(StandardCharsets.UTF_16LE,
+                JsonCharset.detectCharset(wrap('[', 0, ']', 0)));
+        assertEquals(StandardCharsets.UTF_16BE,
+                JsonCharset.detectCharset(wrap(0, '[')));
+        assertEquals(StandardCharsets.UTF_16LE,
+                JsonCharset.detectCharset(wrap('[', 0)));
+        assertEquals(StandardCharsets.UTF_16BE,
+                JsonCharset.detectCharset(wrap(0xfe, 0xff, 0, '[')));
+        assertEquals(StandardCharsets.UTF_16LE,
+                JsonCharset.detectCharset(wrap(0xff, 0xfe, '[', 0)));
+
+        assertEquals(JsonCharset.UTF_32BE,
+                JsonCharset.detectCharset(wrap(0, 0, 0, '[')));
+        assertEquals(JsonCharset.UTF_32LE,
+                JsonCharset.detectCharset(wrap('[', 0, 0, 0)));
+        assertEquals(JsonCharset.UTF_32BE,
+                JsonCharset.detectCharset(wrap(0, 0, 0xfe, 0xff)));
+        assertEquals(JsonCharset.UTF_32LE,
+                JsonCharset.detectCharset(wrap(0xff, 0xfe, 0, 0)));
+
+        return;
+    }
+
+    /**
+     * Test of bomLength method, of class JsonCharset.
+     */
+    @Test
+    public void testBomLength(){
+        System.out.println("bomLength");
+
+        assertEquals(0, JsonCharset.bomLength(
+                wrap('[', ']'), StandardCharsets.UTF_8));
+        assertEquals(3, JsonCharset.bomLength(
+                wrap(0xef, 0xbb, 0xbf, '['), StandardCharsets.UTF_8));
+        assertEquals(2, JsonCharset.bomLength(
+                wrap(0xfe, 0xff, 0, '['), StandardCharsets.UTF_16BE));
+        assertEquals(2, JsonCharset.bomLength(
+                wrap(0xff, 0xfe, '[', 0), StandardCharsets.UTF_16LE));
+        assertEquals(4, JsonCharset.bomLength(
+                wrap(0, 0, 0xfe, 0xff), JsonCharset.UTF_32BE));
+        assertEquals(4, JsonCharset.bomLength(
+                wrap(0xff, 0xfe, 0, 0), JsonCharset.UTF_32LE));
+        assertEquals(0, JsonCharset.bomLength(
+                wrap(0, 0, 0, '['), JsonCharset.UTF_32BE));
+
+        return;
+    }
+
+    /**
+     * Test of newReader method, of class JsonCharset.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testNewReader() throws Exception{
+        System.out.println("newReader");
+
+        String text = "[\"あ𠀋\"]";
+        Charset[] charsets = {
+            StandardCharsets.UTF_8,
+            StandardCharsets.UTF_16BE,
+            StandardCharsets.UTF_16LE,
+            JsonCharset.UTF_32BE,
+            JsonCharset.UTF_32LE,
+        };
+
+        for(Charset charset : charsets){
+            byte[] bytes = text.getBytes(charset);
+            byte[] bomBytes = ("﻿" + text).getBytes(charset);
+
+            Reader reader;
+
+            reader = JsonCharset.newReader(ByteBuffer.wrap(bytes));
+            assertEquals(text, readAll(reader));
+            reader = JsonCharset.newReader(ByteBuffer.wrap(bomBytes));
+            assertEquals(text, readAll(reader));
+
+            reader = JsonCharset.newReader(new ByteArrayInputStream(bytes));
+            assertEquals(text, readAll(reader));
+            reader = JsonCharset.newReader(new ByteArrayInputStream(bomBytes));
+            assertEquals(text, readAll(reader));
+        }
+
+        Reader reader;
+        reader = JsonCharset.newReader(new ByteArrayInputStream(new byte[0]));
+        assertEquals(-1, reader.read());
+        reader = JsonCharset.newReader(ByteBuffer.wrap(new byte[0]));
+        assertEquals(-1, reader.read());
+
+        return;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonLinesSpliteratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    public JsonLinesSpliteratorTest() {
+    }
+
+    private static String lines(int count){
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < count; ct++){
+            text.append("{\"id\":").append(ct).append(",\"s\":\"あ\"}\n");
+        }
+        return text.toString();
+    }
+
+    private static List<String> collect(Spliterator<JsComposition<?>> split){
+        List<String> result = StreamSupport.stream(split, true)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+        return result;
+    }
+
+    /**
+     * Test of trySplit method, of class JsonLinesSpliterator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testTrySplit() throws Exception{
+        System.out.println("trySplit");
+
+        byte[] bytes = lines(100).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+
+        JsonLinesSpliterator split = JsonLinesSpliterator.of(buf, 16);
+        assertEquals(bytes.length, split.estimateSize());
+
+        Spliterator<JsComposition<?>> prefix = split.trySplit();
+        assertNotNull(prefix);
+        long prefixSize = prefix.estimateSize();
+        assertEquals(bytes.length, prefixSize + split.estimateSize());
+        assertEquals('\n', bytes[(int) prefixSize - 1]);
+
+        List<String> list = new ArrayList<>();
+        prefix.forEachRemaining(value -> list.add(value.toString()));
+        split.forEachRemaining(value -> list.add(value.toString()));
+        assertEquals(100, list.size());
+        for(int ct = 0; ct < 100; ct++){
+            assertEquals("{\"id\":" + ct + ",\"s\":\"あ\"}", list.get(ct));
+        }
+
+        split = JsonLinesSpliterator.of(buf, bytes.length);
+        assertNull(split.trySplit());
+
+        split = JsonLinesSpliterator.of(buf, 16);
+        assertTrue(split.tryAdvance(value -> assertNotNull(value)));
+        assertNull(split.trySplit());
+
+        return;
+    }
+
+    /**
+     * Test of parallel parsing, of class JsonLinesSpliterator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParallel() throws Exception{
+        System.out.println("parallel");
+
+        String text = lines(1000);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        List<String> expected = new ArrayList<>();
+        JsonSequenceReader reader =
+                new JsonSequenceReader(new java.io.StringReader(text));
+        for(JsComposition<?> root : reader){
+            expected.add(root.toString());
+        }
+
+        assertEquals(expected,
+                collect(JsonLinesSpliterator.of(ByteBuffer.wrap(bytes), 16)));
+
+        byte[] bom = ("\ufeff" + text).getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected,
+                collect(JsonLinesSpliterator.of(ByteBuffer.wrap(bom), 16)));
+
+        Path file = this.tempDir.resolve("lines.ndjson");
+        Files.write(file, bytes);
+        try(FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ)){
+            assertEquals(expected,
+                    collect(JsonLinesSpliterator.of(channel, 16)));
+        }
+
+        return;
+    }
+
+    /**
+     * Test of error in chunk, of class JsonLinesSpliterator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testError() throws Exception{
+        System.out.println("error");
+
+        String text = lines(500) + "{\"id\":}\n" + lines(500);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        try{
+            collect(JsonLinesSpliterator.of(ByteBuffer.wrap(bytes), 16));
+            fail();
+        }catch(UncheckedJsParseException e){
+            assertEquals(501, e.getCause().getLineNumber());
+        }
+
+        Path file = this.tempDir.resolve("broken.ndjson");
+        Files.write(file, bytes);
+        try(FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ)){
+            collect(JsonLinesSpliterator.of(channel, 16));
+            fail();
+        }catch(UncheckedJsParseException e){
+            assertEquals(501, e.getCause().getLineNumber());
+        }
+
+        return;
+    }
+
+}
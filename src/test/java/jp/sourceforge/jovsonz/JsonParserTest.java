@@ -0,0 +1,222 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonParserTest {
+
+    public JsonParserTest() {
+    }
+
+    /**
+     * Test of reset method with Reader, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testReset_Reader() throws Exception{
+        System.out.println("reset");
+
+        JsonParser parser = new JsonParser();
+        assertNull(parser.parseJson());
+
+        parser.reset(new StringReader("{\"a\":1}\n[2]"));
+        assertEquals("{\"a\":1}", parser.parseJson().toString());
+        assertEquals("[2]", parser.parseJson().toString());
+        assertEquals(2, parser.getLineNumber());
+        assertNull(parser.parseJson());
+
+        parser.reset(new StringReader("[3]"));
+        assertEquals(1, parser.getLineNumber());
+        assertEquals("[3]", parser.parseJson().toString());
+        assertNull(parser.parseJson());
+
+        try{
+            parser.reset((java.io.Reader) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of reset method with CharSequence, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testReset_CharSequence() throws Exception{
+        System.out.println("reset");
+
+        JsonParser parser = new JsonParser();
+        JsComposition<?> root;
+
+        root = parser.reset("{\"name\":\"a\\tb\", \"x\":[1,2]}").parseJson();
+        assertEquals("{\"name\":\"a\\tb\",\"x\":[1,2]}", root.toString());
+        String name1 = ((JsObject) root).getPairList().get(0).getName();
+
+        root = parser.reset(new StringBuilder("{\"name\":\"c\"}")).parseJson();
+        assertEquals("{\"name\":\"c\"}", root.toString());
+        String name2 = ((JsObject) root).getPairList().get(0).getName();
+        assertSame(name1, name2);
+
+        root = parser.reset(java.nio.CharBuffer.wrap("[true]")).parseJson();
+        assertEquals("[true]", root.toString());
+
+        java.nio.CharBuffer buffer =
+                java.nio.CharBuffer.wrap("XX[false]".toCharArray(), 2, 7);
+        root = parser.reset(buffer).parseJson();
+        assertEquals("[false]", root.toString());
+        assertEquals(2, buffer.position());
+
+        assertNull(parser.reset("").parseJson());
+
+        StringBuilder big = new StringBuilder("[");
+        for(int ct = 0; ct < 100000; ct++){
+            big.append(ct).append(',');
+        }
+        big.append("0]");
+        root = parser.reset(big).parseJson();
+        assertEquals(100001, ((JsArray) root).size());
+
+        return;
+    }
+
+    /**
+     * Test of reset method with byte array, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testReset_bytes() throws Exception{
+        System.out.println("reset");
+
+        JsonParser parser = new JsonParser();
+        byte[] bytes;
+
+        bytes = "[\"あ\"]".getBytes(StandardCharsets.UTF_8);
+        assertEquals("[\"あ\"]", parser.reset(bytes).parseJson().toString());
+
+        bytes = "XX{\"a\":[]}YY".getBytes(StandardCharsets.UTF_8);
+        assertEquals("{\"a\":[]}", parser.reset(bytes, 2, 8).parseJson().toString());
+        assertNull(parser.parseJson());
+        assertEquals("{\"a\":[]}", parser.reset(bytes, 2, 8).parseJson().toString());
+
+        bytes = "\uFEFF[1]".getBytes(StandardCharsets.UTF_8);
+        assertEquals("[1]", parser.reset(bytes).parseJson().toString());
+
+        bytes = "[2]".getBytes(StandardCharsets.UTF_16LE);
+        assertEquals("[2]", parser.reset(bytes).parseJson().toString());
+
+        bytes = "[3]".getBytes(StandardCharsets.UTF_8);
+        assertEquals("[3]", parser.reset(bytes).parseJson().toString());
+
+        try{
+            parser.reset(bytes, 2, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method after error, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_error() throws Exception{
+        System.out.println("parseJson");
+
+        JsonParser parser = new JsonParser();
+
+        try{
+            parser.reset("[1,\n\"a\\x\"]").parseJson();
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        try{
+            parser.reset("\"a\"").parseJson();
+            fail();
+        }catch(JsParseException e){
+            assertEquals(1, e.getLineNumber());
+        }
+
+        assertEquals("[\"a\\\\x\"]", parser.reset("[\"a\\\\x\"]").parseJson().toString());
+
+        return;
+    }
+
+    /**
+     * Test of setMaxDepth method, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testSetMaxDepth() throws Exception{
+        System.out.println("setMaxDepth");
+
+        JsonParser parser = new JsonParser();
+        assertEquals(Integer.MAX_VALUE, parser.getMaxDepth());
+
+        assertSame(parser, parser.setMaxDepth(2));
+        assertEquals(2, parser.getMaxDepth());
+
+        try{
+            parser.reset("[[[]]]").parseJson();
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsParseException.ERRMSG_TOODEEP + " [line:1]", e.getMessage());
+        }
+
+        assertEquals("[[]]", parser.reset("[[]]").parseJson().toString());
+        assertEquals(2, parser.getMaxDepth());
+
+        try{
+            parser.setMaxDepth(-1);
+            fail();
+        }catch(IllegalArgumentException e){
+            //GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of forCurrentThread method, of class JsonParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testForCurrentThread() throws Exception{
+        System.out.println("forCurrentThread");
+
+        JsonParser parser = JsonParser.forCurrentThread();
+        assertSame(parser, JsonParser.forCurrentThread());
+
+        JsonParser[] other = new JsonParser[1];
+        Thread thread = new Thread(() -> {
+            other[0] = JsonParser.forCurrentThread();
+        });
+        thread.start();
+        thread.join();
+        assertNotNull(other[0]);
+        assertNotSame(parser, other[0]);
+
+        return;
+    }
+
+}
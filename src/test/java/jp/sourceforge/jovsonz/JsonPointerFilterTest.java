@@ -0,0 +1,198 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonPointerFilterTest {
+
+    public JsonPointerFilterTest() {
+    }
+
+    private static String filter(String json, String... patterns)
+            throws IOException, JsParseException{
+        JsonPointerFilter filter = new JsonPointerFilter(patterns);
+        JsComposition<?> root = Json.parseJson(new StringReader(json), filter);
+        if(root == null) return null;
+        return root.toString();
+    }
+
+    /**
+     * Test of constructor, of class JsonPointerFilter.
+     */
+    @Test
+    public void testConstructor(){
+        System.out.println("constructor");
+
+        new JsonPointerFilter();
+        new JsonPointerFilter("");
+        new JsonPointerFilter("/a/~0/~1/*");
+        new JsonPointerFilter(Arrays.asList("/a", "/b"));
+
+        try{
+            new JsonPointerFilter("a");
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new JsonPointerFilter("/a~");
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new JsonPointerFilter("/a~2");
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new JsonPointerFilter((String) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class JsonPointerFilter.
+     * @throws Exception
+     */
+    @Test
+    public void testParseJson() throws Exception{
+        System.out.println("parseJson");
+
+        String json =
+                  "{\"meta\":{\"id\":7,\"tag\":\"x\"},"
+                + "\"items\":[{\"name\":\"a\",\"price\":10},"
+                +           "{\"name\":\"b\",\"price\":[1,2]},"
+                +           "{\"name\":\"c\"}],"
+                + "\"rest\":[true,false,null,-1.5e3,\"\\u0041\\n\"]}";
+
+        assertEquals("{\"items\":[{\"price\":10},{\"price\":[1,2]},{}],"
+                    +"\"meta\":{\"id\":7}}",
+                     filter(json, "/meta/id", "/items/*/price"));
+
+        assertEquals("{\"items\":[{\"name\":\"b\"}]}",
+                     filter(json, "/items/1/name"));
+        assertEquals("{\"meta\":{\"id\":7,\"tag\":\"x\"}}",
+                     filter(json, "/meta", "/meta/id"));
+        assertEquals("{}", filter(json, "/none"));
+        assertEquals("{}", filter(json));
+        assertEquals("{\"meta\":{}}", filter(json, "/meta/id/deep"));
+
+        assertEquals(Json.parseJson(new StringReader(json)).toString(),
+                     filter(json, ""));
+        assertEquals(Json.parseJson(new StringReader(json)).toString(),
+                     filter(json, "/*"));
+
+        assertEquals("[[2]]", filter("[[1],[2]]", "/1"));
+        assertEquals("[[]]", filter("[[1],[2]]", "/1/01"));
+        assertEquals("[3]", filter("[1,2,3]", "/2"));
+
+        assertEquals("{\"a\\/b\":1,\"c~d\":2}",
+                     filter("{\"a/b\":1,\"c~d\":2,\"e\":3}", "/a~1b", "/c~0d"));
+        assertEquals("{\"*\":1,\"x\":2}",
+                     filter("{\"*\":1,\"x\":2}", "/*"));
+        assertEquals("{\"k\\\"\":1}",
+                     filter("{\"k\\\"\":1,\"x\":2}", "/k\""));
+
+        assertNull(filter("", "/a"));
+        assertNull(filter(" \n ", "/a"));
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class JsonPointerFilter.
+     * @throws Exception
+     */
+    @Test
+    public void testParseJson_invalid() throws Exception{
+        System.out.println("parseJson_invalid");
+
+        String[] texts = {
+            "{\"a\":1,\"b\":tru}",
+            "{\"a\":1,\"b\":[1 2]}",
+            "{\"a\":1,\"b\":{\"c\" 1}}",
+            "{\"a\":1,\"b\":{3:1}}",
+            "{\"a\":1,\"b\":\"\u0001\"}",
+            "{\"a\":1,\"b\":\"\\x\"}",
+            "{\"a\":1,\"b\":-}",
+            "{\"a\":1,\"b\":x}",
+            "{\"a\":1 \"b\":2}",
+            "{\"a\":1,\"b\":\n[1,",
+            "{\"a\":1,\"b\":",
+            "[1,2",
+            "\"a\"",
+            "7",
+        };
+
+        for(String text : texts){
+            JsParseException expected = null;
+            try{
+                Json.parseJson(new StringReader(text));
+                fail(text);
+            }catch(JsParseException e){
+                expected = e;
+            }
+
+            try{
+                filter(text, "/a", "/0");
+                fail(text);
+            }catch(JsParseException e){
+                assertEquals(expected.getMessage(), e.getMessage(), text);
+                assertEquals(expected.getLineNumber(), e.getLineNumber(), text);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with NUMBER scale, of class JsonPointerFilter.
+     * @throws Exception
+     */
+    @Test
+    public void testParseJson_scale() throws Exception{
+        System.out.println("parseJson_scale");
+
+        String text = "{\"a\":1,\"b\":[2,1e99999999999]}";
+        String[][] patterns = {
+            {"/b/1"}, {"/b"}, {"/a"}, {"/b/0"}, {"/c"},
+        };
+
+        for(String[] pattern : patterns){
+            try{
+                filter(text, pattern);
+                fail(pattern[0]);
+            }catch(NumberFormatException e){
+                assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage(), pattern[0]);
+            }
+        }
+
+        assertEquals("{\"a\":1}", filter("{\"a\":1,\"b\":[2,1e2147483648]}", "/a"));
+
+        return;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonPushParserTest {
+
+    public JsonPushParserTest() {
+    }
+
+    private static JsonPushParser feedBytes(String json, int chunk)
+            throws Exception{
+        JsonPushParser parser = new JsonPushParser();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for(int pos = 0; pos < bytes.length; pos += chunk){
+            int len = Math.min(chunk, bytes.length - pos);
+            ByteBuffer buf = ByteBuffer.wrap(bytes, pos, len);
+            parser.feed(buf);
+            assertFalse(buf.hasRemaining());
+        }
+        parser.endOfInput();
+        return parser;
+    }
+
+    private static JsParseException parseError(String json){
+        JsonPushParser parser = new JsonPushParser();
+        try{
+            parser.feed(json);
+            parser.endOfInput();
+        }catch(JsParseException e){
+            return e;
+        }catch(Exception e){
+            fail();
+        }
+        fail();
+        return null;
+    }
+
+    /**
+     * Test of feed method, of class JsonPushParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testFeed() throws Exception{
+        System.out.println("feed");
+
+        String json = "{\"a\\u0041\\n\":[-12.5e+3,\"\u6f22\uD83D\uDE00\",true,false,null],"
+                + "\n\"b\":{},\"c\":[],\"d\":12345678901234567890}";
+        String expected = Json.parseJson(json).toString();
+
+        for(int chunk = 1; chunk <= 8; chunk++){
+            JsonPushParser parser = feedBytes(json, chunk);
+            JsComposition<?> root = parser.poll();
+            assertEquals(expected, root.toString());
+            assertNull(parser.poll());
+            assertEquals(2, parser.getLineNumber());
+        }
+
+        JsonPushParser parser = new JsonPushParser();
+        parser.feed("[1");
+        assertNull(parser.poll());
+        parser.feed("2]\n{\"x\"");
+        assertEquals("[12]", parser.poll().toString());
+        parser.feed(":\"y\"}\u001e[]");
+        assertEquals("{\"x\":\"y\"}", parser.poll().toString());
+        assertEquals("[]", parser.poll().toString());
+        parser.endOfInput();
+        assertNull(parser.poll());
+
+        try{
+            parser.feed("[]");
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        parser = new JsonPushParser();
+        parser.endOfInput();
+        assertNull(parser.poll());
+
+        return;
+    }
+
+    /**
+     * Test of feed method with duplicated PAIR names, of class JsonPushParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testFeedDuplicatedName() throws Exception{
+        System.out.println("feed duplicated name");
+
+        String[] jsons = {
+            "{\"\":{}, \"\":{\"x\":8}}",
+            "[{\"\":[],\"a\":0,\"\":[false]}]",
+            "{\"a\":{\"b\":[]},\"a\":{\"b\":[1],\"b\":[]}}",
+        };
+
+        for(String json : jsons){
+            String expected = Json.parseJson(json).toString();
+            for(int chunk = 1; chunk <= 3; chunk++){
+                JsonPushParser parser = feedBytes(json, chunk);
+                assertEquals(expected, parser.poll().toString());
+                assertNull(parser.poll());
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of feed method with visitor, of class JsonPushParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testFeedVisitor() throws Exception{
+        System.out.println("feed visitor");
+
+        StringWriter out = new StringWriter();
+        JsonAppender appender = new JsonAppender(out);
+        JsonPushParser parser = new JsonPushParser(appender);
+
+        parser.feed("{\"a\":[1,\"");
+        parser.feed("x\"],\"b\":tr");
+        parser.feed("ue}");
+        parser.endOfInput();
+        assertNull(parser.poll());
+
+        StringWriter expected = new StringWriter();
+        Json.dumpJson(expected, Json.parseJson("{\"a\":[1,\"x\"],\"b\":true}"));
+        assertEquals(expected.toString(), out.toString());
+
+        return;
+    }
+
+    /**
+     * Test of feed method with malformed bytes, of class JsonPushParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testMalformed() throws Exception{
+        System.out.println("malformed");
+
+        JsonPushParser parser;
+
+        parser = new JsonPushParser();
+        parser.feed(ByteBuffer.wrap(new byte[]{'[', '"', (byte)0xe6}));
+        try{
+            parser.endOfInput();
+            fail();
+        }catch(MalformedInputException e){
+            // GOOD
+        }
+
+        parser = new JsonPushParser();
+        try{
+            parser.feed(ByteBuffer.wrap(new byte[]{'[', (byte)0xff}));
+            fail();
+        }catch(MalformedInputException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of errors, of class JsonPushParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseError() throws Exception{
+        System.out.println("parse error");
+
+        JsParseException e;
+
+        String[] invalids = {
+            "\"abc\"",
+            "x",
+            "[1,]",
+            "[1 2]",
+            "[1}",
+            "[1-]",
+            "[01]",
+            "[1.]",
+            "[-]",
+            "[tru]",
+            "[nul1]",
+            "[\"\\x\"]",
+            "[\"\\u12g4\"]",
+            "[\"a\nb\"]",
+            "{1:2}",
+            "{\"a\" 1}",
+            "{\"a\":1,}",
+            "{\"a\":1 \"b\":2}",
+            "{\"a\":",
+            "[1,",
+            "[1",
+            "[\"a",
+            "[\"\",tru",
+            "[{\"\":f",
+            "{\"k\":\"\\u0",
+            "{\"k\":\"\\",
+            "[-",
+            "[1.",
+            "[1e",
+            "nll",
+            "tru",
+            "\"a\\x\"",
+            "1.x",
+            "1x",
+            " -",
+        };
+
+        for(String json : invalids){
+            e = parseError(json);
+            JsParseException expected = null;
+            try{
+                Json.parseJson(new StringReader(json));
+                fail();
+            }catch(JsParseException e2){
+                expected = e2;
+            }
+            assertEquals(expected.getMessage(), e.getMessage(), json);
+            assertEquals(expected.getLineNumber(), e.getLineNumber(), json);
+            assertEquals(expected.getColumn(), e.getColumn(), json);
+            assertEquals(expected.getOffset(), e.getOffset(), json);
+        }
+
+        e = parseError("[\n1,\n2\n3]");
+        assertEquals(4, e.getLineNumber());
+
+        return;
+    }
+
+}
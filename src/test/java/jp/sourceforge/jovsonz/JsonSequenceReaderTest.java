@@ -0,0 +1,170 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonSequenceReaderTest {
+
+    public JsonSequenceReaderTest() {
+    }
+
+    /**
+     * Test of readJson method, of class JsonSequenceReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testReadJson() throws Exception{
+        System.out.println("readJson");
+
+        JsonSequenceReader reader;
+        JsComposition<?> root;
+
+        reader = new JsonSequenceReader(
+                new StringReader("{\"a\":1}\n[2]\n\n{\"c\":\n3}\n"));
+        assertEquals(0, reader.getLineNumber());
+
+        root = reader.readJson();
+        assertEquals("{\"a\":1}", root.toString());
+        assertEquals(1, reader.getLineNumber());
+
+        root = reader.readJson();
+        assertEquals("[2]", root.toString());
+        assertEquals(2, reader.getLineNumber());
+
+        root = reader.readJson();
+        assertEquals("{\"c\":3}", root.toString());
+        assertEquals(4, reader.getLineNumber());
+
+        assertNull(reader.readJson());
+        assertNull(reader.readJson());
+        assertEquals(3, reader.getCount());
+        reader.close();
+
+        reader = new JsonSequenceReader(
+                new StringReader("\u001e[1]\n\u001e[2]\n"));
+        assertEquals("[1]", reader.readJson().toString());
+        assertEquals("[2]", reader.readJson().toString());
+        assertNull(reader.readJson());
+
+        reader = new JsonSequenceReader(new StringReader("[1][2]{}"));
+        assertEquals("[1]", reader.readJson().toString());
+        assertEquals("[2]", reader.readJson().toString());
+        assertEquals("{}", reader.readJson().toString());
+        assertNull(reader.readJson());
+
+        reader = new JsonSequenceReader(new StringReader("[1]\n[2,]\n"));
+        reader.readJson();
+        try{
+            reader.readJson();
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+            assertEquals(2, reader.getLineNumber());
+        }
+
+        reader = new JsonSequenceReader(new StringReader("[1]\n2\n"));
+        reader.readJson();
+        try{
+            reader.readJson();
+            fail();
+        }catch(JsParseException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of iterator method, of class JsonSequenceReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testIterator() throws Exception{
+        System.out.println("iterator");
+
+        JsonSequenceReader reader;
+        Iterator<JsComposition<?>> it;
+
+        reader = new JsonSequenceReader(new StringReader("[1]\n[2]\n"));
+        it = reader.iterator();
+        assertTrue(it.hasNext());
+        assertTrue(it.hasNext());
+        assertEquals("[1]", it.next().toString());
+        assertEquals("[2]", it.next().toString());
+        assertFalse(it.hasNext());
+        try{
+            it.next();
+            fail();
+        }catch(NoSuchElementException e){
+            // GOOD
+        }
+
+        reader = new JsonSequenceReader(new StringReader("[1]\n[2}\n"));
+        int count = 0;
+        try{
+            for(JsComposition<?> root : reader){
+                assertNotNull(root);
+                count++;
+            }
+            fail();
+        }catch(UncheckedJsParseException e){
+            assertEquals(2, e.getCause().getLineNumber());
+        }
+        assertEquals(1, count);
+
+        return;
+    }
+
+    /**
+     * Test of stream method, of class JsonSequenceReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testStream() throws Exception{
+        System.out.println("stream");
+
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < 1000; ct++){
+            text.append("{\"id\":").append(ct).append("}\n");
+        }
+
+        JsonSequenceReader reader =
+                new JsonSequenceReader(new StringReader(text.toString()));
+        List<String> list;
+        try(Stream<JsComposition<?>> stream = reader.stream()){
+            list = stream.map(Object::toString)
+                         .collect(Collectors.toList());
+        }
+        assertEquals(1000, list.size());
+        assertEquals("{\"id\":0}", list.get(0));
+        assertEquals("{\"id\":999}", list.get(999));
+        assertEquals(1000, reader.getLineNumber());
+
+        try{
+            reader.readJson();
+            fail();
+        }catch(java.io.IOException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
@@ -134,6 +134,88 @@ public void testGetLineNumber() throws Exception{
         return;
     }
 
+    /**
+     * Test of getOffset and getColumn method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testGetOffset() throws Exception{
+        System.out.println("getOffset");
+
+        JsonSource source;
+
+        source = new JsonSource("ab\ncd\n\ne");
+        assertEquals(0L, source.getOffset());
+        assertEquals(1, source.getColumn());
+        assertEquals('a', source.read());
+        assertEquals(1L, source.getOffset());
+        assertEquals(2, source.getColumn());
+        assertEquals('b', source.read());
+        assertEquals('\n', source.read());
+        assertEquals(3L, source.getOffset());
+        assertEquals(1, source.getColumn());
+        assertEquals(2, source.getLineNumber());
+        source.unread('\n');
+        assertEquals(2L, source.getOffset());
+        assertEquals(3, source.getColumn());
+        assertEquals(1, source.getLineNumber());
+        assertEquals('\n', source.read());
+        assertEquals('c', source.read());
+        assertEquals(2, source.getColumn());
+        source.skipWhiteSpace();
+        assertEquals('d', source.read());
+        source.skipWhiteSpace();
+        assertEquals(7L, source.getOffset());
+        assertEquals(1, source.getColumn());
+        assertEquals(4, source.getLineNumber());
+        assertEquals('e', source.read());
+        assertEquals(-1, source.read());
+        assertEquals(8L, source.getOffset());
+        assertEquals(2, source.getColumn());
+
+        char[] text = "XX[\n 1 ]".toCharArray();
+        source = new JsonSource(text, 2, text.length);
+        assertEquals(0L, source.getOffset());
+        source.setBufferPosition(5);
+        assertEquals(3L, source.getOffset());
+        assertEquals(2, source.getColumn());
+        assertEquals(1, source.getLineNumber());
+        source.setBufferPosition(3, 1);
+        assertEquals(1L, source.getOffset());
+        assertEquals(2, source.getColumn());
+        assertEquals(1, source.getLineNumber());
+        assertEquals('\n', source.read());
+        assertEquals(2, source.getLineNumber());
+
+        return;
+    }
+
+    /**
+     * Test of newParseException method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testNewParseException() throws Exception{
+        System.out.println("newParseException");
+
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < 300; ct++){
+            text.append("[1, 2, 3],\n");
+        }
+        text.append("  [1, 2 3]");
+
+        try{
+            Json.parseJson(new java.io.StringReader("[" + text + "]"));
+            fail();
+        }catch(JsParseException e){
+            assertEquals(301, e.getLineNumber());
+            assertEquals(9, e.getColumn());
+            assertEquals(1L + 300 * 11 + 8, e.getOffset());
+        }
+
+        return;
+    }
+
     /**
      * Test of read method, of class JsonSource.
      * @throws java.lang.Exception
@@ -192,6 +274,267 @@ public void testRead() throws Exception{
         return;
     }
 
+    /**
+     * Test of read method over block boundary, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRead_block() throws Exception{
+        System.out.println("read");
+
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < 20000; ct++){
+            text.append((char)('a' + ct % 26));
+            if(ct % 100 == 99) text.append('\n');
+        }
+
+        JsonSource source = new JsonSource(text);
+        for(int pos = 0; pos < text.length(); pos++){
+            assertEquals(text.charAt(pos), source.read());
+        }
+        assertEquals(-1, source.read());
+        assertEquals(201, source.getLineNumber());
+
+        source = new JsonSource(text);
+        for(int pos = 0; pos < text.length(); pos++){
+            char ch = (char) source.read();
+            source.unread(ch);
+            assertEquals(ch, source.peek());
+            assertEquals(ch, source.read());
+        }
+        assertEquals(-1, source.read());
+
+        return;
+    }
+
+    /**
+     * Test of char array source, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testCharArray() throws Exception{
+        System.out.println("charArray");
+
+        char[] text = "XXa\n b YY".toCharArray();
+        JsonSource source = new JsonSource(text, 2, 7);
+
+        assertEquals(2, source.getBufferPosition());
+        assertEquals('a', source.read());
+        source.skipWhiteSpace();
+        assertEquals(2, source.getLineNumber());
+        assertEquals(5, source.getBufferPosition());
+        assertEquals('b', source.read());
+        source.unread('b');
+        assertEquals(5, source.getBufferPosition());
+        assertEquals('b', source.read());
+        assertEquals(' ', source.read());
+        assertEquals(-1, source.read());
+        assertEquals(7, source.getBufferPosition());
+
+        source.setBufferPosition(3);
+        assertEquals('\n', source.read());
+
+        source.close();
+
+        try{
+            new JsonSource(text, 3, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        try{
+            new JsonSource(text, 0, text.length + 1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of CharSequence source, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testCharSequence() throws Exception{
+        System.out.println("charSequence");
+
+        JsonSource source;
+
+        java.nio.CharBuffer buffer =
+                java.nio.CharBuffer.wrap("XXa\nbYY".toCharArray(), 2, 3);
+        source = new JsonSource(buffer.slice());
+        assertEquals(2, source.getBufferPosition());
+        assertEquals('a', source.read());
+        assertEquals('\n', source.read());
+        assertEquals('b', source.read());
+        assertEquals(-1, source.read());
+        assertEquals(2, source.getLineNumber());
+        assertEquals(3L, source.getOffset());
+
+        source = new JsonSource(new StringBuffer("ab"));
+        assertEquals('a', source.read());
+        assertEquals('b', source.read());
+        assertEquals(-1, source.read());
+
+        char[] dst = new char[3];
+        JsonSource.copyChars(new StringBuilder("xyz"), dst);
+        assertArrayEquals("xyz".toCharArray(), dst);
+        JsonSource.copyChars(java.nio.CharBuffer.wrap("pqr"), dst);
+        assertArrayEquals("pqr".toCharArray(), dst);
+
+        return;
+    }
+
+    /**
+     * Test of appendRun method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testAppendRun() throws Exception{
+        System.out.println("appendRun");
+
+        boolean[] stop = new boolean['#' + 1];
+        stop['#'] = true;
+
+        JsonSource source;
+        StringBuilder text = new StringBuilder();
+
+        source = new JsonSource("abc#def");
+        source.appendRun(text, stop);
+        assertEquals("abc", text.toString());
+        assertEquals('#', source.read());
+        source.appendRun(text, stop);
+        assertEquals("abcdef", text.toString());
+        assertEquals(-1, source.read());
+
+        text.setLength(0);
+        source = new JsonSource("xyz#");
+        source.unread('Q');
+        source.appendRun(text, stop);
+        assertEquals("Qxyz", text.toString());
+        assertEquals('#', source.read());
+
+        StringBuilder longText = new StringBuilder();
+        for(int ct = 0; ct < 20000; ct++){
+            longText.append((char)('a' + ct % 26));
+        }
+        text.setLength(0);
+        source = new JsonSource(longText + "#");
+        source.appendRun(text, stop);
+        assertEquals(longText.toString(), text.toString());
+        assertEquals('#', source.read());
+
+        return;
+    }
+
+    /**
+     * Test of readRun method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testReadRun() throws Exception{
+        System.out.println("readRun");
+
+        boolean[] stop = new boolean['#' + 1];
+        stop['!'] = true;
+        stop['#'] = true;
+
+        JsonSource source;
+
+        source = new JsonSource(new StringReader("abc#def"));
+        assertNull(source.readRun(stop, '#'));
+        assertEquals('a', source.peek());
+        assertEquals("abc", source.readRun(stop, '#'));
+        assertEquals('d', source.read());
+
+        source = new JsonSource("abc!def#");
+        source.peek();
+        assertNull(source.readRun(stop, '#'));
+        assertEquals('a', source.read());
+
+        source = new JsonSource("abc");
+        source.peek();
+        assertNull(source.readRun(stop, '#'));
+        assertEquals('a', source.read());
+
+        source = new JsonSource("#");
+        source.unread('a');
+        assertNull(source.readRun(stop, '#'));
+        assertEquals('a', source.read());
+
+        return;
+    }
+
+    /**
+     * Test of peek method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testPeek() throws Exception{
+        System.out.println("peek");
+
+        JsonSource source;
+
+        source = new JsonSource("a\nb");
+        assertEquals('a', source.peek());
+        assertEquals('a', source.peek());
+        assertEquals(1, source.getLineNumber());
+        assertEquals('a', source.read());
+        assertEquals('\n', source.peek());
+        assertEquals(1, source.getLineNumber());
+        assertEquals('\n', source.read());
+        assertEquals(2, source.getLineNumber());
+        source.unread('X');
+        assertEquals('X', source.peek());
+        assertEquals('X', source.read());
+        assertEquals('b', source.peek());
+        assertEquals('b', source.read());
+        assertEquals(-1, source.peek());
+        assertEquals(-1, source.read());
+
+        source = new JsonSource("");
+        assertEquals(-1, source.peek());
+
+        source = new JsonSource("abc");
+        source.close();
+        try{
+            source.peek();
+            fail();
+        }catch(IOException e){
+            assertEquals("Stream closed", e.getMessage());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of peekOrDie method, of class JsonSource.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testPeekOrDie() throws Exception{
+        System.out.println("peekOrDie");
+
+        JsonSource source;
+
+        source = new JsonSource("a\n");
+        assertEquals('a', source.peekOrDie());
+        assertEquals('a', source.readOrDie());
+        assertEquals('\n', source.peekOrDie());
+        assertEquals('\n', source.readOrDie());
+        try{
+            source.peekOrDie();
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        return;
+    }
+
     /**
      * Test of readOrDie method, of class JsonSource.
      * @throws java.lang.Exception
@@ -5,11 +5,26 @@
 
 package jp.sourceforge.jovsonz;
 
+import java.io.ByteArrayInputStream;
 import java.io.Reader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +34,9 @@
  */
 public class JsonTest {
 
+    @TempDir
+    Path tempDir;
+
     public JsonTest() {
     }
 
@@ -245,6 +263,16 @@ public void testParseValue() throws Exception{
             //GOOD
         }
 
+        for(String text : new String[]{"x", "nul", "tru", "fals", "+1", ".5", "}"}){
+            try{
+                source = new JsonSource(text);
+                Json.parseValue(source);
+                fail(text);
+            }catch(JsParseException e){
+                //GOOD
+            }
+        }
+
         return;
     }
 
@@ -378,4 +406,666 @@ public void testParseJson() throws Exception{
         return;
     }
 
+    /**
+     * Test of parseJson method with concatenated root Values, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_readAhead() throws Exception{
+        System.out.println("parseJson readAhead");
+
+        Reader reader;
+
+        reader = new StringReader("[1] [2]");
+        assertEquals("[1]", Json.parseJson(reader).toString());
+        assertNull(Json.parseJson(reader));
+
+        JsonSequenceReader sequence =
+                new JsonSequenceReader(new StringReader("[1] [2]"));
+        assertEquals("[1]", sequence.readJson().toString());
+        assertEquals("[2]", sequence.readJson().toString());
+        assertNull(sequence.readJson());
+
+        return;
+    }
+
+    /**
+     * Parser under test.
+     */
+    private interface ParsePath {
+        void parse(String text) throws Exception;
+    }
+
+    /**
+     * Test of error position, of all parsers.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_errorPosition() throws Exception{
+        System.out.println("parseJson errorPosition");
+
+        Map<String, ParsePath> paths = new LinkedHashMap<>();
+        paths.put("reader", text -> Json.parseJson(new StringReader(text)));
+        paths.put("text", text -> Json.parseJson((CharSequence) text));
+        paths.put("parallel", text -> Json.parseJsonParallel(text));
+        paths.put("lazy", text -> Json.parseJsonLazy(text).toString());
+        paths.put("filter", text ->
+                Json.parseJson(new StringReader(text), new JsonPointerFilter("/a")));
+        paths.put("parser", text -> new JsonParser().reset(text).parseJson());
+        paths.put("validate", text -> {
+            throw Json.validate(text).toException();
+        });
+        paths.put("tokens", text -> {
+            JsonTokenReader reader = new JsonTokenReader(new StringReader(text));
+            while(reader.nextToken() != null);
+        });
+        paths.put("push", text -> {
+            JsonPushParser parser = new JsonPushParser();
+            parser.feed(text);
+            parser.endOfInput();
+        });
+        paths.put("push bytes", text -> {
+            JsonPushParser parser = new JsonPushParser();
+            for(byte bVal : text.getBytes(StandardCharsets.UTF_8)){
+                parser.feed(ByteBuffer.wrap(new byte[]{bVal}));
+            }
+            parser.endOfInput();
+        });
+
+        Object[][] cases = {
+            {"[1 2]",            JsArray.ERRMSG_NOARRAYCOMMA,           1, 4, 3},
+            {"[1-2]",            JsArray.ERRMSG_NOARRAYCOMMA,           1, 3, 2},
+            {"{\"a\" 1}",        JsObject.ERRMSG_NOHASHSEP,            1, 6, 5},
+            {"{\"a\":1,}",       JsObject.ERRMSG_NOHASHNAME,           1, 8, 7},
+            {"{\"a\":1 \"b\"}",  JsObject.ERRMSG_NOOBJECTCOMMA,        1, 8, 7},
+            {"[1,\n nul]",       JsParseException.ERRMSG_INVALIDTOKEN, 2, 5, 8},
+            {"[\"x\u0001\"]",    JsString.ERRMSG_INVCTR,               1, 4, 3},
+            {"[\"\\q\"]",        JsString.ERRMSG_INVESC,               1, 4, 3},
+            {"[\"\\u0g00\"]",    JsString.ERRMSG_INVESC,               1, 6, 5},
+            {"[\n\n1.x]",        NumberLexer.ERRMSG_INVFRAC,           3, 3, 5},
+            {"  1",              JsParseException.ERRMSG_INVALIDROOT,  1, 3, 2},
+            {"[1,\n",            JsArray.ERRMSG_NOELEM,                2, 1, 4},
+            {"[\"\",tru",         JsParseException.ERRMSG_NODATA,       1, 8, 7},
+            {"[{\"\":f",          JsParseException.ERRMSG_NODATA,       1, 7, 6},
+            {"{\"k\":\"\\u0",      JsParseException.ERRMSG_NODATA,       1, 10, 9},
+            {"[1.",              JsParseException.ERRMSG_NODATA,       1, 4, 3},
+            {"nll",              JsParseException.ERRMSG_INVALIDTOKEN, 1, 2, 1},
+            {"\n tru",           JsParseException.ERRMSG_NODATA,       2, 5, 5},
+            {" \"a\\x\"",         JsString.ERRMSG_INVESC,               1, 5, 4},
+            {" 1.x",             NumberLexer.ERRMSG_INVFRAC,           1, 4, 3},
+            {" 1x",              JsParseException.ERRMSG_INVALIDROOT,  1, 2, 1},
+            {"\n\"a\" ",         JsParseException.ERRMSG_INVALIDROOT,  2, 1, 1},
+            {"[\"\\u[e",         JsParseException.ERRMSG_NODATA,       1, 7, 6},
+            {"[\"\\u0\n00\"]",   JsString.ERRMSG_INVESC,               2, 6, 5},
+        };
+
+        for(Object[] expected : cases){
+            String text = (String) expected[0];
+            for(Map.Entry<String, ParsePath> path : paths.entrySet()){
+                String label = path.getKey() + " " + text;
+                try{
+                    path.getValue().parse(text);
+                    fail(label);
+                }catch(JsParseException e){
+                    assertEquals(expected[1] + " [line:" + expected[2] + "]",
+                                 e.getMessage(), label);
+                    assertEquals(expected[2], e.getLineNumber(), label);
+                    assertEquals(expected[3], e.getColumn(), label);
+                    assertEquals(((Integer) expected[4]).longValue(),
+                                 e.getOffset(), label);
+                }
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with max depth, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_maxDepth() throws Exception{
+        System.out.println("parseJson maxDepth");
+
+        JsComposition<?> result;
+
+        result = Json.parseJson(new StringReader("[{\"a\":[]}]"), 3);
+        assertEquals("[{\"a\":[]}]", result.toString());
+
+        try{
+            Json.parseJson(new StringReader("[{\"a\":\n[[]]}]"), 3);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsParseException.ERRMSG_TOODEEP + " [line:2]", e.getMessage());
+            assertEquals(2, e.getColumn());
+        }
+
+        try{
+            Json.parseJson(new StringReader("[]"), 0);
+            fail();
+        }catch(IllegalArgumentException e){
+            //GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_bytes() throws Exception{
+        System.out.println("parseJson");
+
+        String text = "{\"\u3042\" : [\"\ud840\udc0b\", 1.5, true]}";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        byte[] utf16 = text.getBytes(StandardCharsets.UTF_16LE);
+
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+        JsComposition<?> root;
+
+        root = Json.parseJson(new ByteArrayInputStream(utf8));
+        assertEquals(expected, root);
+        root = Json.parseJson(new ByteArrayInputStream(utf16));
+        assertEquals(expected, root);
+
+        byte[] padded = new byte[utf8.length + 4];
+        System.arraycopy(utf8, 0, padded, 2, utf8.length);
+        root = Json.parseJson(padded, 2, utf8.length);
+        assertEquals(expected, root);
+
+        ByteBuffer buf = ByteBuffer.wrap(utf8);
+        root = Json.parseJson(buf);
+        assertEquals(expected, root);
+        assertEquals(0, buf.position());
+
+        buf = ByteBuffer.allocateDirect(utf16.length);
+        buf.put(utf16).flip();
+        root = Json.parseJson(buf);
+        assertEquals(expected, root);
+
+        root = Json.parseJson(new byte[0], 0, 0);
+        assertNull(root);
+
+        try{
+            Json.parseJson(new byte[]{'[', (byte)0xff, ']'}, 0, 3);
+            fail();
+        }catch(MalformedInputException e){
+            //GOOD
+        }
+
+        try{
+            Json.parseJson(new byte[]{'[', ']'}, 1, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            //GOOD
+        }
+
+        try{
+            Json.parseJson((ByteBuffer) null);
+            fail();
+        }catch(NullPointerException e){
+            //GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_file() throws Exception{
+        System.out.println("parseJson");
+
+        String text = "[{\"\u3042\" : \"\ud840\udc0b\"}, -1.5e3, null]";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+        JsComposition<?> root;
+
+        Path utf8 = this.tempDir.resolve("utf8.json");
+        Files.write(utf8, text.getBytes(StandardCharsets.UTF_8));
+        root = Json.parseJson(utf8);
+        assertEquals(expected, root);
+
+        Path utf16 = this.tempDir.resolve("utf16.json");
+        Files.write(utf16, ("\ufeff" + text).getBytes(StandardCharsets.UTF_16BE));
+        root = Json.parseJson(utf16);
+        assertEquals(expected, root);
+
+        Path offset = this.tempDir.resolve("offset.json");
+        Files.write(offset, ("XYZ" + text).getBytes(StandardCharsets.UTF_8));
+        try(FileChannel channel =
+                FileChannel.open(offset, StandardOpenOption.READ)){
+            channel.position(3);
+            root = Json.parseJson(channel);
+            assertEquals(expected, root);
+            assertEquals(3, channel.position());
+            assertTrue(channel.isOpen());
+        }
+
+        try(FileChannel channel =
+                FileChannel.open(utf16, StandardOpenOption.READ)){
+            root = Json.parseJson(channel);
+            assertEquals(expected, root);
+            assertEquals(0, channel.position());
+        }
+
+        Path empty = this.tempDir.resolve("empty.json");
+        Files.write(empty, new byte[0]);
+        assertNull(Json.parseJson(empty));
+
+        Path broken = this.tempDir.resolve("broken.json");
+        Files.write(broken, "[1,\n2,".getBytes(StandardCharsets.UTF_8));
+        try{
+            Json.parseJson(broken);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJsonLines method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJsonLines() throws Exception{
+        System.out.println("parseJsonLines");
+
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < 20000; ct++){
+            text.append("[").append(ct).append(",\"x\"]\n");
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<JsComposition<?>> list;
+
+        try(Stream<JsComposition<?>> stream =
+                Json.parseJsonLines(ByteBuffer.wrap(bytes), true)){
+            assertTrue(stream.isParallel());
+            list = stream.collect(Collectors.toList());
+        }
+        assertEquals(20000, list.size());
+        for(int ct = 0; ct < 20000; ct++){
+            assertEquals("[" + ct + ",\"x\"]", list.get(ct).toString());
+        }
+
+        long sum;
+        try(Stream<JsComposition<?>> stream =
+                Json.parseJsonLines(ByteBuffer.wrap(bytes), false)){
+            sum = stream.mapToLong(
+                    root -> ((JsNumber)((JsArray)root).get(0)).longValue()
+                ).sum();
+        }
+        assertEquals(20000L * 19999L / 2L, sum);
+
+        Path file = this.tempDir.resolve("lines.ndjson");
+        Files.write(file, bytes);
+        try(Stream<JsComposition<?>> stream = Json.parseJsonLines(file, true)){
+            list = stream.collect(Collectors.toList());
+        }
+        assertEquals(20000, list.size());
+        assertEquals("[19999,\"x\"]", list.get(19999).toString());
+
+        return;
+    }
+
+    /**
+     * Test of visitJson method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testVisitJson() throws Exception{
+        System.out.println("visitJson");
+
+        String text = "{\"A\":[1, -2.5e1, \"x\\ty\", true, false, null,"
+                + " {}, [], [[{\"B\":{}}]]], \"C\":{\"D\":\"\"}}";
+        JsComposition<?> root = Json.parseJson(new StringReader(text));
+
+        StringBuilder expected = new StringBuilder();
+        Json.dumpJson(expected, root);
+
+        StringBuilder dumped = new StringBuilder();
+        JsonAppender appender = new JsonAppender(dumped);
+        assertTrue(Json.visitJson(new StringReader(text), appender));
+        assertEquals(expected.toString(), dumped.toString());
+
+        Path file = this.tempDir.resolve("visit.json");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        dumped = new StringBuilder();
+        appender = new JsonAppender(dumped);
+        assertTrue(Json.visitJson(file, appender));
+        assertEquals(expected.toString(), dumped.toString());
+
+        dumped = new StringBuilder();
+        appender = new JsonAppender(dumped);
+        assertFalse(Json.visitJson(new StringReader(" \n "), appender));
+        assertEquals("", dumped.toString());
+
+        try{
+            Json.visitJson(new StringReader("[1,]"), new JsonAppender(dumped));
+            fail();
+        }catch(JsParseException e){
+            // GOOD
+        }
+
+        ValueVisitor stopper = new JsonAppender(dumped){
+            @Override
+            public void visitPairName(String pairName)
+                    throws JsVisitException{
+                throw new JsVisitException();
+            }
+        };
+        try{
+            Json.visitJson(new StringReader(text), stopper);
+            fail();
+        }catch(JsVisitException e){
+            // GOOD
+        }
+
+        try{
+            Json.visitJson(new StringReader(text), null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        try{
+            Json.visitJson(new StringReader("[1e99999999999]"),
+                           new JsonAppender(new StringBuilder()));
+            fail();
+        }catch(NumberFormatException e){
+            assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage());
+        }
+
+        try{
+            Json.visitJson(new StringReader(" 1e99999999999"),
+                           new JsonAppender(new StringBuilder()));
+            fail();
+        }catch(NumberFormatException e){
+            assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJsonLazy method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJsonLazy() throws Exception{
+        System.out.println("parseJsonLazy");
+
+        String text = "{\"A\":[1, {\"B\":\"\u3042\"}], \"C\":null}";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+
+        StringBuilder seq = new StringBuilder(text);
+        JsComposition<?> root = Json.parseJsonLazy(seq);
+        seq.setLength(0);
+        assertEquals(expected, root);
+
+        assertNull(Json.parseJsonLazy(" "));
+
+        try{
+            Json.parseJsonLazy("[1,2");
+            fail();
+        }catch(JsParseException e){
+            // GOOD
+        }
+
+        try{
+            Json.parseJsonLazy(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_text() throws Exception{
+        System.out.println("parseJson");
+
+        String text = "{\"A\":[1, {\"B\":\"\\\"\u3042\"}], \"C\":null}";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+
+        assertEquals(expected, Json.parseJson(text));
+        assertEquals(expected, Json.parseJson(new StringBuilder(text)));
+        assertNull(Json.parseJson(" "));
+
+        try{
+            Json.parseJson("[1,\n2");
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        try{
+            Json.parseJson((CharSequence) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with char array, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_chars() throws Exception{
+        System.out.println("parseJson");
+
+        String text = "{\"A\":[1, {\"B\":\"\\\"\u3042\"}], \"C\":null}";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+
+        char[] chars = ("XX" + text + "\n[YY").toCharArray();
+        assertEquals(expected, Json.parseJson(chars, 2, text.length()));
+        assertNull(Json.parseJson(chars, 0, 0));
+
+        chars = "XX[1,\n2 3]".toCharArray();
+        try{
+            Json.parseJson(chars, 2, chars.length - 2);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        try{
+            Json.parseJson(chars, 3, chars.length);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        try{
+            Json.parseJson(chars, -1, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        try{
+            Json.parseJson((char[]) null, 0, 0);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Return nested OBJECT and ARRAY text.
+     * @param depth depth
+     * @return JSON text
+     */
+    private static String deepJson(int depth){
+        StringBuilder open = new StringBuilder();
+        StringBuilder close = new StringBuilder();
+        for(int ct = 0; ct < depth; ct++){
+            if(ct % 3 == 0){
+                open.append("{\"a\":");
+                close.append('}');
+            }else{
+                open.append("[ ");
+                close.append("]\n");
+            }
+        }
+        return open + "1" + close.reverse();
+    }
+
+    /**
+     * Return depth of nested OBJECT and ARRAY without recursion.
+     * @param root root Value
+     * @return depth
+     */
+    private static int depthOf(JsValue root){
+        JsValue value = root;
+        int depth = 0;
+        while(value instanceof JsComposition){
+            depth++;
+            if(value instanceof JsObject){
+                value = ((JsObject) value).getValue("a");
+            }else{
+                value = ((JsArray) value).get(0);
+            }
+        }
+        assertEquals("1", value.toString());
+        return depth;
+    }
+
+    /**
+     * Test of parseJson method with deep nesting text, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_textDeep() throws Exception{
+        System.out.println("parseJson textDeep");
+
+        for(int depth : new int[]{10000, 100000}){
+            String json = deepJson(depth);
+            char[] chars = json.toCharArray();
+
+            assertEquals(depth, depthOf(Json.parseJson(json)));
+            assertEquals(depth, depthOf(Json.parseJson(chars, 0, chars.length)));
+            assertEquals(depth, depthOf(Json.parseJson(CharBuffer.wrap(chars))));
+            assertEquals(depth, depthOf(Json.parseJsonParallel(json)));
+            assertEquals(depth, depthOf(Json.parseJson(json, depth)));
+
+            try{
+                Json.parseJson(json, depth - 1);
+                fail();
+            }catch(JsParseException e){
+                assertEquals(JsParseException.ERRMSG_TOODEEP, e.getMessage().split(" \\[")[0]);
+            }
+
+            try{
+                Json.parseJson(json.substring(0, json.length() - 1) + "]");
+                fail();
+            }catch(JsParseException e){
+                assertEquals(JsObject.ERRMSG_NOOBJECTCOMMA, e.getMessage().split(" \\[")[0]);
+            }
+        }
+
+        StringBuilder elems = new StringBuilder("[");
+        for(int ct = 0; ct < 600; ct++){
+            if(ct > 0) elems.append(',');
+            elems.append(deepJson(1000));
+        }
+        elems.append(']');
+        JsArray array = (JsArray) Json.parseJsonParallel(elems);
+        assertEquals(600, array.size());
+        for(JsValue elem : array){
+            assertEquals(1000, depthOf(elem));
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with text and max depth, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_textMaxDepth() throws Exception{
+        System.out.println("parseJson textMaxDepth");
+
+        JsComposition<?> result;
+
+        result = Json.parseJson("[{\"a\":[]}]", 3);
+        assertEquals("[{\"a\":[]}]", result.toString());
+
+        try{
+            Json.parseJson("[{\"a\":\n[[]]}]", 3);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsParseException.ERRMSG_TOODEEP + " [line:2]", e.getMessage());
+            assertEquals(2, e.getColumn());
+            assertEquals(8L, e.getOffset());
+        }
+
+        try{
+            Json.parseJson("[]", 0);
+            fail();
+        }catch(IllegalArgumentException e){
+            //GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with CharBuffer, of class Json.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_CharBuffer() throws Exception{
+        System.out.println("parseJson");
+
+        String text = "{\"A\":[1, {\"B\":\"\\\"\u3042\"}], \"C\":null}";
+        JsComposition<?> expected = Json.parseJson(new StringReader(text));
+
+        CharBuffer buffer = CharBuffer.wrap("XX" + text + "YY");
+        buffer.position(2).limit(2 + text.length());
+        assertEquals(expected, Json.parseJson(buffer));
+        assertEquals(2, buffer.position());
+        assertEquals(expected, Json.parseJson((CharSequence) buffer));
+
+        buffer = CharBuffer.wrap(("XX" + text).toCharArray());
+        buffer.position(2);
+        CharBuffer slice = buffer.slice();
+        assertEquals(expected, Json.parseJson(slice));
+        assertEquals(expected, Json.parseJsonParallel(slice));
+        assertEquals(expected, Json.parseJson(slice.asReadOnlyBuffer()));
+
+        CharBuffer direct =
+                ByteBuffer.allocateDirect(text.length() * 2).asCharBuffer();
+        direct.put(text).flip();
+        assertEquals(expected, Json.parseJson(direct));
+        assertEquals(0, direct.position());
+
+        try{
+            Json.parseJson(CharBuffer.wrap("[1,\n2"));
+            fail();
+        }catch(JsParseException e){
+            assertEquals(2, e.getLineNumber());
+        }
+
+        return;
+    }
+
 }
@@ -0,0 +1,240 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonTokenReaderTest {
+
+    public JsonTokenReaderTest() {
+    }
+
+    private static JsonTokenReader reader(String text){
+        return new JsonTokenReader(new StringReader(text));
+    }
+
+    /**
+     * Test of nextToken method, of class JsonTokenReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testNextToken() throws Exception{
+        System.out.println("nextToken");
+
+        JsonTokenReader reader;
+
+        reader = reader(" {\"A\" : [1, -2.5e+1, \"x\\ny\", true, false, null, {}, []], \"B\":{\"C\":\"\"}} ");
+        assertNull(reader.getToken());
+        assertEquals(0, reader.getDepth());
+
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        assertEquals(JsonToken.START_OBJECT, reader.getToken());
+        assertEquals(1, reader.getDepth());
+        assertEquals(JsonToken.PAIR_NAME, reader.nextToken());
+        assertEquals("A", reader.getString());
+        assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+        assertEquals(2, reader.getDepth());
+        assertEquals(JsonToken.NUMBER, reader.nextToken());
+        assertEquals(1L, reader.getLong());
+        assertEquals("1", reader.getText().toString());
+        assertEquals(JsonToken.NUMBER, reader.nextToken());
+        assertEquals(-25.0, reader.getDouble(), 0.0);
+        assertEquals(-25L, reader.getLong());
+        assertEquals(new BigDecimal("-2.5E1"), reader.getDecimal());
+        assertEquals(JsonToken.STRING, reader.nextToken());
+        assertEquals("x\ny", reader.getString());
+        assertEquals(JsonToken.BOOLEAN, reader.nextToken());
+        assertTrue(reader.getBoolean());
+        assertEquals(JsonToken.BOOLEAN, reader.nextToken());
+        assertFalse(reader.getBoolean());
+        assertEquals(JsonToken.NULL, reader.nextToken());
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        assertEquals(3, reader.getDepth());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+        assertEquals(2, reader.getDepth());
+        assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+        assertEquals(JsonToken.END_ARRAY, reader.nextToken());
+        assertEquals(JsonToken.END_ARRAY, reader.nextToken());
+        assertEquals(1, reader.getDepth());
+        assertEquals(JsonToken.PAIR_NAME, reader.nextToken());
+        assertEquals("B", reader.getString());
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        assertEquals(JsonToken.PAIR_NAME, reader.nextToken());
+        assertEquals("C", reader.getString());
+        assertEquals(JsonToken.STRING, reader.nextToken());
+        assertEquals("", reader.getString());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+        assertEquals(0, reader.getDepth());
+        assertNull(reader.nextToken());
+        assertNull(reader.getToken());
+        assertNull(reader.nextToken());
+
+        reader = reader("");
+        assertNull(reader.nextToken());
+        reader = reader(" \n ");
+        assertNull(reader.nextToken());
+
+        return;
+    }
+
+    /**
+     * Test of nextToken method with invalid input, of class JsonTokenReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testNextToken_invalid() throws Exception{
+        System.out.println("nextToken");
+
+        String[] invalids = {
+            "1", "\"A\"", "true", "null", "#",
+            "[", "[1", "[1,", "[1,]", "[1 2]", "[,1]",
+            "{", "{\"A\"", "{\"A\":", "{\"A\" 1}", "{\"A\":1,}",
+            "{\"A\":1 \"B\":2}", "{1:1}", "[tru]", "[01]", "[\"\\q\"]",
+        };
+
+        for(String text : invalids){
+            JsonTokenReader reader = reader(text);
+            try{
+                while(reader.nextToken() != null);
+                fail(text);
+            }catch(JsParseException e){
+                // GOOD
+            }
+
+            try{
+                Json.parseJson(new StringReader(text));
+                fail(text);
+            }catch(JsParseException e){
+                // GOOD
+            }
+        }
+
+        JsonTokenReader reader = reader("[\n1,\n2\n3]");
+        try{
+            while(reader.nextToken() != null);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(4, e.getLineNumber());
+            assertEquals("missing comma in ARRAY [line:4]", e.getMessage());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of skipChildren method, of class JsonTokenReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testSkipChildren() throws Exception{
+        System.out.println("skipChildren");
+
+        JsonTokenReader reader;
+
+        reader = reader("{\"A\":[1,[2,{\"X\":[]}],3],\"B\":true}");
+        assertEquals(JsonToken.START_OBJECT, reader.nextToken());
+        assertEquals(JsonToken.PAIR_NAME, reader.nextToken());
+        assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+        reader.skipChildren();
+        assertEquals(JsonToken.END_ARRAY, reader.getToken());
+        assertEquals(1, reader.getDepth());
+        assertEquals(JsonToken.PAIR_NAME, reader.nextToken());
+        assertEquals("B", reader.getString());
+        reader.skipChildren();
+        assertEquals(JsonToken.PAIR_NAME, reader.getToken());
+        assertEquals(JsonToken.BOOLEAN, reader.nextToken());
+        assertEquals(JsonToken.END_OBJECT, reader.nextToken());
+        assertNull(reader.nextToken());
+
+        reader = reader("[]");
+        reader.skipChildren();
+        assertNull(reader.getToken());
+        assertEquals(JsonToken.START_ARRAY, reader.nextToken());
+        reader.skipChildren();
+        assertEquals(JsonToken.END_ARRAY, reader.getToken());
+        assertNull(reader.nextToken());
+
+        return;
+    }
+
+    /**
+     * Test of getLong method, of class JsonTokenReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testGetLong() throws Exception{
+        System.out.println("getLong");
+
+        JsonTokenReader reader;
+
+        reader = reader("[0, -0, 9223372036854775807, -9223372036854775808,"
+                + " 9223372036854775808, 1.9, 1E3]");
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(0L, reader.getLong());
+        reader.nextToken();
+        assertEquals(0L, reader.getLong());
+        reader.nextToken();
+        assertEquals(Long.MAX_VALUE, reader.getLong());
+        reader.nextToken();
+        assertEquals(Long.MIN_VALUE, reader.getLong());
+        reader.nextToken();
+        assertEquals(new BigDecimal("9223372036854775808").longValue(),
+                reader.getLong());
+        reader.nextToken();
+        assertEquals(1L, reader.getLong());
+        reader.nextToken();
+        assertEquals(1000L, reader.getLong());
+
+        try{
+            reader.getBoolean();
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        reader.nextToken();
+        try{
+            reader.getString();
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of getLineNumber method, of class JsonTokenReader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testGetLineNumber() throws Exception{
+        System.out.println("getLineNumber");
+
+        JsonTokenReader reader = reader("[\n1,\n2\n]");
+        assertEquals(1, reader.getLineNumber());
+        reader.nextToken();
+        reader.nextToken();
+        assertEquals(2, reader.getLineNumber());
+        reader.nextToken();
+        assertEquals(3, reader.getLineNumber());
+        reader.close();
+
+        return;
+    }
+
+}
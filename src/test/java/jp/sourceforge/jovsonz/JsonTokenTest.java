@@ -0,0 +1,62 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonTokenTest {
+
+    public JsonTokenTest() {
+    }
+
+    /**
+     * Test of getJsTypes method, of class JsonToken.
+     */
+    @Test
+    public void testGetJsTypes() {
+        System.out.println("getJsTypes");
+
+        assertEquals(JsTypes.OBJECT, JsonToken.START_OBJECT.getJsTypes());
+        assertEquals(JsTypes.OBJECT, JsonToken.END_OBJECT.getJsTypes());
+        assertEquals(JsTypes.ARRAY, JsonToken.START_ARRAY.getJsTypes());
+        assertEquals(JsTypes.ARRAY, JsonToken.END_ARRAY.getJsTypes());
+        assertNull(JsonToken.PAIR_NAME.getJsTypes());
+        assertEquals(JsTypes.STRING, JsonToken.STRING.getJsTypes());
+        assertEquals(JsTypes.NUMBER, JsonToken.NUMBER.getJsTypes());
+        assertEquals(JsTypes.BOOLEAN, JsonToken.BOOLEAN.getJsTypes());
+        assertEquals(JsTypes.NULL, JsonToken.NULL.getJsTypes());
+
+        return;
+    }
+
+    /**
+     * Test of isStart, isEnd and isScalarValue method, of class JsonToken.
+     */
+    @Test
+    public void testIsStartEnd() {
+        System.out.println("isStart");
+
+        for(JsonToken token : JsonToken.values()){
+            boolean start = token == JsonToken.START_OBJECT
+                    || token == JsonToken.START_ARRAY;
+            boolean end = token == JsonToken.END_OBJECT
+                    || token == JsonToken.END_ARRAY;
+            boolean scalar = !start && !end && token != JsonToken.PAIR_NAME;
+            assertEquals(start, token.isStart());
+            assertEquals(end, token.isEnd());
+            assertEquals(scalar, token.isScalarValue());
+        }
+
+        return;
+    }
+
+}
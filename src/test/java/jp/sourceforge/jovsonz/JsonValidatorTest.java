@@ -0,0 +1,207 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonValidatorTest {
+
+    public JsonValidatorTest() {
+    }
+
+    private static void assertSameError(String json) throws Exception{
+        JsParseException expected = null;
+        try{
+            Json.parseJson(new StringReader(json));
+            fail(json);
+        }catch(JsParseException e){
+            expected = e;
+        }
+
+        JsonValidation result = Json.validate(json);
+        assertFalse(result.isValid(), json);
+        assertEquals(expected.getMessage(), result.toException().getMessage(), json);
+        assertEquals(expected.getLineNumber(), result.getLineNumber(), json);
+
+        return;
+    }
+
+    /**
+     * Test of validate method, of class JsonValidator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testValidate() throws Exception{
+        System.out.println("validate");
+
+        JsonValidation result;
+
+        result = Json.validate("{\"a\\u0041\\n\":[-12.5e+3,\"x\",true,false,null],"
+                + "\n\"b\":{},\"c\":[],\"d\":0.5E-1} [");
+        assertTrue(result.isValid());
+        assertNull(result.getKind());
+        assertNull(result.getMessage());
+        assertNull(result.toException());
+        assertEquals(2, result.getLineNumber());
+        assertEquals(70L, result.getOffset());
+
+        result = Json.validate(" [1,\n2 3]");
+        assertFalse(result.isValid());
+        assertEquals(JsonValidation.Kind.MISSING_COMMA, result.getKind());
+        assertEquals(JsArray.ERRMSG_NOARRAYCOMMA, result.getMessage());
+        assertEquals(2, result.getLineNumber());
+        assertEquals(7L, result.getOffset());
+        assertEquals(3, result.getColumn());
+        assertEquals(7L, result.toException().getOffset());
+
+        result = Json.validate("[\"abc");
+        assertEquals(JsonValidation.Kind.NO_DATA, result.getKind());
+        assertEquals(5L, result.getOffset());
+
+        result = Json.validate("{\"a\":01}");
+        assertEquals(JsonValidation.Kind.INVALID_NUMBER, result.getKind());
+        assertEquals(6L, result.getOffset());
+
+        result = Json.validate("  ");
+        assertEquals(JsonValidation.Kind.NO_DATA, result.getKind());
+
+        return;
+    }
+
+    /**
+     * Test of validate method with scale out of range, of class JsonValidator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testValidateScale() throws Exception{
+        System.out.println("validate scale");
+
+        String[] invalids = {
+            "[1e99999999999]",
+            "[1e2147483649]",
+            "[1e-2147483648]",
+            "[-1.5E-2147483647]",
+            "[1e999999999999999999999999]",
+        };
+
+        for(String json : invalids){
+            try{
+                Json.parseJson(new StringReader(json));
+                fail(json);
+            }catch(NumberFormatException e){
+                // GOOD
+            }
+
+            JsonValidation result = Json.validate(json);
+            assertEquals(JsonValidation.Kind.INVALID_NUMBER, result.getKind(), json);
+            assertEquals(NumberLexer.ERRMSG_SCALE, result.getMessage(), json);
+            assertEquals(1L, result.getOffset(), json);
+        }
+
+        String[] valids = {
+            "[1e2147483648]",
+            "[1e-2147483647]",
+            "[1.5e-2147483646]",
+            "[1.5e2147483648]",
+        };
+
+        for(String json : valids){
+            Json.parseJson(new StringReader(json));
+            assertTrue(Json.validate(json).isValid(), json);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of validate method with errors, of class JsonValidator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testValidateError() throws Exception{
+        System.out.println("validate error");
+
+        String[] invalids = {
+            "\"abc\"",
+            "x",
+            "[1,]",
+            "[1 2]",
+            "[1}",
+            "[1-]",
+            "[01]",
+            "[1.]",
+            "[1.",
+            "[-]",
+            "[1e]",
+            "[1e",
+            "[tru]",
+            "[nul1]",
+            "[nu",
+            "[\"\\x\"]",
+            "[\"\\u12g4\"]",
+            "[\"\\u12",
+            "[\"a\nb\"]",
+            "{1:2}",
+            "{\"a\" 1}",
+            "{\"a\"\n\n1}",
+            "{\"a\":1,}",
+            "{\"a\":1 \"b\":2}",
+            "{\"a\":",
+            "{\"a\"",
+            "{",
+            "[1,",
+            "[1",
+            "[\"a",
+            "[[[[{\"a\":[}]]]]",
+        };
+
+        for(String json : invalids){
+            assertSameError(json);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of validate method with deep nesting, of class JsonValidator.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testValidateDeep() throws Exception{
+        System.out.println("validate deep");
+
+        StringBuilder open = new StringBuilder();
+        StringBuilder close = new StringBuilder();
+        for(int depth = 0; depth < 10000; depth++){
+            if(depth % 3 == 0){
+                open.append("{\"a\":");
+                close.insert(0, '}');
+            }else{
+                open.append('[');
+                close.insert(0, ']');
+            }
+        }
+
+        String json = "[" + open + "1" + close + "]";
+        assertTrue(Json.validate(json).isValid());
+
+        json = "[" + open + "1" + close.substring(1) + "}]";
+        JsonValidation result = Json.validate(json);
+        assertEquals(JsonValidation.Kind.MISSING_COMMA, result.getKind());
+        assertEquals(JsObject.ERRMSG_NOOBJECTCOMMA, result.getMessage());
+
+        return;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class MappedUtf8ReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    public MappedUtf8ReaderTest() {
+    }
+
+    private static String readAll(Reader reader) throws Exception{
+        StringBuilder result = new StringBuilder();
+        char[] cbuf = new char[7];
+        for(;;){
+            int len = reader.read(cbuf, 0, cbuf.length);
+            if(len < 0) break;
+            result.append(cbuf, 0, len);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Test of read method over mapping windows, of class MappedUtf8Reader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRead_window() throws Exception{
+        System.out.println("read");
+
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < 1000; ct++){
+            text.append("aあ𠀋é");
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        Path file = this.tempDir.resolve("window.txt");
+        Files.write(file, bytes);
+
+        try(FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.READ)){
+            long[] windows = {4, 5, 6, 7, 13, 4096, MappedUtf8Reader.DEF_WINDOW};
+            for(long window : windows){
+                Reader reader = new MappedUtf8Reader(
+                        channel, 0, bytes.length, window);
+                assertEquals(text.toString(), readAll(reader));
+            }
+
+            Reader reader = new MappedUtf8Reader(channel, 1, 4, 4);
+            assertEquals("あ", readAll(reader));
+
+            reader = new MappedUtf8Reader(channel, 1, 3, 4);
+            try{
+                readAll(reader);
+                fail();
+            }catch(MalformedInputException e){
+                // GOOD
+            }
+
+            try{
+                new MappedUtf8Reader(channel, 0, bytes.length, 3);
+                fail();
+            }catch(IllegalArgumentException e){
+                // GOOD
+            }
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class NameTableTest {
+
+    public NameTableTest() {
+    }
+
+    /**
+     * Test of intern method, of class NameTable.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testIntern() throws Exception{
+        System.out.println("intern");
+
+        NameTable table = new NameTable();
+        char[] buf = "xidyid".toCharArray();
+
+        String id1 = table.intern(buf, 1, 2);
+        String id2 = table.intern(buf, 4, 2);
+        assertEquals("id", id1);
+        assertSame(id1, id2);
+        assertSame(id1, table.intern(new StringBuilder("id")));
+        assertEquals(1, table.size());
+
+        assertEquals("", table.intern(buf, 0, 0));
+        assertEquals("xid", table.intern(buf, 0, 3));
+        assertEquals(3, table.size());
+
+        for(int ct = 0; ct < 3000; ct++){
+            String name = "name" + ct;
+            char[] chars = name.toCharArray();
+            String interned = table.intern(chars, 0, chars.length);
+            assertEquals(name, interned);
+            if(table.size() < NameTable.MAX_NAMES){
+                assertSame(interned, table.intern(name));
+            }
+        }
+        assertSame(table.intern("name0"), table.intern("name0"));
+        assertEquals(NameTable.MAX_NAMES, table.size());
+
+        String overflow = table.intern(new StringBuilder("name2999"));
+        assertEquals("name2999", overflow);
+        assertNotSame(overflow, table.intern(new StringBuilder("name2999")));
+
+        StringBuilder longName = new StringBuilder();
+        for(int ct = 0; ct <= NameTable.MAX_NAME_LENGTH; ct++){
+            longName.append('L');
+        }
+        assertEquals(longName.toString(), table.intern(longName));
+
+        return;
+    }
+
+    /**
+     * Test of PAIR names shared in parsed JSON.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParse() throws Exception{
+        System.out.println("parse");
+
+        String json = "[{\"id\":1,\"n\\u0061me\":\"a\"},{\"id\":2,\"name\":\"b\"}]";
+
+        JsArray array;
+
+        array = (JsArray) Json.parseJson(new StringReader(json));
+        assertSharedNames(array);
+
+        array = (JsArray) Json.parseJson(json);
+        assertSharedNames(array);
+
+        array = (JsArray) Json.parseJsonLazy(json);
+        assertSharedNames(array);
+
+        return;
+    }
+
+    private static void assertSharedNames(JsArray array){
+        JsObject obj1 = (JsObject) array.get(0);
+        JsObject obj2 = (JsObject) array.get(1);
+        assertSame(obj1.getPair("id").getName(), obj2.getPair("id").getName());
+        assertSame(obj1.getPair("name").getName(), obj2.getPair("name").getName());
+        return;
+    }
+
+}
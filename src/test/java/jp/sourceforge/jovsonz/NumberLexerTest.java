@@ -0,0 +1,124 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class NumberLexerTest {
+
+    private static final String[] NUMBERS = {
+        "0", "-0", "0.0", "-0.0", "1", "-1", "42", "0.5", "-12.250",
+        "1e3", "1E+3", "1.5e-3", "-0.000123", "0E0", "1E00",
+        "9223372036854775807", "-9223372036854775808",
+        "9223372036854775808", "12345678901234567890.0987654321",
+        "0.00000000000000000000000000001234567890123456789",
+        "1.7976931348623157e308", "4.9e-324", "2e-400", "123456789012345678e-10",
+        "9007199254740993", "1e22", "1e23", "-3.14159265358979",
+    };
+
+    public NumberLexerTest() {
+    }
+
+    private static NumberLexer lex(String text, StringBuilder out)
+            throws Exception{
+        JsonSource source = new JsonSource(text);
+        NumberLexer lexer = source.getNumberLexer();
+        lexer.lex(source, out);
+        assertFalse(source.hasMore());
+        return lexer;
+    }
+
+    /**
+     * Test of lex method, of class NumberLexer.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testLex() throws Exception{
+        System.out.println("lex");
+
+        for(String text : NUMBERS){
+            BigDecimal expected = new BigDecimal(text);
+            StringBuilder out = new StringBuilder();
+            NumberLexer lexer = lex(text, out);
+
+            assertEquals(expected, lexer.toDecimal(), text);
+            assertEquals(expected, new BigDecimal(out.toString()), text);
+            assertEquals(expected.longValue(), lexer.toLong(), text);
+            assertEquals(Double.parseDouble(text), lexer.toDouble(), 0.0, text);
+        }
+
+        StringBuilder out = new StringBuilder();
+        lex("-1.50e+007", out);
+        assertEquals("-1.50E007", out.toString());
+
+        lex("12", null);
+
+        NumberLexer lexer = lex("1e9999999999999", null);
+        try{
+            lexer.toDecimal();
+            fail();
+        }catch(NumberFormatException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of toDouble method, of class NumberLexer.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testToDouble() throws Exception{
+        System.out.println("toDouble");
+
+        Random random = new Random(1L);
+        for(int ct = 0; ct < 10000; ct++){
+            long mantissa = random.nextLong() % 100_000_000_000_000_000L;
+            int exp = random.nextInt(60) - 30;
+            String text = mantissa + "e" + exp;
+            NumberLexer lexer = lex(text, null);
+            assertEquals(Double.parseDouble(text), lexer.toDouble(), 0.0, text);
+
+            double dVal = Double.longBitsToDouble(random.nextLong());
+            if(Double.isNaN(dVal) || Double.isInfinite(dVal)) continue;
+            text = Double.toString(dVal);
+            lexer = lex(text, null);
+            assertEquals(dVal, lexer.toDouble(), 0.0, text);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of fastDouble method, of class NumberLexer.
+     */
+    @Test
+    public void testFastDouble() {
+        System.out.println("fastDouble");
+
+        assertEquals(0.1, NumberLexer.fastDouble(1L, 1L), 0.0);
+        assertEquals(1.5e22, NumberLexer.fastDouble(15L, -21L), 0.0);
+        assertEquals(-12.25, NumberLexer.fastDouble(-1225L, 2L), 0.0);
+        assertEquals((double) (1L << 53),
+                NumberLexer.fastDouble(1L << 53, 0L), 0.0);
+        assertTrue(Double.isNaN(NumberLexer.fastDouble((1L << 53) + 1, 0L)));
+        assertTrue(Double.isNaN(NumberLexer.fastDouble(1L, 23L)));
+        assertTrue(Double.isNaN(NumberLexer.fastDouble(1L, -23L)));
+
+        return;
+    }
+
+}
@@ -0,0 +1,372 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class StructuralIndexTest {
+
+    public StructuralIndexTest() {
+    }
+
+    private static StructuralIndex scan(String text){
+        char[] chars = text.toCharArray();
+        return StructuralIndex.scan(chars, 0, chars.length);
+    }
+
+    private static JsComposition<?> parse(String text) throws Exception{
+        char[] chars = text.toCharArray();
+        return StructuralIndex.parseJson(chars, 0, chars.length);
+    }
+
+    private static JsComposition<?> parseParallel(String text)
+            throws Exception{
+        char[] chars = text.toCharArray();
+        return StructuralIndex.parseJsonParallel(chars, 0, chars.length, 1);
+    }
+
+    private static String manyElements(String last){
+        StringBuilder result = new StringBuilder("[");
+        for(int ct = 0; ct < 1000; ct++){
+            result.append(ct).append(',');
+        }
+        return result.append(last).append(']').toString();
+    }
+
+    private static String tokens(StructuralIndex index){
+        StringBuilder result = new StringBuilder();
+        for(int idx = 0; idx < index.size(); idx++){
+            if(idx > 0) result.append(',');
+            result.append(index.getPosition(idx));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Test of prefixXor method, of class StructuralIndex.
+     */
+    @Test
+    public void testPrefixXor() {
+        System.out.println("prefixXor");
+
+        assertEquals(0L, StructuralIndex.prefixXor(0L));
+        assertEquals(-1L, StructuralIndex.prefixXor(1L));
+        assertEquals(0b0111L, StructuralIndex.prefixXor(0b1001L));
+        assertEquals(0b0110_0110L, StructuralIndex.prefixXor(0b1010_1010L));
+        assertEquals(Long.MIN_VALUE, StructuralIndex.prefixXor(Long.MIN_VALUE));
+
+        return;
+    }
+
+    /**
+     * Test of scan method, of class StructuralIndex.
+     */
+    @Test
+    public void testScan() {
+        System.out.println("scan");
+
+        StructuralIndex index;
+
+        index = scan("");
+        assertEquals(0, index.size());
+
+        index = scan("{\"a\":[1, true,null]}");
+        assertEquals("0,1,4,5,6,7,9,13,14,18,19", tokens(index));
+
+        index = scan("[\"{,\\\"]\" , \"\\\\\" ,x]");
+        assertEquals("0,1,9,11,16,17,18", tokens(index));
+
+        index = scan("[1\n,\n\n2]");
+        assertEquals("0,1,3,6,7", tokens(index));
+        assertEquals(1, index.getLine(0));
+        assertEquals(2, index.getLine(2));
+        assertEquals(4, index.getLine(3));
+
+        StringBuilder text = new StringBuilder("[\"");
+        for(int ct = 0; ct < 62; ct++) text.append('\\');
+        text.append("\\\"\",1]");
+        index = scan(text.toString());
+        assertEquals("0,1,67,68,69", tokens(index));
+
+        text = new StringBuilder("[");
+        for(int ct = 0; ct < 100; ct++) text.append('1');
+        text.append(",2]");
+        index = scan(text.toString());
+        assertEquals("0,1,101,102,103", tokens(index));
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson() throws Exception{
+        System.out.println("parseJson");
+
+        String[] texts = {
+            "{}", " [ ] ", "[1,-2.5e+3,\"a\\\"b\",true,false,null]",
+            "{\"A\":{\"B\":[[],{}]},\"\\u0043\":\"\\\\\\\\\"}",
+            "[\"\u3042\ud840\udc0b\"]",
+        };
+
+        for(String text : texts){
+            JsComposition<?> expected = Json.parseJson(new StringReader(text));
+            assertEquals(expected, parse(text), text);
+        }
+
+        assertNull(parse(""));
+        assertNull(parse(" \n\t"));
+
+        Random random = new Random(1L);
+        for(int ct = 0; ct < 200; ct++){
+            StringBuilder text = new StringBuilder("[");
+            int elems = random.nextInt(20);
+            for(int elem = 0; elem < elems; elem++){
+                if(elem > 0) text.append(random.nextBoolean() ? "," : " ,\n");
+                text.append('"');
+                int chars = random.nextInt(80);
+                for(int pos = 0; pos < chars; pos++){
+                    switch(random.nextInt(6)){
+                    case 0:  text.append("\\\\"); break;
+                    case 1:  text.append("\\\""); break;
+                    case 2:  text.append("[,]"); break;
+                    default: text.append('x'); break;
+                    }
+                }
+                text.append('"');
+            }
+            text.append(']');
+
+            String json = text.toString();
+            JsComposition<?> expected = Json.parseJson(new StringReader(json));
+            assertEquals(expected, parse(json), json);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with invalid text, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_invalid() throws Exception{
+        System.out.println("parseJson");
+
+        String[] invalids = {
+            "1", "\"A\"", "true", "#", "[", "[1", "[1,", "[1,]", "[1 2]", "[,1]",
+            "[1\n,\n\n2\n3]", "{", "{\"A\"", "{\"A\":", "{\"A\" 1}", "{\"A\":1,}",
+            "{\"A\":1 \"B\":2}", "{1:1}", "[tru]", "[truex]", "[01]", "[1x]",
+            "[\"\\q\"]", "[\"abc]", "[\"a\"\"b\"]", "[\"a\nb\"]", "[}", "{]",
+            "[1:2]", "\n\n[\n-]", "[\"a\"1]", "{\"A\"\n:\n}",
+            "{\"A\":1,", "{\"A\":1,\n\n",
+        };
+
+        for(String text : invalids){
+            String expected = null;
+            try{
+                Json.parseJson(new StringReader(text));
+                fail(text);
+            }catch(JsParseException e){
+                expected = e.getMessage();
+            }
+
+            try{
+                parse(text);
+                fail(text);
+            }catch(JsParseException e){
+                assertEquals(expected, e.getMessage(), text);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJsonParallel method, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJsonParallel() throws Exception{
+        System.out.println("parseJsonParallel");
+
+        String[] texts = {
+            "{}", "[]", "[1]", " [ 1 , 2 ] ", "{\"A\":[1,2,3]}",
+            "[1,-2.5e+3,\"a\\\"b\",true,false,null,{},[]]",
+            "[[1,[2,3]],{\"A\":[4,{}]},\"[,]\",[[[]]]]",
+        };
+
+        for(String text : texts){
+            JsComposition<?> expected = Json.parseJson(new StringReader(text));
+            assertEquals(expected, parseParallel(text), text);
+        }
+
+        assertNull(parseParallel(""));
+
+        StringBuilder text = new StringBuilder("[");
+        for(int ct = 0; ct < 10000; ct++){
+            if(ct > 0) text.append(",\n");
+            text.append("{\"id\":").append(ct)
+                .append(",\"s\":\"a,]}\\\"\",\"x\":[").append(ct).append("]}");
+        }
+        text.append(']');
+        String json = text.toString();
+        JsArray array = (JsArray) parseParallel(json);
+        assertEquals(10000, array.size());
+        assertEquals(Json.parseJson(new StringReader(json)), array);
+
+        return;
+    }
+
+    /**
+     * Test of parseJsonParallel method with invalid text, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJsonParallel_invalid() throws Exception{
+        System.out.println("parseJsonParallel");
+
+        String[] invalids = {
+            "[", "[1,", "[1,]", "[1 2]", "[,1]", "[1,,2]", "[1,2\n,3 4,5]",
+            "[1,\n2,\n3}", "[1,2,{\"A\"}]", "[1,2,[3,4],\n{\"A\":1,}]",
+            "[1,2}]", "[\"a\",\n\"b\n\",3]", "[1,2,[3,]]",
+            "[[1],[2],[3]", "[1,2,tru,4]", "[1,2,3,01]",
+        };
+
+        for(String text : invalids){
+            JsParseException expected = null;
+            try{
+                parse(text);
+                fail(text);
+            }catch(JsParseException e){
+                expected = e;
+            }
+
+            try{
+                parseParallel(text);
+                fail(text);
+            }catch(JsParseException e){
+                assertEquals(expected.getMessage(), e.getMessage(), text);
+                assertEquals(expected.getLineNumber(), e.getLineNumber(), text);
+            }
+        }
+
+        String[] scales = {
+            "[1234567890123456e78901234567890.16427\n,true]",
+            "[1,2,[1e99999999999],4]",
+            manyElements("1e99999999999"),
+        };
+
+        for(String text : scales){
+            try{
+                parse(text);
+                fail(text);
+            }catch(NumberFormatException e){
+                assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage(), text);
+            }
+
+            // slices failing in worker threads
+            for(int ct = 0; ct < 20; ct++){
+                try{
+                    parseParallel(text);
+                    fail(text);
+                }catch(NumberFormatException e){
+                    assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage(), text);
+                }
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJson method with max depth, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJson_maxDepth() throws Exception{
+        System.out.println("parseJson maxDepth");
+
+        String[] texts = {
+            "[]", "[[]]", "[1,[2,{\"A\":[3]}]]", "{\"A\":{\"B\":\n{}},\"C\":[[]]}",
+            "[[[[[]]]]]", "[[],[[]],[[[]]]]", "[[[[1,]]]]",
+        };
+
+        for(String text : texts){
+            char[] chars = text.toCharArray();
+            for(int depth = 1; depth <= 5; depth++){
+                String expected;
+                try{
+                    expected = Json.parseJson(new StringReader(text), depth).toString();
+                }catch(JsParseException e){
+                    expected = e.getMessage() + " " + e.getColumn();
+                }
+
+                String result;
+                try{
+                    result = StructuralIndex.parseJson(
+                            chars, 0, chars.length, null, depth).toString();
+                }catch(JsParseException e){
+                    result = e.getMessage() + " " + e.getColumn();
+                }
+
+                assertEquals(expected, result, text + " " + depth);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseJsonParallel method with deep nesting, of class StructuralIndex.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseJsonParallel_deep() throws Exception{
+        System.out.println("parseJsonParallel deep");
+
+        StringBuilder text = new StringBuilder("[");
+        for(int ct = 0; ct < 10; ct++){
+            if(ct > 0) text.append(',');
+            for(int nest = 0; nest < 10000; nest++) text.append('[');
+            text.append(ct);
+            for(int nest = 0; nest < 10000; nest++) text.append(']');
+        }
+        text.append(']');
+
+        JsArray array = (JsArray) parseParallel(text.toString());
+        assertEquals(10, array.size());
+        for(int ct = 0; ct < 10; ct++){
+            JsValue value = array.get(ct);
+            for(int nest = 0; nest < 10000; nest++){
+                value = ((JsArray) value).get(0);
+            }
+            assertEquals(String.valueOf(ct), value.toString());
+        }
+
+        text.setCharAt(text.length() - 2, '}');
+        try{
+            parseParallel(text.toString());
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsArray.ERRMSG_NOARRAYCOMMA, e.getMessage().split(" \\[")[0]);
+        }
+
+        return;
+    }
+
+}
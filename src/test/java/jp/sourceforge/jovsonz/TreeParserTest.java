@@ -0,0 +1,194 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class TreeParserTest {
+
+    public TreeParserTest() {
+    }
+
+    private static String deepJson(int depth){
+        StringBuilder open = new StringBuilder();
+        StringBuilder close = new StringBuilder();
+        for(int ct = 0; ct < depth; ct++){
+            if(ct % 3 == 0){
+                open.append("{\"a\":");
+                close.insert(0, '}');
+            }else{
+                open.append("[ ");
+                close.insert(0, ",\n2]");
+            }
+        }
+        return open + "1" + close;
+    }
+
+    /**
+     * Test of parseValue method, of class TreeParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseValue() throws Exception{
+        System.out.println("parseValue");
+
+        JsonSource source;
+        TreeParser parser = new TreeParser();
+        JsValue value;
+
+        source = new JsonSource(" {\"a\":[1,\"x\",true,null,{}],\"b\":{\"c\":[]}} [2] \"s\" ");
+        value = parser.parseValue(source);
+        assertEquals("{\"a\":[1,\"x\",true,null,{}],\"b\":{\"c\":[]}}", value.toString());
+        value = parser.parseValue(source);
+        assertEquals("[2]", value.toString());
+        value = parser.parseValue(source);
+        assertEquals("\"s\"", value.toString());
+        assertNull(parser.parseValue(source));
+
+        return;
+    }
+
+    /**
+     * Test of parseValue method with deep nesting, of class TreeParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseValueDeep() throws Exception{
+        System.out.println("parseValue deep");
+
+        String json = deepJson(100000);
+
+        JsComposition<?> root = Json.parseJson(new StringReader(json));
+        JsValue value = root;
+        int depth = 0;
+        while(value instanceof JsComposition){
+            depth++;
+            if(value instanceof JsObject){
+                JsObject obj = (JsObject) value;
+                assertEquals(1, obj.size());
+                value = obj.getValue("a");
+            }else{
+                JsArray array = (JsArray) value;
+                assertEquals(2, array.size());
+                assertEquals(JsNumber.class, array.get(1).getClass());
+                value = array.get(0);
+            }
+        }
+        assertEquals(100000, depth);
+        assertEquals("1", value.toString());
+
+        try{
+            Json.parseJson(new StringReader(json.substring(1)));
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsParseException.ERRMSG_INVALIDROOT, e.getMessage().split(" \\[")[0]);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseValue method with max depth, of class TreeParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testMaxDepth() throws Exception{
+        System.out.println("maxDepth");
+
+        JsonSource source;
+        TreeParser parser = new TreeParser();
+
+        source = new JsonSource(deepJson(5));
+        source.setMaxDepth(5);
+        assertNotNull(parser.parseValue(source));
+
+        source = new JsonSource(deepJson(6));
+        source.setMaxDepth(5);
+        try{
+            parser.parseValue(source);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(JsParseException.ERRMSG_TOODEEP + " [line:1]", e.getMessage());
+            assertEquals(16, e.getOffset());
+        }
+
+        source = new JsonSource("\n[[\n[[]]]]");
+        source.setMaxDepth(3);
+        try{
+            parser.parseValue(source);
+            fail();
+        }catch(JsParseException e){
+            assertEquals(3, e.getLineNumber());
+        }
+
+        source = new JsonSource("[[]] 1");
+        source.setMaxDepth(2);
+        assertEquals("[[]]", parser.parseValue(source).toString());
+        assertEquals("1", parser.parseValue(source).toString());
+
+        return;
+    }
+
+    /**
+     * Test of parseValue method with errors, of class TreeParser.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testParseValueError() throws Exception{
+        System.out.println("parseValue error");
+
+        String[] invalids = {
+            "[1,]",
+            "[1 2]",
+            "[1}",
+            "[x]",
+            "{1:2}",
+            "{\"a\" 1}",
+            "{\"a\"\n\n1}",
+            "{\"a\":1,}",
+            "{\"a\":1 \"b\":2}",
+            "{\"a\":",
+            "{\"a\":\n",
+            "{\"a\"",
+            "{",
+            "[1,",
+            "[1,\n",
+            "[1",
+            "[[[[{\"a\":[}]]]]",
+        };
+
+        TreeParser parser = new TreeParser();
+        for(String json : invalids){
+            JsParseException expected = null;
+            try{
+                new ValueSkipper().skipValue(new JsonSource(json));
+                fail(json);
+            }catch(JsParseException e){
+                expected = e;
+            }
+
+            try{
+                parser.parseValue(new JsonSource(json));
+                fail(json);
+            }catch(JsParseException e){
+                assertEquals(expected.getMessage(), e.getMessage(), json);
+            }
+
+            assertEquals("[{}]", parser.parseValue(new JsonSource("[{}]")).toString());
+        }
+
+        return;
+    }
+
+}
@@ -36,8 +36,12 @@ public int read(char[] cbuf){
     }
 
     @Override
-    public int read(char[] cbuf, int off, int len){
-        throw new UnsupportedOperationException();
+    public int read(char[] cbuf, int off, int len) throws IOException{
+        if(this.ct >= this.limit) throw new IOException();
+        int rest = this.limit - this.ct;
+        int result = super.read(cbuf, off, Math.min(len, rest));
+        if(result > 0) this.ct += result;
+        return result;
     }
 
     @Override
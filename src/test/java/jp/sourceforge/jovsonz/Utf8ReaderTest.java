@@ -0,0 +1,158 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class Utf8ReaderTest {
+
+    public Utf8ReaderTest() {
+    }
+
+    private static String readAll(Reader reader, int blockSize) throws Exception{
+        StringBuilder result = new StringBuilder();
+        char[] cbuf = new char[blockSize];
+        for(;;){
+            int len = reader.read(cbuf, 0, cbuf.length);
+            if(len < 0) break;
+            assertTrue(len > 0);
+            result.append(cbuf, 0, len);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Byte stream that returns only 1 byte each read.
+     */
+    private static class SlowStream extends ByteArrayInputStream{
+        SlowStream(byte[] buf){
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len){
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+
+    /**
+     * Test of read method, of class Utf8Reader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRead() throws Exception{
+        System.out.println("read");
+
+        String text = "ABCéあ𠀋\u007f\u0080߿ࠀ￿Z";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        Reader reader;
+
+        reader = new Utf8Reader(ByteBuffer.wrap(bytes));
+        assertEquals(text, readAll(reader, 100));
+
+        reader = new Utf8Reader(ByteBuffer.wrap(bytes));
+        assertEquals(text, readAll(reader, 1));
+
+        reader = new Utf8Reader(new ByteArrayInputStream(bytes));
+        assertEquals(text, readAll(reader, 100));
+
+        reader = new Utf8Reader(new SlowStream(bytes));
+        assertEquals(text, readAll(reader, 3));
+
+        reader = new Utf8Reader(new SlowStream(bytes), bytes, 0, 2);
+        assertEquals("AB" + text, readAll(reader, 3));
+
+        reader = new Utf8Reader(ByteBuffer.wrap(new byte[0]));
+        assertEquals(-1, reader.read());
+
+        StringBuilder large = new StringBuilder();
+        for(int ct = 0; ct < 10000; ct++){
+            large.append("あa𠀋");
+        }
+        bytes = large.toString().getBytes(StandardCharsets.UTF_8);
+        reader = new Utf8Reader(new ByteArrayInputStream(bytes));
+        assertEquals(large.toString(), readAll(reader, 777));
+
+        return;
+    }
+
+    /**
+     * Test of read method with malformed bytes, of class Utf8Reader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRead_malformed() throws Exception{
+        System.out.println("read");
+
+        byte[][] malformed = {
+            {(byte)0x80},
+            {(byte)0xc3},
+            {(byte)0xc3, (byte)0x41},
+            {(byte)0xc0, (byte)0x80},
+            {(byte)0xe0, (byte)0x80, (byte)0x80},
+            {(byte)0xed, (byte)0xa0, (byte)0x80},
+            {(byte)0xf4, (byte)0x90, (byte)0x80, (byte)0x80},
+            {(byte)0xf8, (byte)0x80, (byte)0x80, (byte)0x80},
+            {(byte)0x41, (byte)0xe3, (byte)0x81},
+        };
+
+        for(byte[] bytes : malformed){
+            Reader reader = new Utf8Reader(ByteBuffer.wrap(bytes));
+            try{
+                readAll(reader, 100);
+                fail();
+            }catch(MalformedInputException e){
+                // GOOD
+            }
+
+            InputStream stream = new SlowStream(bytes);
+            reader = new Utf8Reader(stream);
+            try{
+                readAll(reader, 100);
+                fail();
+            }catch(MalformedInputException e){
+                // GOOD
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of close method, of class Utf8Reader.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testClose() throws Exception{
+        System.out.println("close");
+
+        Reader reader = new Utf8Reader(ByteBuffer.wrap(new byte[]{0x41}));
+        reader.close();
+        try{
+            reader.read();
+            fail();
+        }catch(java.io.IOException e){
+            assertEquals("Stream closed", e.getMessage());
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class ValueSkipperTest {
+
+    public ValueSkipperTest() {
+    }
+
+    /**
+     * Test of skipValue method, of class ValueSkipper.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipValue() throws Exception{
+        System.out.println("skipValue");
+
+        ValueSkipper skipper = new ValueSkipper();
+        JsonSource source;
+
+        source = new JsonSource(
+                " {\"a\":[1,-2.5e3,true,false,null,\"\\u0041\\\"\"],"
+                + "\"b\":{},\"c\":[[],{}]} X");
+        assertTrue(skipper.skipValue(source));
+        source.skipWhiteSpace();
+        assertEquals('X', source.read());
+
+        source = new JsonSource("\"abc\" 12 null");
+        assertTrue(skipper.skipValue(source));
+        assertTrue(skipper.skipValue(source));
+        assertTrue(skipper.skipValue(source));
+        assertFalse(skipper.skipValue(source));
+
+        source = new JsonSource(" \n ");
+        assertFalse(skipper.skipValue(source));
+        assertEquals(2, source.getLineNumber());
+
+        source = new JsonSource("[1,\n2,\n3]\n");
+        assertTrue(skipper.skipValue(source));
+        assertEquals(3, source.getLineNumber());
+
+        return;
+    }
+
+    /**
+     * Test of skipValue method, of class ValueSkipper.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipValue_deep() throws Exception{
+        System.out.println("skipValue_deep");
+
+        int nests = 100000;
+        StringBuilder text = new StringBuilder();
+        for(int ct = 0; ct < nests; ct++){
+            text.append("{\"a\":[");
+        }
+        for(int ct = 0; ct < nests; ct++){
+            text.append("]}");
+        }
+
+        JsonSource source = new JsonSource(text);
+        assertTrue(new ValueSkipper().skipValue(source));
+        assertFalse(source.hasMore());
+
+        return;
+    }
+
+    /**
+     * Test of skipValue method, of class ValueSkipper.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipValue_invalid() throws Exception{
+        System.out.println("skipValue_invalid");
+
+        String[] texts = {
+            "[",
+            "[1",
+            "[1,",
+            "[1,]",
+            "[,1]",
+            "[1 2]",
+            "[1}",
+            "{",
+            "{\"a\"",
+            "{\"a\":",
+            "{\"a\":1",
+            "{\"a\":1,}",
+            "{\"a\" 1}",
+            "{3:1}",
+            "{\"a\":1]",
+            "[tru]",
+            "[nul]",
+            "[-]",
+            "[01]",
+            "[1.]",
+            "[x]",
+            "[\"\u0001\"]",
+            "[\"\\x\"]",
+            "[\"\\u00G0\"]",
+            "[\"abc",
+            "[\n1,\n2\n3]",
+        };
+
+        for(String text : texts){
+            JsParseException expected = null;
+            try{
+                Json.parseJson(new StringReader(text));
+                fail(text);
+            }catch(JsParseException e){
+                expected = e;
+            }
+
+            try{
+                new ValueSkipper().skipValue(new JsonSource(text));
+                fail(text);
+            }catch(JsParseException e){
+                assertEquals(expected.getMessage(), e.getMessage(), text);
+                assertEquals(expected.getLineNumber(), e.getLineNumber(), text);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of skipValue method with NUMBER scale, of class ValueSkipper.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipValue_scale() throws Exception{
+        System.out.println("skipValue_scale");
+
+        String[] invalids = {
+            "[1e99999999999]", "{\"a\":[0, 1.5e-2147483647]}", "-1e2147483649",
+        };
+
+        for(String text : invalids){
+            try{
+                Json.parseJson(new StringReader("[" + text + "]"));
+                fail(text);
+            }catch(NumberFormatException e){
+                assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage(), text);
+            }
+
+            try{
+                new ValueSkipper().skipValue(new JsonSource(text));
+                fail(text);
+            }catch(NumberFormatException e){
+                assertEquals(NumberLexer.ERRMSG_SCALE, e.getMessage(), text);
+            }
+        }
+
+        String[] valids = {
+            "[1e2147483648]", "[1e-2147483647]", "[1.5e2147483648]",
+        };
+
+        for(String text : valids){
+            assertNotNull(Json.parseJson(new StringReader(text)));
+            assertTrue(new ValueSkipper().skipValue(new JsonSource(text)), text);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of skipChildren method, of class ValueSkipper.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipChildren() throws Exception{
+        System.out.println("skipChildren");
+
+        ValueSkipper skipper = new ValueSkipper();
+        JsonSource source;
+
+        source = new JsonSource("\"a\":[1,{}],\"b\":2} X");
+        skipper.skipChildren(source, true);
+        source.skipWhiteSpace();
+        assertEquals('X', source.read());
+
+        source = new JsonSource(" ] X");
+        skipper.skipChildren(source, false);
+        source.skipWhiteSpace();
+        assertEquals('X', source.read());
+
+        source = new JsonSource("1,2}");
+        try{
+            skipper.skipChildren(source, false);
+            fail();
+        }catch(JsParseException e){
+            assertTrue(e.getMessage().startsWith(JsArray.ERRMSG_NOARRAYCOMMA));
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * License : The MIT License
+ * Copyright(c) 2026 olyutorskii
+ */
+
+package jp.sourceforge.jovsonz;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class JsonPublisherTest {
+
+    private static final long TIMEOUT = 10L;
+    private static final long QUIET = 200L;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<AsynchronousFileChannel> channels = new ArrayList<>();
+
+    public JsonPublisherTest() {
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception{
+        for(AsynchronousFileChannel channel : this.channels){
+            channel.close();
+        }
+        this.channels.clear();
+    }
+
+    /**
+     * Subscriber recording signals as text.
+     */
+    private static class Recorder
+            implements Flow.Subscriber<JsComposition<?>> {
+
+        final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        volatile Flow.Subscription subscription;
+        volatile int throwAt = -1;
+        volatile int received = 0;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription){
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(JsComposition<?> item){
+            this.signals.add(item.toString());
+            if(this.received++ == this.throwAt){
+                throw new IllegalStateException("onNext");
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable){
+            this.signals.add(throwable);
+        }
+
+        @Override
+        public void onComplete(){
+            this.signals.add("COMPLETE");
+        }
+
+        Object next() throws InterruptedException{
+            Object result = this.signals.poll(TIMEOUT, TimeUnit.SECONDS);
+            assertNotNull(result, "timeout");
+            return result;
+        }
+
+        void assertQuiet() throws InterruptedException{
+            assertNull(this.signals.poll(QUIET, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private Recorder subscribe(String json) throws Exception{
+        Path file = this.tempDir.resolve("test" + this.channels.size() + ".json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        AsynchronousFileChannel channel = AsynchronousFileChannel.open(file);
+        this.channels.add(channel);
+
+        Recorder recorder = new Recorder();
+        new JsonPublisher(channel, 0L).subscribe(recorder);
+        assertNotNull(recorder.subscription);
+
+        return recorder;
+    }
+
+    /**
+     * Test of subscribe method, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testSubscribe() throws Exception{
+        System.out.println("subscribe");
+
+        StringBuilder json = new StringBuilder();
+        for(int ct = 0; ct < 5000; ct++){
+            json.append("{\"id\":").append(ct).append(",\"s\":\"あ\"}\n");
+        }
+
+        Recorder recorder = subscribe(json.toString());
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        for(int ct = 0; ct < 5000; ct++){
+            assertEquals("{\"id\":" + ct + ",\"s\":\"あ\"}", recorder.next());
+        }
+        assertEquals("COMPLETE", recorder.next());
+        recorder.assertQuiet();
+
+        recorder = subscribe("  ");
+        recorder.subscription.request(1L);
+        assertEquals("COMPLETE", recorder.next());
+
+        return;
+    }
+
+    /**
+     * Test of backpressure, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRequest() throws Exception{
+        System.out.println("request");
+
+        Recorder recorder = subscribe("[1] [2]\n[3]");
+        recorder.assertQuiet();
+
+        recorder.subscription.request(1L);
+        assertEquals("[1]", recorder.next());
+        recorder.assertQuiet();
+
+        recorder.subscription.request(1L);
+        assertEquals("[2]", recorder.next());
+        recorder.assertQuiet();
+
+        recorder.subscription.request(1L);
+        assertEquals("[3]", recorder.next());
+        assertEquals("COMPLETE", recorder.next());
+
+        return;
+    }
+
+    /**
+     * Test of non-positive request, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testRequest_nonPositive() throws Exception{
+        System.out.println("request non-positive");
+
+        Recorder recorder = subscribe("[1] [2]");
+        recorder.subscription.request(0L);
+        assertTrue(recorder.next() instanceof IllegalArgumentException);
+        recorder.subscription.request(2L);
+        recorder.assertQuiet();
+
+        recorder = subscribe("[1] [2]");
+        recorder.subscription.request(1L);
+        assertEquals("[1]", recorder.next());
+        recorder.subscription.request(-1L);
+        assertTrue(recorder.next() instanceof IllegalArgumentException);
+        recorder.assertQuiet();
+
+        return;
+    }
+
+    /**
+     * Test of cancel method, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testCancel() throws Exception{
+        System.out.println("cancel");
+
+        Recorder recorder = subscribe("[1] [2] [3]");
+        recorder.subscription.request(1L);
+        assertEquals("[1]", recorder.next());
+
+        recorder.subscription.cancel();
+        recorder.subscription.request(2L);
+        recorder.assertQuiet();
+
+        return;
+    }
+
+    /**
+     * Test of syntax error, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testSyntaxError() throws Exception{
+        System.out.println("syntax error");
+
+        Recorder recorder = subscribe("{\"a\":1} }");
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals("{\"a\":1}", recorder.next());
+        assertTrue(recorder.next() instanceof JsParseException);
+        recorder.assertQuiet();
+
+        recorder = subscribe("[1] [2] [3");
+        recorder.subscription.request(1L);
+        assertEquals("[1]", recorder.next());
+        recorder.assertQuiet();
+        recorder.subscription.request(5L);
+        assertEquals("[2]", recorder.next());
+        assertTrue(recorder.next() instanceof JsParseException);
+        recorder.assertQuiet();
+
+        return;
+    }
+
+    /**
+     * Test of exception thrown by subscriber, of class JsonPublisher.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testOnNextThrows() throws Exception{
+        System.out.println("onNext throws");
+
+        Recorder recorder = subscribe("[1] [2] [3]");
+        recorder.throwAt = 0;
+        recorder.subscription.request(3L);
+        assertEquals("[1]", recorder.next());
+        Object error = recorder.next();
+        assertTrue(error instanceof IllegalStateException);
+        assertEquals("onNext", ((Throwable) error).getMessage());
+
+        recorder.subscription.request(3L);
+        recorder.assertQuiet();
+
+        return;
+    }
+
+}